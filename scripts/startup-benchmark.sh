@@ -0,0 +1,91 @@
+#!/usr/bin/env bash
+# Compares cold starts of the plain jar against the `startup` build (Spring
+# AOT + JVM class archive). Each run launches the application, polls until
+# the first HTTP response and records the time since launch and the resident
+# memory at that point, then stops it.
+#
+#   ./mvnw -Pstartup package -DskipTests
+#   scripts/startup-benchmark.sh [runs] [-- application arguments]
+#
+# The application needs its usual environment (profile, DB_URL, JWT_SECRET,
+# ...). Modes whose artifacts are missing are skipped.
+set -euo pipefail
+
+RUNS=5
+if [[ $# -gt 0 && $1 != "--" ]]; then
+    RUNS=$1
+    shift
+fi
+[[ ${1:-} == "--" ]] && shift
+APP_ARGS=("$@")
+
+PORT=${PORT:-18080}
+TARGET=${TARGET:-target}
+JAR=$(ls "$TARGET"/transaction-service-*.jar 2>/dev/null | grep -v -- '-plain\.jar$' | head -n 1 || true)
+EXTRACTED=$(ls "$TARGET"/startup/transaction-service-*.jar 2>/dev/null | head -n 1 || true)
+AOT_CACHE="$TARGET/startup/application.aot"
+CDS_ARCHIVE="$TARGET/startup/application.jsa"
+
+now_millis() {
+    date +%s%3N
+}
+
+rss_mib() {
+    if [[ -r /proc/$1/status ]]; then
+        awk '/VmRSS/ { printf "%.0f", $2 / 1024 }' "/proc/$1/status"
+    else
+        ps -o rss= -p "$1" | awk '{ printf "%.0f", $1 / 1024 }'
+    fi
+}
+
+run_once() {
+    local started pid code elapsed rss
+    started=$(now_millis)
+    java "$@" --server.port="$PORT" "${APP_ARGS[@]}" >/dev/null 2>&1 &
+    pid=$!
+    while true; do
+        code=$(curl -s -o /dev/null -w '%{http_code}' "http://localhost:$PORT/actuator/health" || true)
+        if [[ $code != "000" ]]; then
+            break
+        fi
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "application exited before serving a request" >&2
+            return 1
+        fi
+        sleep 0.05
+    done
+    elapsed=$(( $(now_millis) - started ))
+    rss=$(rss_mib "$pid")
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    echo "$elapsed $rss"
+}
+
+bench() {
+    local name=$1
+    shift
+    local total_ms=0 total_rss=0 best_ms=0 result ms rss
+    for ((i = 1; i <= RUNS; i++)); do
+        result=$(run_once "$@")
+        read -r ms rss <<<"$result"
+        total_ms=$((total_ms + ms))
+        total_rss=$((total_rss + rss))
+        if [[ $best_ms -eq 0 || $ms -lt $best_ms ]]; then
+            best_ms=$ms
+        fi
+    done
+    printf '%-12s %12d %12d %12d\n' "$name" $((total_ms / RUNS)) "$best_ms" $((total_rss / RUNS))
+}
+
+printf '%-12s %12s %12s %12s\n' mode "mean ms" "best ms" "rss MiB"
+if [[ -n $JAR ]]; then
+    bench jar -jar "$JAR"
+fi
+if [[ -n $EXTRACTED ]]; then
+    bench extracted -jar "$EXTRACTED"
+    if [[ -f $AOT_CACHE ]]; then
+        bench aot-cache -XX:AOTCache="$AOT_CACHE" -Dspring.aot.enabled=true -jar "$EXTRACTED"
+    elif [[ -f $CDS_ARCHIVE ]]; then
+        bench cds -XX:SharedArchiveFile="$CDS_ARCHIVE" -Dspring.aot.enabled=true -jar "$EXTRACTED"
+    fi
+fi
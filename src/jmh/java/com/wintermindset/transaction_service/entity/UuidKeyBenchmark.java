@@ -0,0 +1,129 @@
+package com.wintermindset.transaction_service.entity;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Random (v4) against time-ordered (v7) primary keys. {@code generate}
+ * measures id creation from several threads; {@code insertBatch} measures
+ * batched inserts into a table that keeps growing for the whole trial, and
+ * the trial ends by printing the table's row count and primary key size.
+ *
+ * <p>Runs against in-memory H2 by default. The B-tree effect is what matters,
+ * so point it at PostgreSQL for meaningful numbers:
+ * {@code -Djmh.args="UuidKeyBenchmark -p jdbcUrl=jdbc:postgresql://localhost:5432/bank_db -p jdbcUser=postgres -p jdbcPassword=postgres"}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class UuidKeyBenchmark {
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final int PRELOADED_ROWS = 200_000;
+
+    @Param({ "v4", "v7" })
+    public String keyVersion;
+
+    @Param({ "jdbc:h2:mem:uuid_keys" })
+    public String jdbcUrl;
+
+    @Param({ "sa" })
+    public String jdbcUser;
+
+    @Param({ "" })
+    public String jdbcPassword;
+
+    private Supplier<UUID> keys;
+    private Connection connection;
+    private PreparedStatement insert;
+    private String table;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        keys = "v7".equals(keyVersion) ? UuidV7Generator::next : UUID::randomUUID;
+        table = "uuid_bench_" + keyVersion;
+        connection = DriverManager.getConnection(jdbcUrl, jdbcUser, jdbcPassword);
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists " + table);
+            statement.execute("create table " + table + " (id uuid primary key, payload varchar(64) not null)");
+        }
+        connection.commit();
+        insert = connection.prepareStatement("insert into " + table + " (id, payload) values (?, ?)");
+        for (int i = 0; i < PRELOADED_ROWS / BATCH_SIZE; i++) {
+            insertBatch();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            System.out.printf("%n%s: %d rows, primary key %s%n", table, rowCount(statement), indexSize(statement));
+            statement.execute("drop table " + table);
+        }
+        connection.commit();
+        insert.close();
+        connection.close();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public UUID generate() {
+        return keys.get();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void insertBatch() throws SQLException {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            insert.setObject(1, keys.get());
+            insert.setString(2, "payload");
+            insert.addBatch();
+        }
+        insert.executeBatch();
+        connection.commit();
+    }
+
+    private long rowCount(Statement statement) throws SQLException {
+        try (ResultSet rs = statement.executeQuery("select count(*) from " + table)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private String indexSize(Statement statement) throws SQLException {
+        if (!jdbcUrl.startsWith("jdbc:postgresql:")) {
+            return "size only reported on PostgreSQL";
+        }
+        try (ResultSet rs = statement.executeQuery("select pg_size_pretty(pg_relation_size('" + table + "_pkey'))")) {
+            rs.next();
+            return rs.getString(1);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.wintermindset.transaction_service.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.wintermindset.transaction_service.enums.user.UserOperation;
+import com.wintermindset.transaction_service.enums.user.UserOperationStep;
+
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+
+/**
+ * Per-call cost of the {@link UserMetrics} success path against the
+ * Prometheus registry used in production: a single step timing should stay
+ * well under a microsecond, and a whole create, four step timings and a
+ * success count, around one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserMetricsBenchmark {
+
+    private UserMetrics metrics;
+
+    @Setup
+    public void setUp() {
+        metrics = new UserMetrics(new PrometheusMeterRegistry(PrometheusConfig.DEFAULT));
+    }
+
+    @Benchmark
+    public void recordStep() {
+        metrics.record(UserOperationStep.VALIDATE, metrics.start());
+    }
+
+    @Benchmark
+    public void createSuccessPath() {
+        long startedAt = metrics.start();
+        startedAt = metrics.record(UserOperationStep.VALIDATE, startedAt);
+        startedAt = metrics.record(UserOperationStep.EXISTS_CHECK, startedAt);
+        metrics.record(UserOperationStep.HASH, startedAt);
+        metrics.record(UserOperationStep.INSERT, metrics.start());
+        metrics.success(UserOperation.CREATE);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void createSuccessPathContended() {
+        createSuccessPath();
+    }
+}
@@ -0,0 +1,34 @@
+package com.wintermindset.transaction_service.repository;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * Stand-in for {@link OutboxEventRepository} that accepts and drops every
+ * event, so benchmarks pay for building the payload but not for storing it.
+ */
+public final class DiscardingOutboxEventRepository implements InvocationHandler {
+
+    private DiscardingOutboxEventRepository() {
+    }
+
+    public static OutboxEventRepository create() {
+        return (OutboxEventRepository) Proxy.newProxyInstance(
+                OutboxEventRepository.class.getClassLoader(),
+                new Class<?>[] { OutboxEventRepository.class },
+                new DiscardingOutboxEventRepository()
+        );
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "save" -> args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "equals" -> proxy == args[0];
+            case "toString" -> "DiscardingOutboxEventRepository";
+            default -> throw new UnsupportedOperationException(method.getName());
+        };
+    }
+}
@@ -0,0 +1,86 @@
+package com.wintermindset.transaction_service.repository;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.wintermindset.transaction_service.entity.UserEntity;
+import com.wintermindset.transaction_service.entity.UuidV7Generator;
+
+/**
+ * Map-backed stand-in for {@link UserRepository}, so benchmarks measure the
+ * service without a database. Only the methods the service calls are supported.
+ */
+public final class InMemoryUserRepository implements InvocationHandler {
+
+    private static final Field ID_FIELD;
+
+    static {
+        try {
+            ID_FIELD = UserEntity.class.getDeclaredField("id");
+            ID_FIELD.setAccessible(true);
+        } catch (NoSuchFieldException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Map<UUID, UserEntity> byId = new ConcurrentHashMap<>();
+    private final Map<String, UserEntity> byUsername = new ConcurrentHashMap<>();
+
+    private InMemoryUserRepository() {
+    }
+
+    public static UserRepository create() {
+        return (UserRepository) Proxy.newProxyInstance(
+                UserRepository.class.getClassLoader(),
+                new Class<?>[] { UserRepository.class },
+                new InMemoryUserRepository()
+        );
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        return switch (method.getName()) {
+            case "save", "saveAndFlush" -> save((UserEntity) args[0]);
+            case "findById" -> Optional.ofNullable(byId.get((UUID) args[0]));
+            case "findByUsername" -> Optional.ofNullable(byUsername.get((String) args[0]));
+            case "existsByUsername" -> byUsername.containsKey((String) args[0]);
+            case "deleteAll" -> {
+                byId.clear();
+                byUsername.clear();
+                yield null;
+            }
+            case "count" -> (long) byId.size();
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "equals" -> proxy == args[0];
+            case "toString" -> "InMemoryUserRepository";
+            default -> throw new UnsupportedOperationException(method.getName());
+        };
+    }
+
+    private UserEntity save(UserEntity user) throws IllegalAccessException {
+        if (user.getId() == null) {
+            UserEntity existing = byUsername.putIfAbsent(user.getUsername(), user);
+            if (existing != null) {
+                throw new DataIntegrityViolationException(
+                        "Duplicate username",
+                        new ConstraintViolationException(
+                                "Duplicate username", null, UserEntity.USERNAME_UNIQUE_CONSTRAINT
+                        )
+                );
+            }
+            ID_FIELD.set(user, UuidV7Generator.next());
+        }
+        byId.put(user.getId(), user);
+        byUsername.put(user.getUsername(), user);
+        return user;
+    }
+}
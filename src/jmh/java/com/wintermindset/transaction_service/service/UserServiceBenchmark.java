@@ -0,0 +1,225 @@
+package com.wintermindset.transaction_service.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import com.wintermindset.transaction_service.cache.UserCache;
+import com.wintermindset.transaction_service.cache.UsernameFilter;
+import com.wintermindset.transaction_service.config.LastLoginProperties;
+import com.wintermindset.transaction_service.config.LoginThrottleProperties;
+import com.wintermindset.transaction_service.config.PasswordHashingProperties;
+import com.wintermindset.transaction_service.config.UserCacheProperties;
+import com.wintermindset.transaction_service.config.UsernameFilterProperties;
+import com.wintermindset.transaction_service.entity.UserEntity;
+import com.wintermindset.transaction_service.enums.user.Role;
+import com.wintermindset.transaction_service.metrics.UserMetrics;
+import com.wintermindset.transaction_service.repository.DiscardingOutboxEventRepository;
+import com.wintermindset.transaction_service.repository.InMemoryUserRepository;
+import com.wintermindset.transaction_service.repository.UserRepository;
+import com.wintermindset.transaction_service.security.LoginThrottle;
+import com.wintermindset.transaction_service.security.PasswordHashingService;
+import com.wintermindset.transaction_service.validation.user.SinglePassUserCredentialsValidator;
+import com.wintermindset.transaction_service.validation.user.UserCredentialsValidator;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Run with {@code ./mvnw -Pbenchmark test-compile exec:exec}.
+ * Pass {@code -Djmh.args="UserServiceBenchmark.validate -prof gc"} to narrow the run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserServiceBenchmark {
+
+    private static final String VALID_USERNAME = "bench_user42";
+    private static final String INVALID_USERNAME = "_4bad-name!";
+    private static final String VALID_PASSWORD = "Str0ng!Passw0rd";
+    private static final String OTHER_PASSWORD = "An0ther#Secret";
+    private static final String INVALID_PASSWORD = "weakpassword";
+
+    /**
+     * {@code bcrypt} measures the production encoder, {@code plain} isolates
+     * everything except hashing.
+     */
+    @Param({ "bcrypt", "plain" })
+    public String encoder;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final UserCredentialsValidator credentialsValidator = new SinglePassUserCredentialsValidator();
+
+    private UserRepository userRepository;
+    private PasswordHashingService passwordHashingService;
+    private UserService userService;
+    private UUID existingUserId;
+    private volatile boolean passwordFlipped;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        PasswordEncoder passwordEncoder = switch (encoder) {
+            case "bcrypt" -> new BCryptPasswordEncoder();
+            case "plain" -> new PlainPasswordEncoder();
+            default -> throw new IllegalArgumentException(encoder);
+        };
+        userRepository = InMemoryUserRepository.create();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        passwordHashingService = new PasswordHashingService(
+                passwordEncoder,
+                new PasswordHashingProperties(0, 1024),
+                meterRegistry
+        );
+        UserCache userCache = new UserCache(new UserCacheProperties(10_000, Duration.ofMinutes(5)), meterRegistry);
+        UsernameFilter usernameFilter = new UsernameFilter(
+                new UsernameFilterProperties(true, 1_000_000, 0.01, 10_000),
+                meterRegistry
+        );
+        LoginThrottle loginThrottle = new LoginThrottle(
+                new LoginThrottleProperties(false, Duration.ofMinutes(1), 10, 100, Duration.ofHours(1), 50, 65_536),
+                meterRegistry
+        );
+        LastLoginTracker lastLoginTracker = new LastLoginTracker(
+                new JdbcTemplate(),
+                new LastLoginProperties(Duration.ofSeconds(10), 500)
+        );
+        userService = new UserService(
+                userRepository,
+                passwordHashingService,
+                credentialsValidator,
+                userCache,
+                usernameFilter,
+                loginThrottle,
+                lastLoginTracker,
+                null, // only keyed signups use the idempotency store
+                new UserMetrics(meterRegistry),
+                new OutboxService(DiscardingOutboxEventRepository.create(), JsonMapper.builder().build()),
+                new NoOpTransactionManager()
+        );
+        existingUserId = userService.createUser(VALID_USERNAME, VALID_PASSWORD, Role.USER, Instant.now()).getId();
+        passwordFlipped = false;
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        passwordHashingService.shutdown();
+    }
+
+    @Benchmark
+    public void validateUsername() {
+        credentialsValidator.validateUsername(VALID_USERNAME);
+    }
+
+    @Benchmark
+    public Object validateUsernameRejected() {
+        try {
+            credentialsValidator.validateUsername(INVALID_USERNAME);
+            return null;
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void validatePassword() {
+        credentialsValidator.validatePassword(VALID_PASSWORD);
+    }
+
+    @Benchmark
+    public Object validatePasswordRejected() {
+        try {
+            credentialsValidator.validatePassword(INVALID_PASSWORD);
+            return null;
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object findById() {
+        return userService.findById(existingUserId);
+    }
+
+    @Benchmark
+    public UserEntity createUser() {
+        String username = "user" + Long.toString(sequence.incrementAndGet(), 36);
+        return userService.createUser(username, VALID_PASSWORD, Role.USER, Instant.now());
+    }
+
+    /**
+     * Alternates between two passwords so every call is a successful change.
+     */
+    @Benchmark
+    public synchronized void updatePassword(Blackhole blackhole) {
+        if (passwordFlipped) {
+            userService.updatePassword(existingUserId, OTHER_PASSWORD, VALID_PASSWORD);
+        } else {
+            userService.updatePassword(existingUserId, VALID_PASSWORD, OTHER_PASSWORD);
+        }
+        passwordFlipped = !passwordFlipped;
+        blackhole.consume(passwordFlipped);
+    }
+
+    private static final class PlainPasswordEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return rawPassword.toString().equals(encodedPassword);
+        }
+    }
+
+    /**
+     * Opens a transaction in name only, enough for the outbox to accept events.
+     */
+    private static final class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.wintermindset.transaction_service.cache;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Thread-safe Bloom filter whose probes for one key all land in a single
+ * 512-bit block (eight longs, one cache line), so a lookup costs one memory
+ * fetch instead of {@code k}. Hashing walks the characters directly and
+ * allocates nothing.
+ */
+public final class BlockedBloomFilter {
+
+    private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private static final int WORDS_PER_BLOCK = 8;
+    private static final int BITS_PER_BLOCK = WORDS_PER_BLOCK * Long.SIZE;
+
+    private final long[] words;
+    private final int blocks;
+    private final int probes;
+
+    public BlockedBloomFilter(long expectedInsertions, double falsePositiveProbability) {
+        if (expectedInsertions < 1) {
+            throw new IllegalArgumentException("Expected insertions must be positive");
+        }
+        if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException("False positive probability must be in (0, 1)");
+        }
+        double ln2 = Math.log(2);
+        double bits = -expectedInsertions * Math.log(falsePositiveProbability) / (ln2 * ln2);
+        long blockCount = Math.max(1, (long) Math.ceil(bits / BITS_PER_BLOCK));
+        if (blockCount > Integer.MAX_VALUE / WORDS_PER_BLOCK) {
+            throw new IllegalArgumentException("Filter too large");
+        }
+        this.blocks = (int) blockCount;
+        this.words = new long[blocks * WORDS_PER_BLOCK];
+        this.probes = Math.max(1, (int) Math.round(bits / expectedInsertions * ln2));
+    }
+
+    public void put(CharSequence key) {
+        long hash = hash(key);
+        int base = blockOffset(hash);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        for (int i = 0; i < probes; i++) {
+            int bit = (h1 + i * h2) & (BITS_PER_BLOCK - 1);
+            long mask = 1L << bit;
+            int index = base + (bit >>> 6);
+            if (((long) WORDS.getAcquire(words, index) & mask) == 0) {
+                WORDS.getAndBitwiseOr(words, index, mask);
+            }
+        }
+    }
+
+    /**
+     * @return {@code false} only if the key was definitely never added
+     */
+    public boolean mightContain(CharSequence key) {
+        long hash = hash(key);
+        int base = blockOffset(hash);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        for (int i = 0; i < probes; i++) {
+            int bit = (h1 + i * h2) & (BITS_PER_BLOCK - 1);
+            if (((long) WORDS.getAcquire(words, base + (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long bitSize() {
+        return (long) words.length * Long.SIZE;
+    }
+
+    public int probes() {
+        return probes;
+    }
+
+    private int blockOffset(long hash) {
+        long mixed = mix(hash ^ 0x9E3779B97F4A7C15L);
+        return (int) Math.floorMod(mixed, (long) blocks) * WORDS_PER_BLOCK;
+    }
+
+    private static long hash(CharSequence key) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    /**
+     * MurmurHash3 finaliser.
+     */
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
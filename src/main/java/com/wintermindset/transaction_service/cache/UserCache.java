@@ -0,0 +1,117 @@
+package com.wintermindset.transaction_service.cache;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.wintermindset.transaction_service.config.UserCacheProperties;
+import com.wintermindset.transaction_service.entity.UserEntity;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Read-through cache of detached users keyed by id, with a username to id
+ * index. Cached instances are shared between callers and must be treated as
+ * read-only; mutate a user loaded from the repository instead.
+ *
+ * <p>Database loads run outside the cache. A loaded user is only published
+ * if no eviction happened while it was being read, so a load racing with an
+ * update can never resurrect the old row.
+ */
+@Component
+public class UserCache {
+
+    private final Cache<UUID, UserEntity> usersById;
+    private final Cache<String, UUID> idsByUsername;
+    private final AtomicLong evictions = new AtomicLong();
+
+    public UserCache(UserCacheProperties properties, MeterRegistry meterRegistry) {
+        this.usersById = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.timeToLive())
+                .recordStats()
+                .build();
+        this.idsByUsername = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.timeToLive())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, usersById, "users.by-id");
+        CaffeineCacheMetrics.monitor(meterRegistry, idsByUsername, "users.by-username");
+    }
+
+    public Optional<UserEntity> findById(UUID id, Function<UUID, Optional<UserEntity>> loader) {
+        UserEntity cached = usersById.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        long epoch = evictions.get();
+        Optional<UserEntity> loaded = loader.apply(id);
+        loaded.ifPresent(user -> publish(user, epoch));
+        return loaded;
+    }
+
+    public Optional<UserEntity> findByUsername(String username, Function<String, Optional<UserEntity>> loader) {
+        UUID id = idsByUsername.getIfPresent(username);
+        if (id != null) {
+            UserEntity cached = usersById.getIfPresent(id);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+        }
+        long epoch = evictions.get();
+        Optional<UserEntity> loaded = loader.apply(username);
+        loaded.ifPresent(user -> publish(user, epoch));
+        return loaded;
+    }
+
+    /**
+     * The compute serialises with {@link #evict} on the same key: either the
+     * eviction bumped the epoch first and nothing is published, or it runs
+     * after the compute and removes what was published.
+     */
+    private void publish(UserEntity user, long epoch) {
+        usersById.asMap().compute(user.getId(), (key, current) -> evictions.get() == epoch ? user : current);
+        idsByUsername.put(user.getUsername(), user.getId());
+    }
+
+    public void evict(UUID id, String username) {
+        evictions.incrementAndGet();
+        if (id != null) {
+            usersById.invalidate(id);
+        }
+        if (username != null) {
+            idsByUsername.invalidate(username);
+        }
+    }
+
+    public void evictAll(Collection<UUID> ids) {
+        evictions.incrementAndGet();
+        usersById.invalidateAll(ids);
+    }
+
+    /**
+     * Evicts now and again once the surrounding transaction completes, so a
+     * reader that loaded the pre-commit row between the two cannot keep it.
+     */
+    public void evictAfterCompletion(UUID id, String username) {
+        evict(id, username);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(id, username);
+                }
+            });
+        }
+    }
+}
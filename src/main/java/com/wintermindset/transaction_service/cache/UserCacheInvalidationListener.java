@@ -0,0 +1,26 @@
+package com.wintermindset.transaction_service.cache;
+
+import com.wintermindset.transaction_service.entity.UserEntity;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * Covers every entity-level change, including {@link UserEntity#setPasswordHash},
+ * {@link UserEntity#deactivate} and {@link UserEntity#activate}. Bulk JPQL or
+ * JDBC updates bypass it and must evict explicitly.
+ */
+public class UserCacheInvalidationListener {
+
+    private final UserCache userCache;
+
+    public UserCacheInvalidationListener(UserCache userCache) {
+        this.userCache = userCache;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void invalidate(UserEntity user) {
+        userCache.evictAfterCompletion(user.getId(), user.getUsername());
+    }
+}
@@ -0,0 +1,74 @@
+package com.wintermindset.transaction_service.cache;
+
+import org.springframework.stereotype.Component;
+
+import com.wintermindset.transaction_service.config.UsernameFilterProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * In-memory negative lookup over the usernames in the {@code users} table.
+ * Until the startup warm-up has finished (or when disabled) every username is
+ * reported as possibly present, so callers fall back to the unique index.
+ *
+ * <p>After warm-up only this node's inserts are added, so usernames created
+ * on other nodes or outside JPA are missed until the next restart. A miss is
+ * therefore only a hint, for callers that the unique constraint backs up.
+ */
+@Component
+public class UsernameFilter {
+
+    private final BlockedBloomFilter filter;
+    private final boolean enabled;
+    private volatile boolean warm;
+
+    private final Counter definiteMisses;
+    private final Counter possibleHits;
+
+    public UsernameFilter(UsernameFilterProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.enabled();
+        this.filter = new BlockedBloomFilter(
+                properties.expectedUsernames(),
+                properties.falsePositiveProbability()
+        );
+        this.definiteMisses = Counter.builder("users.username-filter.lookups")
+                .tag("result", "definite-miss")
+                .register(meterRegistry);
+        this.possibleHits = Counter.builder("users.username-filter.lookups")
+                .tag("result", "possible-hit")
+                .register(meterRegistry);
+        Gauge.builder("users.username-filter.warm", this, f -> f.isWarm() ? 1 : 0)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return {@code false} if no user with this username existed at warm-up
+     *         or was inserted through this node since
+     */
+    public boolean mightExist(String username) {
+        if (!warm || filter.mightContain(username)) {
+            possibleHits.increment();
+            return true;
+        }
+        definiteMisses.increment();
+        return false;
+    }
+
+    public void add(String username) {
+        filter.put(username);
+    }
+
+    void markWarm() {
+        warm = enabled;
+    }
+
+    public boolean isWarm() {
+        return warm;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+}
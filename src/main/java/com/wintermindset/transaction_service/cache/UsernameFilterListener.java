@@ -0,0 +1,23 @@
+package com.wintermindset.transaction_service.cache;
+
+import com.wintermindset.transaction_service.entity.UserEntity;
+
+import jakarta.persistence.PostPersist;
+
+/**
+ * Adds usernames as soon as they are flushed. A rolled-back insert leaves a
+ * false positive behind, which only costs one index lookup.
+ */
+public class UsernameFilterListener {
+
+    private final UsernameFilter usernameFilter;
+
+    public UsernameFilterListener(UsernameFilter usernameFilter) {
+        this.usernameFilter = usernameFilter;
+    }
+
+    @PostPersist
+    public void add(UserEntity user) {
+        usernameFilter.add(user.getUsername());
+    }
+}
@@ -0,0 +1,78 @@
+package com.wintermindset.transaction_service.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.wintermindset.transaction_service.config.UsernameFilterProperties;
+
+/**
+ * Streams the {@code users} table into the {@link UsernameFilter} once the
+ * application is ready. The read runs in a read-only transaction so the
+ * PostgreSQL driver uses a cursor instead of buffering the whole result.
+ */
+@Component
+public class UsernameFilterWarmer {
+
+    private static final Logger log = LoggerFactory.getLogger(UsernameFilterWarmer.class);
+
+    private final UsernameFilter usernameFilter;
+    private final UsernameFilterProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public UsernameFilterWarmer(
+                UsernameFilter usernameFilter,
+                UsernameFilterProperties properties,
+                DataSource dataSource,
+                PlatformTransactionManager transactionManager
+    ) {
+        this.usernameFilter = usernameFilter;
+        this.properties = properties;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(properties.warmUpFetchSize());
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpInBackground() {
+        if (usernameFilter.isEnabled()) {
+            Thread.ofVirtual().name("username-filter-warm-up").start(this::warmUp);
+        }
+    }
+
+    void warmUp() {
+        long startedAt = System.nanoTime();
+        AtomicLong loaded = new AtomicLong();
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(
+                    "select username from users",
+                    (RowCallbackHandler) rs -> {
+                        usernameFilter.add(rs.getString(1));
+                        loaded.incrementAndGet();
+                    }
+            ));
+        } catch (RuntimeException e) {
+            log.warn("Username filter warm-up failed; availability checks keep using the database", e);
+            return;
+        }
+        usernameFilter.markWarm();
+        log.info("Username filter warmed with {} usernames in {} ms",
+                loaded.get(), (System.nanoTime() - startedAt) / 1_000_000);
+        if (loaded.get() > properties.expectedUsernames()) {
+            log.warn("Username filter holds {} usernames but is sized for {}; raise "
+                    + "app.users.username-filter.expected-usernames", loaded.get(), properties.expectedUsernames());
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.wintermindset.transaction_service.concurrency;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Admits a fixed number of threads to the connection pool and queues the
+ * rest in arrival order. Virtual threads are cheap enough that thousands can
+ * reach the pool at once; behind this gate they park on a fair semaphore
+ * instead of crowding the pool's own hand-off, and a thread that waits too
+ * long fails with a transient error rather than stacking up behind others.
+ *
+ * <p>A permit is held from {@code getConnection} until the connection is
+ * closed; closing twice releases it once.
+ */
+public class AdmissionControlledDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final long acquireTimeoutNanos;
+    private final Timer waitTimer;
+    private final Counter timeoutCounter;
+
+    public AdmissionControlledDataSource(
+                DataSource targetDataSource,
+                int permits,
+                Duration acquireTimeout,
+                MeterRegistry meterRegistry
+    ) {
+        super(targetDataSource);
+        if (permits < 1) {
+            throw new IllegalArgumentException("Permits must be positive");
+        }
+        this.permits = new Semaphore(permits, true);
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+        this.waitTimer = Timer.builder("db.admission.wait")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.timeoutCounter = Counter.builder("db.admission.timeouts")
+                .register(meterRegistry);
+        Gauge.builder("db.admission.waiting", this.permits, Semaphore::getQueueLength)
+                .register(meterRegistry);
+        Gauge.builder("db.admission.permits.available", this.permits, Semaphore::availablePermits)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return admitted(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return admitted(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void acquire() throws SQLException {
+        long startedAt = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database permit", e);
+        } finally {
+            waitTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+        if (!acquired) {
+            timeoutCounter.increment();
+            throw new SQLTransientConnectionException("Timed out waiting for a database permit after "
+                    + TimeUnit.NANOSECONDS.toMillis(acquireTimeoutNanos) + " ms");
+        }
+    }
+
+    private Connection admitted(Connection target) {
+        return (Connection) Proxy.newProxyInstance(
+                ConnectionProxy.class.getClassLoader(),
+                new Class<?>[] { ConnectionProxy.class },
+                new PermitReleasingHandler(target)
+        );
+    }
+
+    private final class PermitReleasingHandler implements InvocationHandler {
+
+        private final Connection target;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        PermitReleasingHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "getTargetConnection":
+                    return target;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Admitted connection [" + target + "]";
+                case "close":
+                    try {
+                        target.close();
+                    } finally {
+                        if (released.compareAndSet(false, true)) {
+                            permits.release();
+                        }
+                    }
+                    return null;
+                default:
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.wintermindset.transaction_service.concurrency;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Streams the JDK's {@code jdk.VirtualThreadPinned} events, which fire when a
+ * virtual thread blocks while it cannot unmount from its carrier, and times
+ * them by the path that pinned: JDBC driver and pool, Hibernate, password
+ * hashing or anything else. Each pinning site is logged with its stack once;
+ * repeats only count.
+ *
+ * <p>Since JDK 24, {@code synchronized} no longer pins, so what remains is
+ * mostly native frames and class initialisation, which is why this watches
+ * rather than assumes.
+ */
+public class PinningMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(PinningMonitor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 12;
+
+    enum PinningPath {
+
+        JDBC("jdbc", "org.postgresql.", "org.h2.", "com.zaxxer.hikari.", "java.sql."),
+        HIBERNATE("hibernate", "org.hibernate."),
+        HASHING("hashing", "org.bouncycastle.", "org.springframework.security.crypto.",
+                "com.wintermindset.transaction_service.security.PasswordHashingService"),
+        OTHER("other");
+
+        private final String tagValue;
+        private final List<String> prefixes;
+
+        PinningPath(String tagValue, String... prefixes) {
+            this.tagValue = tagValue;
+            this.prefixes = List.of(prefixes);
+        }
+
+        /**
+         * @param classNames innermost frame first
+         */
+        static PinningPath of(List<String> classNames) {
+            for (String className : classNames) {
+                for (PinningPath path : values()) {
+                    for (String prefix : path.prefixes) {
+                        if (className.startsWith(prefix)) {
+                            return path;
+                        }
+                    }
+                }
+            }
+            return OTHER;
+        }
+    }
+
+    private final Duration threshold;
+    private final Map<PinningPath, Timer> pinnedTimers = new EnumMap<>(PinningPath.class);
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+    private RecordingStream stream;
+
+    public PinningMonitor(Duration threshold, MeterRegistry meterRegistry) {
+        this.threshold = threshold;
+        for (PinningPath path : PinningPath.values()) {
+            pinnedTimers.put(path, Timer.builder("jvm.threads.virtual.pinned")
+                    .tag("path", path.tagValue)
+                    .register(meterRegistry));
+        }
+    }
+
+    public void start() {
+        try {
+            RecordingStream recording = new RecordingStream();
+            recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+            recording.onEvent(PINNED_EVENT, this::onPinned);
+            recording.startAsync();
+            stream = recording;
+            log.info("Watching for virtual thread pinning longer than {} ms", threshold.toMillis());
+        } catch (RuntimeException e) {
+            log.warn("Virtual thread pinning cannot be monitored on this JVM", e);
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        List<RecordedFrame> frames = event.getStackTrace() == null ? List.of() : event.getStackTrace().getFrames();
+        List<String> classNames = frames.stream()
+                .map(frame -> frame.getMethod().getType().getName())
+                .toList();
+        PinningPath path = PinningPath.of(classNames);
+        pinnedTimers.get(path).record(event.getDuration());
+        String site = frames.isEmpty() ? "unknown" : describe(frames.get(0));
+        if (reportedSites.add(site)) {
+            log.warn("Virtual thread pinned its carrier for {} ms ({} path) at:\n\t{}",
+                    event.getDuration().toMillis(), path.tagValue,
+                    frames.stream().limit(LOGGED_FRAMES).map(PinningMonitor::describe)
+                            .collect(Collectors.joining("\n\t")));
+        }
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.wintermindset.transaction_service.concurrency;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Fixed set of locks shared by hashing keys onto stripes, so memory does not
+ * grow with the number of keys. Pairs of stripes are always taken in
+ * ascending stripe order, which rules out lock-order deadlocks; keys on
+ * different stripes never wait for each other.
+ */
+public final class StripedLocks {
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+
+    public StripedLocks(int stripeCount) {
+        if (stripeCount < 1 || Integer.bitCount(stripeCount) != 1) {
+            throw new IllegalArgumentException("Stripe count must be a power of two");
+        }
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.mask = stripeCount - 1;
+    }
+
+    public int stripeOf(Object key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    public <T> T withLock(Object key, Supplier<T> action) {
+        ReentrantLock lock = stripes[stripeOf(key)];
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Runs {@code action} holding the stripes of both keys. When the keys
+     * share a stripe it is locked once.
+     */
+    public <T> T withLocks(Object first, Object second, Supplier<T> action) {
+        int a = stripeOf(first);
+        int b = stripeOf(second);
+        ReentrantLock lower = stripes[Math.min(a, b)];
+        ReentrantLock upper = a == b ? null : stripes[Math.max(a, b)];
+        lower.lock();
+        try {
+            if (upper != null) {
+                upper.lock();
+            }
+            try {
+                return action.get();
+            } finally {
+                if (upper != null) {
+                    upper.unlock();
+                }
+            }
+        } finally {
+            lower.unlock();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.wintermindset.transaction_service.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param minEntries settled entries an account must gain past its latest
+ *        snapshot before a new one is taken; bounds the tail a balance query
+ *        replays
+ * @param chunkSize accounts examined per candidate query
+ */
+@ConfigurationProperties(prefix = "app.ledger.snapshots")
+public record BalanceSnapshotProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("5m") Duration interval,
+        @DefaultValue("1000") int minEntries,
+        @DefaultValue("500") int chunkSize
+) {
+
+    public BalanceSnapshotProperties {
+        if (interval.isNegative() || interval.isZero()) {
+            throw new IllegalArgumentException("Snapshot interval must be positive");
+        }
+        if (minEntries < 1) {
+            throw new IllegalArgumentException("Snapshot entry threshold must be positive");
+        }
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Snapshot chunk size must be positive");
+        }
+    }
+}
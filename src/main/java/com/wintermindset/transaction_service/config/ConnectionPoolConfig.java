@@ -0,0 +1,42 @@
+package com.wintermindset.transaction_service.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+@Configuration(proxyBeanMethods = false)
+public class ConnectionPoolConfig {
+
+    static final String MAXIMUM_POOL_SIZE = "spring.datasource.hikari.maximum-pool-size";
+
+    /**
+     * Sizes the pool from the core count unless a size is configured. Runs
+     * before initialisation, while the pool has not started yet.
+     */
+    @Bean
+    public static BeanPostProcessor connectionPoolSizing(
+                Environment environment,
+                ObjectProvider<ConnectionPoolProperties> properties
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource && !isSizeConfigured(environment)) {
+                    dataSource.setMaximumPoolSize(
+                            properties.getObject().poolSize(Runtime.getRuntime().availableProcessors())
+                    );
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static boolean isSizeConfigured(Environment environment) {
+        return Binder.get(environment).bind(MAXIMUM_POOL_SIZE, Integer.class).isBound();
+    }
+}
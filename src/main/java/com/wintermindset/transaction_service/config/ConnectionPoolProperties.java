@@ -0,0 +1,36 @@
+package com.wintermindset.transaction_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Sizing for the connection pool when
+ * {@code spring.datasource.hikari.maximum-pool-size} is not set: connections
+ * per core plus spares, after HikariCP's {@code cores * 2 + spindles}. The
+ * cores are this host's, so set the size explicitly when the database runs
+ * on a much smaller or larger machine.
+ *
+ * @param connectionsPerCore connections per available processor
+ * @param spareConnections connections on top, for requests parked on I/O
+ * @param selfCheck warn at startup about settings known to be slow
+ */
+@ConfigurationProperties(prefix = "app.database.pool")
+public record ConnectionPoolProperties(
+        @DefaultValue("2") int connectionsPerCore,
+        @DefaultValue("1") int spareConnections,
+        @DefaultValue("true") boolean selfCheck
+) {
+
+    public ConnectionPoolProperties {
+        if (connectionsPerCore < 1) {
+            throw new IllegalArgumentException("Connections per core must be positive");
+        }
+        if (spareConnections < 0) {
+            throw new IllegalArgumentException("Spare connections must not be negative");
+        }
+    }
+
+    public int poolSize(int availableProcessors) {
+        return availableProcessors * connectionsPerCore + spareConnections;
+    }
+}
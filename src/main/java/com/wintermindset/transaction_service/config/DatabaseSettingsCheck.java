@@ -0,0 +1,107 @@
+package com.wintermindset.transaction_service.config;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Logs a warning at startup for each pool or Hibernate setting that is known
+ * to cost throughput, so a profile that lost its tuning is noticed before
+ * the first load test rather than after.
+ */
+@Component
+public class DatabaseSettingsCheck {
+
+    private static final Logger log = LoggerFactory.getLogger(DatabaseSettingsCheck.class);
+
+    private static final String HIBERNATE = "spring.jpa.properties.hibernate.";
+    private static final int MAX_CONNECTIONS_PER_CORE = 4;
+
+    private final Environment environment;
+    private final DataSource dataSource;
+    private final ConnectionPoolProperties properties;
+
+    public DatabaseSettingsCheck(Environment environment, DataSource dataSource, ConnectionPoolProperties properties) {
+        this.environment = environment;
+        this.dataSource = dataSource;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void check() {
+        if (!properties.selfCheck()) {
+            return;
+        }
+        List<String> findings = findings(environment, hikariConfig(), Runtime.getRuntime().availableProcessors());
+        findings.forEach(finding -> log.warn("Slow database setting: {}", finding));
+        if (findings.isEmpty()) {
+            log.info("Database settings self-check passed");
+        }
+    }
+
+    private HikariConfig hikariConfig() {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class);
+            }
+        } catch (SQLException e) {
+            log.debug("Cannot unwrap the connection pool", e);
+        }
+        return null;
+    }
+
+    /**
+     * @param pool {@code null} when the pool is not HikariCP
+     */
+    static List<String> findings(Environment environment, HikariConfig pool, int availableProcessors) {
+        List<String> findings = new ArrayList<>();
+        if (environment.getProperty("spring.jpa.open-in-view", Boolean.class, true)) {
+            findings.add("spring.jpa.open-in-view is on; every request holds a connection until it completes");
+        }
+        if (environment.getProperty(HIBERNATE + "jdbc.batch_size", Integer.class, 0) < 2) {
+            findings.add(HIBERNATE + "jdbc.batch_size is unset; inserts and updates go one round trip each");
+        }
+        if (!environment.getProperty(HIBERNATE + "order_inserts", Boolean.class, false)) {
+            findings.add(HIBERNATE + "order_inserts is off; inserts into different tables break batches");
+        }
+        if (!environment.getProperty(HIBERNATE + "order_updates", Boolean.class, false)) {
+            findings.add(HIBERNATE + "order_updates is off; updates to different tables break batches");
+        }
+        if (environment.getProperty("spring.jpa.show-sql", Boolean.class, false)) {
+            findings.add("spring.jpa.show-sql is on; every statement is written to stdout");
+        }
+        if (environment.getProperty(HIBERNATE + "generate_statistics", Boolean.class, false)) {
+            findings.add(HIBERNATE + "generate_statistics is on; every session collects statistics");
+        }
+        if (pool != null) {
+            int poolSize = pool.getMaximumPoolSize();
+            if (poolSize > availableProcessors * MAX_CONNECTIONS_PER_CORE) {
+                findings.add("Connection pool size " + poolSize + " is over " + MAX_CONNECTIONS_PER_CORE
+                        + " per core; extra connections add contention, not throughput");
+            }
+            if (pool.getMinimumIdle() >= 0 && pool.getMinimumIdle() < poolSize) {
+                findings.add("Connection pool minimum-idle " + pool.getMinimumIdle() + " is below its size "
+                        + poolSize + "; bursts wait for new connections to open");
+            }
+            String jdbcUrl = pool.getJdbcUrl();
+            if (jdbcUrl != null && jdbcUrl.startsWith("jdbc:postgresql:")
+                    && !jdbcUrl.contains("reWriteBatchedInserts=true")
+                    && !"true".equals(String.valueOf(pool.getDataSourceProperties().get("reWriteBatchedInserts")))) {
+                findings.add("PostgreSQL reWriteBatchedInserts is off; batched inserts are sent row by row");
+            }
+        }
+        return findings;
+    }
+}
@@ -0,0 +1,36 @@
+package com.wintermindset.transaction_service.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param timeToLive how long a key replays its original result; retries
+ *        arriving later are treated as new requests
+ * @param hotTierSize keys kept in memory so a retry storm is answered
+ *        without a query
+ */
+@ConfigurationProperties(prefix = "app.idempotency")
+public record IdempotencyProperties(
+        @DefaultValue("24h") Duration timeToLive,
+        @DefaultValue("100000") int hotTierSize,
+        @DefaultValue("15m") Duration purgeInterval,
+        @DefaultValue("1000") int purgeChunkSize
+) {
+
+    public IdempotencyProperties {
+        if (timeToLive.isNegative() || timeToLive.isZero()) {
+            throw new IllegalArgumentException("Idempotency key time to live must be positive");
+        }
+        if (hotTierSize < 0) {
+            throw new IllegalArgumentException("Idempotency hot tier size must not be negative");
+        }
+        if (purgeInterval.isNegative() || purgeInterval.isZero()) {
+            throw new IllegalArgumentException("Idempotency purge interval must be positive");
+        }
+        if (purgeChunkSize < 1) {
+            throw new IllegalArgumentException("Idempotency purge chunk size must be positive");
+        }
+    }
+}
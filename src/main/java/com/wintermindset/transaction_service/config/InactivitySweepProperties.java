@@ -0,0 +1,38 @@
+package com.wintermindset.transaction_service.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.scheduling.support.CronExpression;
+
+/**
+ * @param inactiveAfter time since the last login (or creation, for users who
+ *        never logged in) after which a user is deactivated
+ * @param pauseBetweenChunks sleep between chunks so the sweep never holds
+ *        connections or row locks for long stretches
+ */
+@ConfigurationProperties(prefix = "app.users.inactivity")
+public record InactivitySweepProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("365d") Duration inactiveAfter,
+        @DefaultValue("1000") int chunkSize,
+        @DefaultValue("200ms") Duration pauseBetweenChunks,
+        @DefaultValue("0 30 3 * * *") String cron
+) {
+
+    public InactivitySweepProperties {
+        if (inactiveAfter.isNegative() || inactiveAfter.isZero()) {
+            throw new IllegalArgumentException("Inactivity period must be positive");
+        }
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Inactivity sweep chunk size must be positive");
+        }
+        if (pauseBetweenChunks.isNegative()) {
+            throw new IllegalArgumentException("Inactivity sweep pause must not be negative");
+        }
+        if (!CronExpression.isValidExpression(cron)) {
+            throw new IllegalArgumentException("Inactivity sweep cron is not a valid cron expression: " + cron);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.wintermindset.transaction_service.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param secret Base64-encoded HMAC key of at least 256 bits
+ */
+@ConfigurationProperties(prefix = "app.security.jwt")
+public record JwtProperties(
+        String secret,
+        @DefaultValue("transaction-service") String issuer,
+        @DefaultValue("15m") Duration accessTokenTtl,
+        @DefaultValue("10000") long verifiedTokenCacheSize
+) {
+
+    public JwtProperties {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalArgumentException("JWT secret must be configured");
+        }
+        if (issuer == null || issuer.isBlank()) {
+            throw new IllegalArgumentException("JWT issuer must not be blank");
+        }
+        if (accessTokenTtl.isNegative() || accessTokenTtl.isZero()) {
+            throw new IllegalArgumentException("JWT access token TTL must be positive");
+        }
+        if (verifiedTokenCacheSize < 0) {
+            throw new IllegalArgumentException("Verified token cache size must not be negative");
+        }
+    }
+}
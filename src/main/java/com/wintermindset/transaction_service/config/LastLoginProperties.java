@@ -0,0 +1,22 @@
+package com.wintermindset.transaction_service.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.users.last-login")
+public record LastLoginProperties(
+        @DefaultValue("10s") Duration flushInterval,
+        @DefaultValue("500") int batchSize
+) {
+
+    public LastLoginProperties {
+        if (flushInterval.isNegative() || flushInterval.isZero()) {
+            throw new IllegalArgumentException("Last login flush interval must be positive");
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Last login batch size must be positive");
+        }
+    }
+}
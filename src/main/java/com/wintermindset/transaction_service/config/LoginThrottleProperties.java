@@ -0,0 +1,42 @@
+package com.wintermindset.transaction_service.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param escalationThreshold failed logins per username within
+ *        {@code escalationWindow} after which the user is deactivated;
+ *        {@code 0}, the default, disables escalation. Anyone who knows a
+ *        username can fail its logins, so enabling it lets them lock the
+ *        account out
+ * @param counterSlots slots per counter row; a power of two that fixes the
+ *        memory used regardless of how many keys are seen
+ */
+@ConfigurationProperties(prefix = "app.security.login-throttle")
+public record LoginThrottleProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1m") Duration window,
+        @DefaultValue("10") int maxAttemptsPerUsername,
+        @DefaultValue("100") int maxAttemptsPerAddress,
+        @DefaultValue("1h") Duration escalationWindow,
+        @DefaultValue("0") int escalationThreshold,
+        @DefaultValue("65536") int counterSlots
+) {
+
+    public LoginThrottleProperties {
+        if (window.isNegative() || window.isZero() || escalationWindow.isNegative() || escalationWindow.isZero()) {
+            throw new IllegalArgumentException("Login throttle windows must be positive");
+        }
+        if (maxAttemptsPerUsername < 1 || maxAttemptsPerAddress < 1) {
+            throw new IllegalArgumentException("Login attempt limits must be positive");
+        }
+        if (escalationThreshold < 0) {
+            throw new IllegalArgumentException("Escalation threshold must not be negative");
+        }
+        if (counterSlots < 1 || Integer.bitCount(counterSlots) != 1) {
+            throw new IllegalArgumentException("Counter slots must be a power of two");
+        }
+    }
+}
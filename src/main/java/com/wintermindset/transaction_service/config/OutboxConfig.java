@@ -0,0 +1,22 @@
+package com.wintermindset.transaction_service.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.wintermindset.transaction_service.outbox.FileOutboxSink;
+import com.wintermindset.transaction_service.outbox.LoggingOutboxSink;
+import com.wintermindset.transaction_service.outbox.OutboxSink;
+
+@Configuration(proxyBeanMethods = false)
+public class OutboxConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(OutboxSink.class)
+    public OutboxSink outboxSink(OutboxProperties properties) {
+        return switch (properties.sink()) {
+            case LOG -> new LoggingOutboxSink();
+            case FILE -> new FileOutboxSink(properties.file());
+        };
+    }
+}
@@ -0,0 +1,45 @@
+package com.wintermindset.transaction_service.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import com.wintermindset.transaction_service.enums.outbox.OutboxSinkType;
+
+/**
+ * @param enabled run the relay on this node; events are written either way
+ * @param batchSize events claimed, published and deleted per transaction
+ * @param retryBackoff how long an event the sink rejected waits before it is
+ *        claimed again
+ * @param maxAttempts publish attempts after which an event is moved to
+ *        {@code outbox_dead_letters} instead of being retried
+ * @param file where the {@code FILE} sink appends events
+ */
+@ConfigurationProperties(prefix = "app.outbox")
+public record OutboxProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1s") Duration pollInterval,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("30s") Duration retryBackoff,
+        @DefaultValue("10") int maxAttempts,
+        @DefaultValue("LOG") OutboxSinkType sink,
+        @DefaultValue("outbox-events.jsonl") Path file
+) {
+
+    public OutboxProperties {
+        if (pollInterval.isNegative() || pollInterval.isZero()) {
+            throw new IllegalArgumentException("Outbox poll interval must be positive");
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Outbox batch size must be positive");
+        }
+        if (retryBackoff.isNegative()) {
+            throw new IllegalArgumentException("Outbox retry backoff must not be negative");
+        }
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Outbox max attempts must be positive");
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.wintermindset.transaction_service.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import com.wintermindset.transaction_service.enums.security.PasswordEncodingAlgorithm;
+
+/**
+ * Work factors are calibrated at startup so that one hash takes about
+ * {@code targetLatency} on the current host, within the configured bounds.
+ * Setting min and max to the same value pins the work factor.
+ */
+@ConfigurationProperties(prefix = "app.security.password-encoding")
+public record PasswordEncodingProperties(
+        @DefaultValue("BCRYPT") PasswordEncodingAlgorithm algorithm,
+        @DefaultValue("200ms") Duration targetLatency,
+        @DefaultValue("10") int bcryptMinStrength,
+        @DefaultValue("14") int bcryptMaxStrength,
+        @DefaultValue("19456") int argon2MemoryKib,
+        @DefaultValue("1") int argon2Parallelism,
+        @DefaultValue("2") int argon2MinIterations,
+        @DefaultValue("10") int argon2MaxIterations
+) {
+
+    public PasswordEncodingProperties {
+        if (bcryptMinStrength < 4 || bcryptMaxStrength > 31 || bcryptMinStrength > bcryptMaxStrength) {
+            throw new IllegalArgumentException("BCrypt strength bounds must satisfy 4 <= min <= max <= 31");
+        }
+        if (argon2MinIterations < 1 || argon2MinIterations > argon2MaxIterations) {
+            throw new IllegalArgumentException("Argon2 iteration bounds must satisfy 1 <= min <= max");
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.wintermindset.transaction_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param threads hashing threads; {@code 0} means half of the available processors
+ * @param queueCapacity requests allowed to wait for a hashing thread before new ones are rejected
+ */
+@ConfigurationProperties(prefix = "app.security.hashing")
+public record PasswordHashingProperties(
+        @DefaultValue("0") int threads,
+        @DefaultValue("256") int queueCapacity
+) {
+
+    public PasswordHashingProperties {
+        if (threads < 0) {
+            throw new IllegalArgumentException("Hashing threads must not be negative");
+        }
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("Hashing queue capacity must be positive");
+        }
+        if (threads == 0) {
+            threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        }
+    }
+}
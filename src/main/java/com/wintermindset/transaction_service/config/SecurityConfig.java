@@ -1,15 +1,81 @@
 package com.wintermindset.transaction_service.config;
 
+import org.springframework.boot.actuate.autoconfigure.web.server.ManagementPortType;
+import org.springframework.boot.micrometer.metrics.autoconfigure.export.prometheus.PrometheusScrapeEndpoint;
+import org.springframework.boot.security.autoconfigure.actuate.web.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import com.wintermindset.transaction_service.security.AuthenticatedUser;
+import com.wintermindset.transaction_service.security.JwtAuthenticationFilter;
+import com.wintermindset.transaction_service.security.JwtService;
+import com.wintermindset.transaction_service.security.PasswordEncoderCalibrator;
+import com.wintermindset.transaction_service.service.UserService;
 
 @Configuration
 public class SecurityConfig {
     
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordEncodingProperties properties) {
+        return PasswordEncoderCalibrator.calibrated(properties);
+    }
+
+    @Bean
+    public SecurityFilterChain securityFilterChain(
+                HttpSecurity http,
+                JwtService jwtService,
+                UserService userService,
+                Environment environment
+    ) throws Exception {
+        return http
+                .csrf(AbstractHttpConfigurer::disable)
+                .httpBasic(AbstractHttpConfigurer::disable)
+                .formLogin(AbstractHttpConfigurer::disable)
+                .logout(AbstractHttpConfigurer::disable)
+                .requestCache(AbstractHttpConfigurer::disable)
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authorizeHttpRequests(auth -> auth
+                        .requestMatchers(HttpMethod.POST, "/api/auth/login").permitAll()
+                        .requestMatchers("/actuator/health/**", "/error").permitAll()
+                        .requestMatchers(scrapeOnManagementPort(environment)).permitAll()
+                        .requestMatchers("/api/admin/**").access((authentication, context) ->
+                                new AuthorizationDecision(canManageUsers(authentication.get())))
+                        .anyRequest().authenticated())
+                .exceptionHandling(exceptions -> exceptions
+                        .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
+                .addFilterBefore(new JwtAuthenticationFilter(jwtService, userService), UsernamePasswordAuthenticationFilter.class)
+                .build();
+    }
+
+    /**
+     * The Prometheus scrape carries no token, so it is only let through on
+     * the separate management port, which stays off the public network. If
+     * the management server shares the application port, the scrape needs
+     * a token like any other request.
+     */
+    private static RequestMatcher scrapeOnManagementPort(Environment environment) {
+        if (ManagementPortType.get(environment) != ManagementPortType.DIFFERENT) {
+            return request -> false;
+        }
+        return EndpointRequest.to(PrometheusScrapeEndpoint.class);
+    }
+
+    private static boolean canManageUsers(Authentication authentication) {
+        return authentication != null
+                && authentication.getPrincipal() instanceof AuthenticatedUser user
+                && user.role().canManageUsers();
     }
 }
@@ -0,0 +1,39 @@
+package com.wintermindset.transaction_service.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param lockStripes account lock stripes; a power of two, sized well above
+ *        the number of concurrent transfers so unrelated accounts rarely share one
+ * @param maxBatchSize transfers the pipeline commits in one transaction
+ * @param batchLinger how long the pipeline waits for more transfers after the
+ *        first one of a batch arrives; trades a little latency for fewer commits
+ * @param queueCapacity transfers allowed to wait for the pipeline before new
+ *        ones are rejected
+ */
+@ConfigurationProperties(prefix = "app.transfers")
+public record TransferProperties(
+        @DefaultValue("4096") int lockStripes,
+        @DefaultValue("256") int maxBatchSize,
+        @DefaultValue("2ms") Duration batchLinger,
+        @DefaultValue("8192") int queueCapacity
+) {
+
+    public TransferProperties {
+        if (lockStripes < 1 || Integer.bitCount(lockStripes) != 1) {
+            throw new IllegalArgumentException("Lock stripes must be a power of two");
+        }
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Transfer batch size must be positive");
+        }
+        if (batchLinger.isNegative()) {
+            throw new IllegalArgumentException("Transfer batch linger must not be negative");
+        }
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("Transfer queue capacity must be positive");
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.wintermindset.transaction_service.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.users.cache")
+public record UserCacheProperties(
+        @DefaultValue("10000") long maximumSize,
+        @DefaultValue("5m") Duration timeToLive
+) {
+
+    public UserCacheProperties {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("User cache size must not be negative");
+        }
+        if (timeToLive.isNegative()) {
+            throw new IllegalArgumentException("User cache TTL must not be negative");
+        }
+    }
+}
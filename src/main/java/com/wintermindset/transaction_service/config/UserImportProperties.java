@@ -0,0 +1,26 @@
+package com.wintermindset.transaction_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param chunkSize rows validated, hashed and inserted together; keep it equal
+ *                  to {@code hibernate.jdbc.batch_size} so a chunk is one batch
+ * @param hashingParallelism hashes in flight at once; {@code 0} means half the
+ *                           hashing pool (at least one), leaving the rest to logins
+ */
+@ConfigurationProperties(prefix = "app.users.import")
+public record UserImportProperties(
+        @DefaultValue("500") int chunkSize,
+        @DefaultValue("0") int hashingParallelism
+) {
+
+    public UserImportProperties {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Import chunk size must be positive");
+        }
+        if (hashingParallelism < 0) {
+            throw new IllegalArgumentException("Import hashing parallelism must not be negative");
+        }
+    }
+}
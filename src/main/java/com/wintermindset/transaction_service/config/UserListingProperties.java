@@ -0,0 +1,21 @@
+package com.wintermindset.transaction_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.users.listing")
+public record UserListingProperties(
+        @DefaultValue("50") int defaultPageSize,
+        @DefaultValue("500") int maxPageSize,
+        @DefaultValue("1000") int exportFetchSize
+) {
+
+    public UserListingProperties {
+        if (defaultPageSize < 1 || maxPageSize < defaultPageSize) {
+            throw new IllegalArgumentException("Page sizes must satisfy 1 <= default <= max");
+        }
+        if (exportFetchSize < 1) {
+            throw new IllegalArgumentException("Export fetch size must be positive");
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.wintermindset.transaction_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param expectedUsernames size the filter for the expected table size; beyond
+ *                          it the false positive rate grows, but misses stay exact
+ * @param warmUpFetchSize rows fetched per round trip while streaming usernames at startup
+ */
+@ConfigurationProperties(prefix = "app.users.username-filter")
+public record UsernameFilterProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1000000") long expectedUsernames,
+        @DefaultValue("0.01") double falsePositiveProbability,
+        @DefaultValue("10000") int warmUpFetchSize
+) {
+}
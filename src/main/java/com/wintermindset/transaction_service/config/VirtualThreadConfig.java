@@ -0,0 +1,69 @@
+package com.wintermindset.transaction_service.config;
+
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.wintermindset.transaction_service.concurrency.AdmissionControlledDataSource;
+import com.wintermindset.transaction_service.concurrency.PinningMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Guardrails for {@code spring.threads.virtual.enabled}, which moves request
+ * handling, {@code @Async} and {@code @Scheduled} work onto virtual threads:
+ * database access is gated to the pool size and carrier pinning is reported.
+ * Password hashing and the transfer committer keep their platform threads.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    private static final int FALLBACK_CONNECTION_PERMITS = 10;
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public PinningMonitor pinningMonitor(VirtualThreadProperties properties, MeterRegistry meterRegistry) {
+        return new PinningMonitor(properties.pinningThreshold(), meterRegistry);
+    }
+
+    @Bean
+    public static BeanPostProcessor connectionAdmission(
+                ObjectProvider<VirtualThreadProperties> properties,
+                ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof AdmissionControlledDataSource) {
+                    return bean;
+                }
+                VirtualThreadProperties settings = properties.getObject();
+                int permits = settings.connectionPermits() > 0
+                        ? settings.connectionPermits()
+                        : poolSize(dataSource);
+                return new AdmissionControlledDataSource(
+                        dataSource, permits, settings.connectionAcquireTimeout(), meterRegistry.getObject()
+                );
+            }
+        };
+    }
+
+    private static int poolSize(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException e) {
+            // fall through to the default
+        }
+        return FALLBACK_CONNECTION_PERMITS;
+    }
+}
@@ -0,0 +1,35 @@
+package com.wintermindset.transaction_service.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Only read when {@code spring.threads.virtual.enabled} is set.
+ *
+ * @param pinningThreshold shortest carrier pinning worth reporting
+ * @param connectionPermits threads allowed to hold or wait on the connection
+ *        pool at once; {@code 0} means the pool's maximum size
+ * @param connectionAcquireTimeout how long a thread waits for a permit before
+ *        the request fails
+ */
+@ConfigurationProperties(prefix = "app.virtual-threads")
+public record VirtualThreadProperties(
+        @DefaultValue("20ms") Duration pinningThreshold,
+        @DefaultValue("0") int connectionPermits,
+        @DefaultValue("30s") Duration connectionAcquireTimeout
+) {
+
+    public VirtualThreadProperties {
+        if (pinningThreshold.isNegative()) {
+            throw new IllegalArgumentException("Pinning threshold must not be negative");
+        }
+        if (connectionPermits < 0) {
+            throw new IllegalArgumentException("Connection permits must not be negative");
+        }
+        if (connectionAcquireTimeout.isNegative() || connectionAcquireTimeout.isZero()) {
+            throw new IllegalArgumentException("Connection acquire timeout must be positive");
+        }
+    }
+}
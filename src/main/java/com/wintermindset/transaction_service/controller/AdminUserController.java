@@ -0,0 +1,113 @@
+package com.wintermindset.transaction_service.controller;
+
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.StreamSupport;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.wintermindset.transaction_service.dto.user.UserImportReport;
+import com.wintermindset.transaction_service.dto.user.UserImportRow;
+import com.wintermindset.transaction_service.dto.user.UserListFilter;
+import com.wintermindset.transaction_service.dto.user.UserListPage;
+import com.wintermindset.transaction_service.enums.user.DeactivationReason;
+import com.wintermindset.transaction_service.enums.user.Role;
+import com.wintermindset.transaction_service.enums.user.UserExportFormat;
+import com.wintermindset.transaction_service.service.UserImportService;
+import com.wintermindset.transaction_service.service.UserListingService;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.MappingIterator;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Restricted to roles that {@link Role#canManageUsers() can manage users}.
+ */
+@RestController
+@RequestMapping("/api/admin/users")
+public class AdminUserController {
+
+    private final UserListingService userListingService;
+    private final UserImportService userImportService;
+    private final ObjectMapper objectMapper;
+
+    public AdminUserController(
+                UserListingService userListingService,
+                UserImportService userImportService,
+                ObjectMapper objectMapper
+    ) {
+        this.userListingService = userListingService;
+        this.userImportService = userImportService;
+        this.objectMapper = objectMapper;
+    }
+
+    @GetMapping
+    public UserListPage listUsers(
+                @RequestParam(required = false) Role role,
+                @RequestParam(required = false) Boolean active,
+                @RequestParam(required = false) DeactivationReason deactivationReason,
+                @RequestParam(required = false) String cursor,
+                @RequestParam(required = false) Integer limit
+    ) {
+        return userListingService.listUsers(
+                new UserListFilter(role, active, deactivationReason),
+                cursor,
+                limit != null ? limit : userListingService.defaultPageSize()
+        );
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+                @RequestParam(defaultValue = "csv") String format,
+                @RequestParam(required = false) Role role,
+                @RequestParam(required = false) Boolean active,
+                @RequestParam(required = false) DeactivationReason deactivationReason
+    ) {
+        UserExportFormat exportFormat = UserExportFormat.valueOf(format.toUpperCase(Locale.ROOT));
+        UserListFilter filter = new UserListFilter(role, active, deactivationReason);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.mediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"users." + exportFormat.name().toLowerCase(Locale.ROOT) + "\"")
+                .body(out -> userListingService.export(filter, exportFormat, out));
+    }
+
+    /**
+     * Takes one {@link UserImportRow} per line and reads the body as the
+     * import consumes it, so the upload is never held in memory. Rows before
+     * a malformed line stay imported.
+     */
+    @PostMapping(path = "/import", consumes = "application/x-ndjson")
+    public UserImportReport importUsers(InputStream body) {
+        try (MappingIterator<UserImportRow> rows = objectMapper.readerFor(UserImportRow.class).readValues(body)) {
+            return userImportService.importUsers(
+                    StreamSupport.stream(Spliterators.spliteratorUnknownSize(rows, Spliterator.ORDERED), false),
+                    Instant.now()
+            );
+        }
+    }
+
+    @ExceptionHandler(JacksonException.class)
+    public ProblemDetail handleMalformedImport(JacksonException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getOriginalMessage());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ProblemDetail handleBadRequest(IllegalArgumentException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+}
@@ -0,0 +1,88 @@
+package com.wintermindset.transaction_service.controller;
+
+import java.time.Duration;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.wintermindset.transaction_service.config.LoginThrottleProperties;
+import com.wintermindset.transaction_service.dto.auth.LoginRequest;
+import com.wintermindset.transaction_service.dto.auth.LoginResponse;
+import com.wintermindset.transaction_service.entity.UserEntity;
+import com.wintermindset.transaction_service.exception.security.HashingCapacityExceededException;
+import com.wintermindset.transaction_service.exception.security.LoginThrottledException;
+import com.wintermindset.transaction_service.exception.user.BadPasswordException;
+import com.wintermindset.transaction_service.exception.user.UserDeactivatedException;
+import com.wintermindset.transaction_service.exception.user.UserNotFoundException;
+import com.wintermindset.transaction_service.security.IssuedToken;
+import com.wintermindset.transaction_service.security.JwtService;
+import com.wintermindset.transaction_service.service.UserService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/api/auth")
+public class AuthController {
+
+    private static final Duration HASHING_RETRY_AFTER = Duration.ofSeconds(1);
+
+    private final UserService userService;
+    private final JwtService jwtService;
+    private final Duration throttleRetryAfter;
+
+    public AuthController(
+                UserService userService,
+                JwtService jwtService,
+                LoginThrottleProperties throttleProperties
+    ) {
+        this.userService = userService;
+        this.jwtService = jwtService;
+        this.throttleRetryAfter = throttleProperties.window();
+    }
+
+    @PostMapping("/login")
+    public LoginResponse login(@Valid @RequestBody LoginRequest request, HttpServletRequest servletRequest) {
+        UserEntity user = userService.authenticate(
+                request.username(),
+                request.password(),
+                servletRequest.getRemoteAddr()
+        );
+        IssuedToken token = jwtService.issue(user);
+        return new LoginResponse(token.value(), "Bearer", token.expiresAt());
+    }
+
+    /**
+     * Unknown users and wrong passwords are indistinguishable to the caller.
+     */
+    @ExceptionHandler({ UserNotFoundException.class, BadPasswordException.class })
+    public ProblemDetail handleBadCredentials() {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.UNAUTHORIZED, "Invalid username or password");
+    }
+
+    @ExceptionHandler(UserDeactivatedException.class)
+    public ProblemDetail handleDeactivated() {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.FORBIDDEN, "User is deactivated");
+    }
+
+    @ExceptionHandler(LoginThrottledException.class)
+    public ResponseEntity<ProblemDetail> handleThrottled() {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(throttleRetryAfter.toSeconds()))
+                .body(ProblemDetail.forStatusAndDetail(HttpStatus.TOO_MANY_REQUESTS, "Too many login attempts"));
+    }
+
+    @ExceptionHandler(HashingCapacityExceededException.class)
+    public ResponseEntity<ProblemDetail> handleHashingCapacityExceeded() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(HASHING_RETRY_AFTER.toSeconds()))
+                .body(ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE, "Login capacity exceeded"));
+    }
+}
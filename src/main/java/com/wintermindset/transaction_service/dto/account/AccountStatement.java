@@ -0,0 +1,21 @@
+package com.wintermindset.transaction_service.dto.account;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * @param nextSequence value to pass as {@code afterSequence} for the
+ *        following page, {@code null} on the last one
+ */
+public record AccountStatement(
+        UUID accountId,
+        long openingBalance,
+        List<StatementLine> lines,
+        long closingBalance,
+        Long nextSequence
+) {
+
+    public AccountStatement {
+        lines = List.copyOf(lines);
+    }
+}
@@ -0,0 +1,16 @@
+package com.wintermindset.transaction_service.dto.account;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * @param balance the account balance after this entry
+ */
+public record StatementLine(
+        long sequence,
+        UUID transferId,
+        long amount,
+        long balance,
+        Instant createdAt
+) {
+}
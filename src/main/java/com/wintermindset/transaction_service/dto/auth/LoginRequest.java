@@ -0,0 +1,6 @@
+package com.wintermindset.transaction_service.dto.auth;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record LoginRequest(@NotBlank String username, @NotBlank String password) {
+}
@@ -0,0 +1,6 @@
+package com.wintermindset.transaction_service.dto.auth;
+
+import java.time.Instant;
+
+public record LoginResponse(String accessToken, String tokenType, Instant expiresAt) {
+}
@@ -0,0 +1,51 @@
+package com.wintermindset.transaction_service.dto.idempotency;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Objects;
+
+import com.wintermindset.transaction_service.enums.idempotency.IdempotencyScope;
+
+/**
+ * A client-supplied idempotency key together with a fingerprint of the
+ * request it was sent with, so the key cannot be replayed for a different
+ * request.
+ */
+public record IdempotentRequest(IdempotencyScope scope, String key, String fingerprint) {
+
+    public static final int MAX_KEY_LENGTH = 128;
+
+    public IdempotentRequest {
+        Objects.requireNonNull(scope, "Idempotency scope must not be null");
+        Objects.requireNonNull(key, "Idempotency key must not be null");
+        Objects.requireNonNull(fingerprint, "Request fingerprint must not be null");
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException(
+                    "Idempotency key must be 1 to " + MAX_KEY_LENGTH + " characters long"
+            );
+        }
+    }
+
+    /**
+     * @param parts the request fields that must match on a retry; never
+     *        secrets, since the fingerprint is stored
+     */
+    public static IdempotentRequest of(IdempotencyScope scope, String key, Object... parts) {
+        MessageDigest digest = sha256();
+        for (Object part : parts) {
+            digest.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+        return new IdempotentRequest(scope, key, HexFormat.of().formatHex(digest.digest()));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
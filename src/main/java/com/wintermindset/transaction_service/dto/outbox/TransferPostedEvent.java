@@ -0,0 +1,17 @@
+package com.wintermindset.transaction_service.dto.outbox;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * @param amount in minor units of {@code currency}
+ */
+public record TransferPostedEvent(
+        UUID transferId,
+        UUID sourceAccountId,
+        UUID targetAccountId,
+        long amount,
+        String currency,
+        Instant occurredAt
+) {
+}
@@ -0,0 +1,14 @@
+package com.wintermindset.transaction_service.dto.outbox;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.wintermindset.transaction_service.enums.user.Role;
+
+public record UserCreatedEvent(
+        UUID userId,
+        String username,
+        Role role,
+        Instant createdAt
+) {
+}
@@ -0,0 +1,15 @@
+package com.wintermindset.transaction_service.dto.outbox;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.wintermindset.transaction_service.enums.user.DeactivationReason;
+import com.wintermindset.transaction_service.enums.user.Role;
+
+public record UserDeactivatedEvent(
+        UUID userId,
+        DeactivationReason reason,
+        Role deactivatedBy,
+        Instant deactivatedAt
+) {
+}
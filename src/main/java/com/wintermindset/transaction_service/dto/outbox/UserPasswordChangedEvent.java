@@ -0,0 +1,10 @@
+package com.wintermindset.transaction_service.dto.outbox;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record UserPasswordChangedEvent(
+        UUID userId,
+        Instant changedAt
+) {
+}
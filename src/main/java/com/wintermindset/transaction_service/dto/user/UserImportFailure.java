@@ -0,0 +1,11 @@
+package com.wintermindset.transaction_service.dto.user;
+
+/**
+ * @param rowIndex zero-based position of the row in the import stream
+ */
+public record UserImportFailure(
+        long rowIndex,
+        String username,
+        String reason
+) {
+}
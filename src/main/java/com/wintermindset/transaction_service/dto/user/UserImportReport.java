@@ -0,0 +1,13 @@
+package com.wintermindset.transaction_service.dto.user;
+
+import java.util.List;
+
+public record UserImportReport(
+        long imported,
+        List<UserImportFailure> failures
+) {
+
+    public UserImportReport {
+        failures = List.copyOf(failures);
+    }
+}
@@ -0,0 +1,10 @@
+package com.wintermindset.transaction_service.dto.user;
+
+import com.wintermindset.transaction_service.enums.user.Role;
+
+public record UserImportRow(
+        String username,
+        String rawPassword,
+        Role role
+) {
+}
@@ -0,0 +1,46 @@
+package com.wintermindset.transaction_service.dto.user;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Position after the last row of a page in {@code (created_at, id)} order,
+ * passed to clients as an opaque token.
+ */
+public record UserListCursor(Instant createdAt, UUID id) {
+
+    private static final char SEPARATOR = '|';
+
+    public UserListCursor {
+        Objects.requireNonNull(createdAt, "Cursor creation time must not be null");
+        Objects.requireNonNull(id, "Cursor ID must not be null");
+    }
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * @throws IllegalArgumentException if the token was not produced by {@link #encode()}
+     */
+    public static UserListCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            return new UserListCursor(
+                    Instant.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1))
+            );
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Malformed cursor", e);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.wintermindset.transaction_service.dto.user;
+
+import com.wintermindset.transaction_service.enums.user.DeactivationReason;
+import com.wintermindset.transaction_service.enums.user.Role;
+
+/**
+ * Admin listing filter; a {@code null} component matches every user.
+ */
+public record UserListFilter(
+        Role role,
+        Boolean active,
+        DeactivationReason deactivationReason
+) {
+
+    public static UserListFilter none() {
+        return new UserListFilter(null, null, null);
+    }
+}
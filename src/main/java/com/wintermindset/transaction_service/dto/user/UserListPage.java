@@ -0,0 +1,18 @@
+package com.wintermindset.transaction_service.dto.user;
+
+import java.util.List;
+
+import com.wintermindset.transaction_service.projection.user.UserAdminView;
+
+/**
+ * @param nextCursor token for the following page, {@code null} on the last one
+ */
+public record UserListPage(
+        List<UserAdminView> users,
+        String nextCursor
+) {
+
+    public UserListPage {
+        users = List.copyOf(users);
+    }
+}
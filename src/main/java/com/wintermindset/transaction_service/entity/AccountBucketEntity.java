@@ -0,0 +1,158 @@
+package com.wintermindset.transaction_service.entity;
+
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * One sub-balance of a {@link AccountEntity#isBucketed() bucketed} account.
+ * Credits land on a single bucket, so concurrent credits to the account lock
+ * different rows; the account's balance is the sum of its buckets.
+ */
+@Entity
+@Table(
+    name = "account_buckets",
+    uniqueConstraints = @UniqueConstraint(
+        name = AccountBucketEntity.ACCOUNT_INDEX_UNIQUE_CONSTRAINT,
+        columnNames = { "account_id", "bucket_index" }
+    )
+)
+public class AccountBucketEntity {
+
+    public static final String ACCOUNT_INDEX_UNIQUE_CONSTRAINT = "uk_account_buckets_account_index";
+
+    @Id
+    @UuidV7
+    @Column(nullable = false, updatable = false)
+    private UUID id;
+
+    @Column(name = "account_id", nullable = false, updatable = false)
+    private UUID accountId;
+
+    @Column(name = "bucket_index", nullable = false, updatable = false)
+    private int bucketIndex;
+
+    @Column(nullable = false)
+    private long balance;
+
+    @Column(name = "entry_sequence", nullable = false)
+    private long entrySequence;
+
+    protected AccountBucketEntity() {
+        // default constructor for JPA only
+    }
+
+    public AccountBucketEntity(UUID accountId, int bucketIndex, long balance) {
+        this.accountId = accountId;
+        this.bucketIndex = bucketIndex;
+        this.balance = balance;
+    }
+
+    /**
+     * Sequence of the ledger entry for the {@code entryNumber}-th entry of
+     * bucket {@code bucketIndex}. Buckets interleave after the
+     * {@code sequenceBase} entries the account took before it was split, so
+     * sequences stay unique per account without a shared counter.
+     */
+    public static long entrySequence(long sequenceBase, int bucketCount, int bucketIndex, long entryNumber) {
+        return sequenceBase + (entryNumber - 1) * bucketCount + bucketIndex + 1;
+    }
+
+    /**
+     * End of the settled prefix of a bucketed account's ledger: one below the
+     * lowest sequence any bucket will assign next. Every entry up to it has
+     * committed; above it, a bucket that is behind can still fill a gap until
+     * it is {@link #skipPast advanced}.
+     */
+    public static long settledSequence(long sequenceBase, int bucketCount, List<AccountBucketEntity> buckets) {
+        long lowestNext = Long.MAX_VALUE;
+        for (AccountBucketEntity bucket : buckets) {
+            lowestNext = Math.min(lowestNext, entrySequence(
+                    sequenceBase, bucketCount, bucket.getBucketIndex(), bucket.getEntrySequence() + 1
+            ));
+        }
+        return lowestNext == Long.MAX_VALUE ? sequenceBase : lowestNext - 1;
+    }
+
+    /**
+     * @return the highest sequence any of the buckets has assigned, or
+     *         {@code sequenceBase} if none has taken an entry yet
+     */
+    public static long lastAssignedSequence(long sequenceBase, int bucketCount, List<AccountBucketEntity> buckets) {
+        long highest = sequenceBase;
+        for (AccountBucketEntity bucket : buckets) {
+            if (bucket.getEntrySequence() > 0) {
+                highest = Math.max(highest, entrySequence(
+                        sequenceBase, bucketCount, bucket.getBucketIndex(), bucket.getEntrySequence()
+                ));
+            }
+        }
+        return highest;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getAccountId() {
+        return accountId;
+    }
+
+    public int getBucketIndex() {
+        return bucketIndex;
+    }
+
+    public long getBalance() {
+        return balance;
+    }
+
+    public long getEntrySequence() {
+        return entrySequence;
+    }
+
+    /**
+     * Applies a signed amount; funds are checked across all buckets by the
+     * caller, so a single bucket may go negative only for overdraft accounts.
+     *
+     * @return the entry number of this entry within the bucket
+     */
+    public long post(long amount) {
+        balance = Math.addExact(balance, amount);
+        return ++entrySequence;
+    }
+
+    /**
+     * Skips entry numbers so the next entry this bucket takes lands above
+     * {@code sequence}. An idle bucket would otherwise hold the settled
+     * sequence below entries the other buckets have committed; the skipped
+     * sequences are simply never used.
+     */
+    public void skipPast(long sequenceBase, int bucketCount, long sequence) {
+        long behind = sequence - sequenceBase - bucketIndex - 1;
+        if (behind >= 0) {
+            entrySequence = Math.max(entrySequence, behind / bucketCount + 1);
+        }
+    }
+
+    /**
+     * Moves funds between buckets of the same account; the account balance
+     * is unchanged, so no ledger entry is written. Only funds this bucket
+     * holds can move, so a refill never drives it negative.
+     */
+    public void transfer(long amount, AccountBucketEntity target) {
+        if (!accountId.equals(target.accountId)) {
+            throw new IllegalArgumentException("Buckets belong to different accounts");
+        }
+        if (amount <= 0 || amount > balance) {
+            throw new IllegalArgumentException("Cannot move " + amount + " out of a bucket holding " + balance);
+        }
+        long targetBalance = Math.addExact(target.balance, amount);
+        balance = Math.subtractExact(balance, amount);
+        target.balance = targetBalance;
+    }
+}
@@ -0,0 +1,151 @@
+package com.wintermindset.transaction_service.entity;
+
+import java.time.Instant;
+import java.util.Currency;
+import java.util.UUID;
+
+import com.wintermindset.transaction_service.exception.account.InsufficientFundsException;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * Balance holder of the ledger. The balance is a cache of the account's
+ * ledger entries, in minor currency units, and only changes through
+ * {@link #post(long)} together with a new {@link LedgerEntryEntity}.
+ *
+ * <p>A {@link #isBucketed() bucketed} account keeps its balance in
+ * {@link AccountBucketEntity buckets} instead; its own balance and entry
+ * sequence are frozen at the moment it was split.
+ */
+@Entity
+@Table(
+    name = "accounts",
+    indexes = @Index(
+        name = "idx_accounts_owner_id",
+        columnList = "owner_id"
+    )
+)
+public class AccountEntity {
+
+    @Id
+    @UuidV7
+    @Column(nullable = false, updatable = false)
+    private UUID id;
+
+    @Column(name = "owner_id", nullable = false, updatable = false)
+    private UUID ownerId;
+
+    @Column(nullable = false, updatable = false, length = 3)
+    private String currency;
+
+    @Column(nullable = false)
+    private long balance;
+
+    @Column(name = "entry_sequence", nullable = false)
+    private long entrySequence;
+
+    @Column(name = "overdraft_allowed", nullable = false, updatable = false)
+    private boolean overdraftAllowed;
+
+    @Column(name = "bucket_count", nullable = false)
+    private int bucketCount = 1;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    protected AccountEntity() {
+        // default constructor for JPA only
+    }
+
+    /**
+     * @param overdraftAllowed only for system accounts that fund or drain
+     *        the ledger; customer accounts never go below zero
+     */
+    public AccountEntity(
+            UUID ownerId,
+            String currency,
+            boolean overdraftAllowed,
+            Instant createdAt
+    ) {
+        this.ownerId = ownerId;
+        this.currency = Currency.getInstance(currency).getCurrencyCode();
+        this.overdraftAllowed = overdraftAllowed;
+        this.createdAt = createdAt;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getOwnerId() {
+        return ownerId;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public long getBalance() {
+        return balance;
+    }
+
+    public long getEntrySequence() {
+        return entrySequence;
+    }
+
+    public boolean isOverdraftAllowed() {
+        return overdraftAllowed;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public int getBucketCount() {
+        return bucketCount;
+    }
+
+    public boolean isBucketed() {
+        return bucketCount > 1;
+    }
+
+    /**
+     * Switches the account to bucketed mode. The caller moves the returned
+     * balance into the buckets; splitting is one-way.
+     *
+     * @return the balance held by the account row until now
+     */
+    public long splitIntoBuckets(int bucketCount) {
+        if (isBucketed()) {
+            throw new IllegalStateException("Account is already bucketed: " + id);
+        }
+        if (bucketCount < 2) {
+            throw new IllegalArgumentException("Bucket count must be at least 2");
+        }
+        this.bucketCount = bucketCount;
+        long moved = balance;
+        balance = 0;
+        return moved;
+    }
+
+    /**
+     * Applies a signed amount and advances the entry sequence.
+     *
+     * @return the sequence number of the ledger entry recording this change
+     */
+    public long post(long amount) {
+        if (isBucketed()) {
+            throw new IllegalStateException("Bucketed accounts post through their buckets: " + id);
+        }
+        long updated = Math.addExact(balance, amount);
+        if (updated < 0 && !overdraftAllowed) {
+            throw new InsufficientFundsException("Insufficient funds in account: " + id);
+        }
+        balance = updated;
+        return ++entrySequence;
+    }
+}
@@ -0,0 +1,79 @@
+package com.wintermindset.transaction_service.entity;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * Balance of an account after every ledger entry up to and including
+ * {@code sequence}. Only settled prefixes are snapshotted, so entries at or
+ * below the sequence can never appear later.
+ */
+@Entity
+@Immutable
+@Table(
+    name = "balance_snapshots",
+    uniqueConstraints = @UniqueConstraint(
+        name = BalanceSnapshotEntity.ACCOUNT_SEQUENCE_UNIQUE_CONSTRAINT,
+        columnNames = { "account_id", "sequence" }
+    )
+)
+public class BalanceSnapshotEntity {
+
+    public static final String ACCOUNT_SEQUENCE_UNIQUE_CONSTRAINT = "uk_balance_snapshots_account_sequence";
+
+    @Id
+    @UuidV7
+    @Column(nullable = false, updatable = false)
+    private UUID id;
+
+    @Column(name = "account_id", nullable = false, updatable = false)
+    private UUID accountId;
+
+    @Column(nullable = false, updatable = false)
+    private long sequence;
+
+    @Column(nullable = false, updatable = false)
+    private long balance;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    protected BalanceSnapshotEntity() {
+        // default constructor for JPA only
+    }
+
+    public BalanceSnapshotEntity(UUID accountId, long sequence, long balance, Instant createdAt) {
+        this.accountId = accountId;
+        this.sequence = sequence;
+        this.balance = balance;
+        this.createdAt = createdAt;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getAccountId() {
+        return accountId;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public long getBalance() {
+        return balance;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,111 @@
+package com.wintermindset.transaction_service.entity;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.hibernate.annotations.Immutable;
+
+import com.wintermindset.transaction_service.enums.idempotency.IdempotencyScope;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * The outcome of an idempotent request: the resource it created. Written in
+ * the same transaction as that resource, so either both exist or neither.
+ */
+@Entity
+@Immutable
+@Table(
+    name = "idempotency_keys",
+    uniqueConstraints = @UniqueConstraint(
+        name = IdempotencyKeyEntity.SCOPE_KEY_UNIQUE_CONSTRAINT,
+        columnNames = { "scope", "idempotency_key" }
+    ),
+    indexes = @Index(
+        name = "idx_idempotency_keys_expires_at",
+        columnList = "expires_at"
+    )
+)
+public class IdempotencyKeyEntity {
+
+    public static final String SCOPE_KEY_UNIQUE_CONSTRAINT = "uk_idempotency_keys_scope_key";
+
+    @Id
+    @UuidV7
+    @Column(nullable = false, updatable = false)
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false, length = 32)
+    private IdempotencyScope scope;
+
+    @Column(name = "idempotency_key", nullable = false, updatable = false, length = 128)
+    private String key;
+
+    @Column(nullable = false, updatable = false, length = 64)
+    private String fingerprint;
+
+    @Column(name = "resource_id", nullable = false, updatable = false)
+    private UUID resourceId;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "expires_at", nullable = false, updatable = false)
+    private Instant expiresAt;
+
+    protected IdempotencyKeyEntity() {
+        // default constructor for JPA only
+    }
+
+    public IdempotencyKeyEntity(
+            IdempotencyScope scope,
+            String key,
+            String fingerprint,
+            UUID resourceId,
+            Instant createdAt,
+            Instant expiresAt
+    ) {
+        this.scope = scope;
+        this.key = key;
+        this.fingerprint = fingerprint;
+        this.resourceId = resourceId;
+        this.createdAt = createdAt;
+        this.expiresAt = expiresAt;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public IdempotencyScope getScope() {
+        return scope;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public UUID getResourceId() {
+        return resourceId;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+}
@@ -0,0 +1,114 @@
+package com.wintermindset.transaction_service.entity;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * One side of a transfer. Entries are append-only; the unique
+ * {@code (account_id, sequence)} pair orders them per account and rejects a
+ * second writer that raced past the account lock.
+ */
+@Entity
+@Immutable
+@Table(
+    name = "ledger_entries",
+    uniqueConstraints = @UniqueConstraint(
+        name = LedgerEntryEntity.ACCOUNT_SEQUENCE_UNIQUE_CONSTRAINT,
+        columnNames = { "account_id", "sequence" }
+    ),
+    indexes = @Index(
+        name = "idx_ledger_entries_transfer_id",
+        columnList = "transfer_id"
+    )
+)
+public class LedgerEntryEntity {
+
+    public static final String ACCOUNT_SEQUENCE_UNIQUE_CONSTRAINT = "uk_ledger_entries_account_sequence";
+
+    @Id
+    @UuidV7
+    @Column(nullable = false, updatable = false)
+    private UUID id;
+
+    @Column(name = "transfer_id", nullable = false, updatable = false)
+    private UUID transferId;
+
+    @Column(name = "account_id", nullable = false, updatable = false)
+    private UUID accountId;
+
+    @Column(nullable = false, updatable = false)
+    private long sequence;
+
+    @Column(nullable = false, updatable = false)
+    private long amount;
+
+    /**
+     * Balance of the row the entry was posted to. For a bucketed account
+     * that is the bucket, which refills move funds in and out of without an
+     * entry, so it neither matches the account balance nor follows from the
+     * bucket's own entries; statements compute account-level running
+     * balances instead.
+     */
+    @Column(name = "balance_after", nullable = false, updatable = false)
+    private long balanceAfter;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    protected LedgerEntryEntity() {
+        // default constructor for JPA only
+    }
+
+    public LedgerEntryEntity(
+            UUID transferId,
+            UUID accountId,
+            long sequence,
+            long amount,
+            long balanceAfter,
+            Instant createdAt
+    ) {
+        this.transferId = transferId;
+        this.accountId = accountId;
+        this.sequence = sequence;
+        this.amount = amount;
+        this.balanceAfter = balanceAfter;
+        this.createdAt = createdAt;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getTransferId() {
+        return transferId;
+    }
+
+    public UUID getAccountId() {
+        return accountId;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public long getAmount() {
+        return amount;
+    }
+
+    public long getBalanceAfter() {
+        return balanceAfter;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,87 @@
+package com.wintermindset.transaction_service.entity;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.wintermindset.transaction_service.enums.outbox.OutboxEventType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * An outbox event the sink kept rejecting, moved out of
+ * {@code outbox_events} so it no longer holds up the events behind it. Rows
+ * are written by the relay in SQL and only read here; replaying one means
+ * inserting it back into the outbox.
+ */
+@Entity
+@Table(name = "outbox_dead_letters")
+public class OutboxDeadLetterEntity {
+
+    public static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @Column(nullable = false, updatable = false)
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, updatable = false, length = 50)
+    private OutboxEventType eventType;
+
+    @Column(name = "aggregate_id", nullable = false, updatable = false)
+    private UUID aggregateId;
+
+    @Column(nullable = false, updatable = false, length = OutboxEventEntity.MAX_PAYLOAD_LENGTH)
+    private String payload;
+
+    @Column(name = "occurred_at", nullable = false, updatable = false)
+    private Instant occurredAt;
+
+    @Column(nullable = false, updatable = false)
+    private int attempts;
+
+    @Column(name = "failed_at", nullable = false, updatable = false)
+    private Instant failedAt;
+
+    @Column(name = "last_error", updatable = false, length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    protected OutboxDeadLetterEntity() {
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public OutboxEventType getEventType() {
+        return eventType;
+    }
+
+    public UUID getAggregateId() {
+        return aggregateId;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public Instant getFailedAt() {
+        return failedAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+}
@@ -0,0 +1,101 @@
+package com.wintermindset.transaction_service.entity;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.wintermindset.transaction_service.enums.outbox.OutboxEventType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * A domain event waiting to be relayed, written in the transaction that made
+ * the change it describes. Rows are deleted once published; a failed publish
+ * pushes {@code available_at} back and counts the attempt.
+ */
+@Entity
+@Table(
+    name = "outbox_events",
+    indexes = @Index(
+        name = "idx_outbox_events_available_at_id",
+        columnList = "available_at, id"
+    )
+)
+public class OutboxEventEntity {
+
+    public static final int MAX_PAYLOAD_LENGTH = 4000;
+
+    @Id
+    @UuidV7
+    @Column(nullable = false, updatable = false)
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, updatable = false, length = 50)
+    private OutboxEventType eventType;
+
+    @Column(name = "aggregate_id", nullable = false, updatable = false)
+    private UUID aggregateId;
+
+    @Column(nullable = false, updatable = false, length = MAX_PAYLOAD_LENGTH)
+    private String payload;
+
+    @Column(name = "occurred_at", nullable = false, updatable = false)
+    private Instant occurredAt;
+
+    @Column(name = "available_at", nullable = false)
+    private Instant availableAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    protected OutboxEventEntity() {
+    }
+
+    public OutboxEventEntity(OutboxEventType eventType, UUID aggregateId, String payload, Instant occurredAt) {
+        if (eventType == null || aggregateId == null || payload == null || occurredAt == null) {
+            throw new IllegalArgumentException("Outbox event fields must not be null");
+        }
+        if (payload.length() > MAX_PAYLOAD_LENGTH) {
+            throw new IllegalArgumentException("Outbox payload exceeds " + MAX_PAYLOAD_LENGTH + " characters");
+        }
+        this.eventType = eventType;
+        this.aggregateId = aggregateId;
+        this.payload = payload;
+        this.occurredAt = occurredAt;
+        this.availableAt = occurredAt;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public OutboxEventType getEventType() {
+        return eventType;
+    }
+
+    public UUID getAggregateId() {
+        return aggregateId;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+
+    public Instant getAvailableAt() {
+        return availableAt;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+}
@@ -0,0 +1,83 @@
+package com.wintermindset.transaction_service.entity;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Header of a completed transfer; its two {@link LedgerEntryEntity ledger
+ * entries} carry the balance changes.
+ */
+@Entity
+@Immutable
+@Table(name = "transfers")
+public class TransferEntity {
+
+    @Id
+    @UuidV7
+    @Column(nullable = false, updatable = false)
+    private UUID id;
+
+    @Column(name = "source_account_id", nullable = false, updatable = false)
+    private UUID sourceAccountId;
+
+    @Column(name = "target_account_id", nullable = false, updatable = false)
+    private UUID targetAccountId;
+
+    @Column(nullable = false, updatable = false)
+    private long amount;
+
+    @Column(nullable = false, updatable = false, length = 3)
+    private String currency;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    protected TransferEntity() {
+        // default constructor for JPA only
+    }
+
+    public TransferEntity(
+            UUID sourceAccountId,
+            UUID targetAccountId,
+            long amount,
+            String currency,
+            Instant createdAt
+    ) {
+        this.sourceAccountId = sourceAccountId;
+        this.targetAccountId = targetAccountId;
+        this.amount = amount;
+        this.currency = currency;
+        this.createdAt = createdAt;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getSourceAccountId() {
+        return sourceAccountId;
+    }
+
+    public UUID getTargetAccountId() {
+        return targetAccountId;
+    }
+
+    public long getAmount() {
+        return amount;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
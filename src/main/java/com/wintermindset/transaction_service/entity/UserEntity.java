@@ -3,33 +3,48 @@ package com.wintermindset.transaction_service.entity;
 import java.time.Instant;
 import java.util.UUID;
 
+import com.wintermindset.transaction_service.cache.UserCacheInvalidationListener;
+import com.wintermindset.transaction_service.cache.UsernameFilterListener;
 import com.wintermindset.transaction_service.enums.user.DeactivationReason;
 import com.wintermindset.transaction_service.enums.user.Role;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 
 @Entity
+@EntityListeners({ UserCacheInvalidationListener.class, UsernameFilterListener.class })
 @Table(
     name = "users",
     uniqueConstraints = @UniqueConstraint(
-        name = "uk_users_username",
+        name = UserEntity.USERNAME_UNIQUE_CONSTRAINT,
         columnNames = "username"
-    )
+    ),
+    indexes = {
+        @Index(
+            name = "idx_users_created_at_id",
+            columnList = "created_at, id"
+        ),
+        @Index(
+            name = "idx_users_last_login_at_id",
+            columnList = "last_login_at, id"
+        )
+    }
 )
 public class UserEntity {
 
+    public static final String USERNAME_UNIQUE_CONSTRAINT = "uk_users_username";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     @Column(nullable = false, updatable = false)
     private UUID id;
 
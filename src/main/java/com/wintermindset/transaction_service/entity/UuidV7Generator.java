@@ -0,0 +1,61 @@
+package com.wintermindset.transaction_service.entity;
+
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+/**
+ * RFC 9562 version 7 UUIDs: a 48-bit Unix millisecond timestamp followed by
+ * 74 random bits. Keys created close together land close together in a
+ * B-tree, so inserts append to the right edge of the primary key index
+ * instead of touching random pages.
+ *
+ * <p>Randomness comes from {@link ThreadLocalRandom}, so generation shares no
+ * state between threads. Ordering is only guaranteed across milliseconds,
+ * which is all index locality needs. The ids are not secrets and must not be
+ * relied on for access control.
+ */
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+    private static final long VERSION = 0x7000L;
+    private static final long RAND_A_MASK = 0x0FFFL;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+    private static final long RAND_B_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    public static UUID next() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long mostSignificant = System.currentTimeMillis() << 16 | VERSION | (random.nextLong() & RAND_A_MASK);
+        long leastSignificant = VARIANT | (random.nextLong() & RAND_B_MASK);
+        return new UUID(mostSignificant, leastSignificant);
+    }
+
+    /**
+     * @return the creation time embedded in a version 7 UUID, in epoch millis
+     */
+    public static long timestampOf(UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("Not a version 7 UUID: " + uuid);
+        }
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+    @Override
+    public Object generate(
+                SharedSessionContractImplementor session,
+                Object owner,
+                Object currentValue,
+                EventType eventType
+    ) {
+        return next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
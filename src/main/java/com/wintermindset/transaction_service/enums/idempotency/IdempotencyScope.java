@@ -0,0 +1,7 @@
+package com.wintermindset.transaction_service.enums.idempotency;
+
+public enum IdempotencyScope {
+
+    USER_SIGNUP,
+    TRANSFER
+}
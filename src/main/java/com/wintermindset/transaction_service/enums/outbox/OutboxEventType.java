@@ -0,0 +1,19 @@
+package com.wintermindset.transaction_service.enums.outbox;
+
+public enum OutboxEventType {
+
+    USER_CREATED("user"),
+    USER_DEACTIVATED("user"),
+    USER_PASSWORD_CHANGED("user"),
+    TRANSFER_POSTED("transfer");
+
+    private final String aggregateType;
+
+    private OutboxEventType(String aggregateType) {
+        this.aggregateType = aggregateType;
+    }
+
+    public String aggregateType() {
+        return aggregateType;
+    }
+}
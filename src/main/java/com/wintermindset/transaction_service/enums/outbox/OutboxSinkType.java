@@ -0,0 +1,7 @@
+package com.wintermindset.transaction_service.enums.outbox;
+
+public enum OutboxSinkType {
+
+    LOG,
+    FILE
+}
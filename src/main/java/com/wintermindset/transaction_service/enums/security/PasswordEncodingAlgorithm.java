@@ -0,0 +1,20 @@
+package com.wintermindset.transaction_service.enums.security;
+
+public enum PasswordEncodingAlgorithm {
+
+    BCRYPT("bcrypt"),
+    ARGON2("argon2");
+
+    private final String id;
+
+    private PasswordEncodingAlgorithm(String id) {
+        this.id = id;
+    }
+
+    /**
+     * Prefix stored in front of every hash, e.g. {@code {bcrypt}$2a$...}.
+     */
+    public String id() {
+        return id;
+    }
+}
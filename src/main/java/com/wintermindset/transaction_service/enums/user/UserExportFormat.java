@@ -0,0 +1,17 @@
+package com.wintermindset.transaction_service.enums.user;
+
+public enum UserExportFormat {
+
+    CSV("text/csv"),
+    NDJSON("application/x-ndjson");
+
+    private final String mediaType;
+
+    private UserExportFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public String mediaType() {
+        return mediaType;
+    }
+}
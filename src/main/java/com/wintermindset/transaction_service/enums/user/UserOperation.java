@@ -0,0 +1,18 @@
+package com.wintermindset.transaction_service.enums.user;
+
+public enum UserOperation {
+
+    CREATE("create"),
+    AUTHENTICATE("authenticate"),
+    UPDATE_PASSWORD("update_password");
+
+    private final String tagValue;
+
+    private UserOperation(String tagValue) {
+        this.tagValue = tagValue;
+    }
+
+    public String tagValue() {
+        return tagValue;
+    }
+}
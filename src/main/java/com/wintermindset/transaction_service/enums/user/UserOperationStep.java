@@ -0,0 +1,22 @@
+package com.wintermindset.transaction_service.enums.user;
+
+public enum UserOperationStep {
+
+    VALIDATE("validate"),
+    EXISTS_CHECK("exists_check"),
+    LOOKUP("lookup"),
+    HASH("hash"),
+    VERIFY("verify"),
+    INSERT("insert"),
+    UPDATE("update");
+
+    private final String tagValue;
+
+    private UserOperationStep(String tagValue) {
+        this.tagValue = tagValue;
+    }
+
+    public String tagValue() {
+        return tagValue;
+    }
+}
@@ -0,0 +1,29 @@
+package com.wintermindset.transaction_service.exception.account;
+
+public class InsufficientFundsException extends RuntimeException {
+    
+    public InsufficientFundsException() {
+        super();
+    }
+
+    public InsufficientFundsException(String message) {
+        super(message);
+    }
+
+    public InsufficientFundsException(Throwable cause) {
+        super(cause);
+    }
+
+    public InsufficientFundsException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public InsufficientFundsException(
+                String message,
+                Throwable cause,
+                boolean enableSuppression,
+                boolean writableStackTrace
+    ) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
+}
@@ -0,0 +1,29 @@
+package com.wintermindset.transaction_service.exception.idempotency;
+
+public class IdempotencyKeyConflictException extends RuntimeException {
+    
+    public IdempotencyKeyConflictException() {
+        super();
+    }
+
+    public IdempotencyKeyConflictException(String message) {
+        super(message);
+    }
+
+    public IdempotencyKeyConflictException(Throwable cause) {
+        super(cause);
+    }
+
+    public IdempotencyKeyConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public IdempotencyKeyConflictException(
+                String message,
+                Throwable cause,
+                boolean enableSuppression,
+                boolean writableStackTrace
+    ) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
+}
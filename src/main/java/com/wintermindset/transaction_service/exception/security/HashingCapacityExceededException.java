@@ -0,0 +1,29 @@
+package com.wintermindset.transaction_service.exception.security;
+
+public class HashingCapacityExceededException extends RuntimeException {
+
+    public HashingCapacityExceededException() {
+        super();
+    }
+
+    public HashingCapacityExceededException(String message) {
+        super(message);
+    }
+
+    public HashingCapacityExceededException(Throwable cause) {
+        super(cause);
+    }
+
+    public HashingCapacityExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public HashingCapacityExceededException(
+                String message,
+                Throwable cause,
+                boolean enableSuppression,
+                boolean writableStackTrace
+    ) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
+}
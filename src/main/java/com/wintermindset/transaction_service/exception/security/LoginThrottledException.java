@@ -0,0 +1,29 @@
+package com.wintermindset.transaction_service.exception.security;
+
+public class LoginThrottledException extends RuntimeException {
+    
+    public LoginThrottledException() {
+        super();
+    }
+
+    public LoginThrottledException(String message) {
+        super(message);
+    }
+
+    public LoginThrottledException(Throwable cause) {
+        super(cause);
+    }
+
+    public LoginThrottledException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public LoginThrottledException(
+                String message,
+                Throwable cause,
+                boolean enableSuppression,
+                boolean writableStackTrace
+    ) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
+}
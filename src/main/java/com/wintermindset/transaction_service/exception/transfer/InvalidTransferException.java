@@ -0,0 +1,29 @@
+package com.wintermindset.transaction_service.exception.transfer;
+
+public class InvalidTransferException extends RuntimeException {
+    
+    public InvalidTransferException() {
+        super();
+    }
+
+    public InvalidTransferException(String message) {
+        super(message);
+    }
+
+    public InvalidTransferException(Throwable cause) {
+        super(cause);
+    }
+
+    public InvalidTransferException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public InvalidTransferException(
+                String message,
+                Throwable cause,
+                boolean enableSuppression,
+                boolean writableStackTrace
+    ) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
+}
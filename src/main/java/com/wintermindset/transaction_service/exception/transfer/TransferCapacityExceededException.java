@@ -0,0 +1,29 @@
+package com.wintermindset.transaction_service.exception.transfer;
+
+public class TransferCapacityExceededException extends RuntimeException {
+
+    public TransferCapacityExceededException() {
+        super();
+    }
+
+    public TransferCapacityExceededException(String message) {
+        super(message);
+    }
+
+    public TransferCapacityExceededException(Throwable cause) {
+        super(cause);
+    }
+
+    public TransferCapacityExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public TransferCapacityExceededException(
+                String message,
+                Throwable cause,
+                boolean enableSuppression,
+                boolean writableStackTrace
+    ) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
+}
@@ -0,0 +1,29 @@
+package com.wintermindset.transaction_service.exception.user;
+
+public class UserDeactivatedException extends RuntimeException {
+    
+    public UserDeactivatedException() {
+        super();
+    }
+
+    public UserDeactivatedException(String message) {
+        super(message);
+    }
+
+    public UserDeactivatedException(Throwable cause) {
+        super(cause);
+    }
+
+    public UserDeactivatedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public UserDeactivatedException(
+                String message,
+                Throwable cause,
+                boolean enableSuppression,
+                boolean writableStackTrace
+    ) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
+}
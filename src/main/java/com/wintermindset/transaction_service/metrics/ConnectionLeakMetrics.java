@@ -0,0 +1,59 @@
+package com.wintermindset.transaction_service.metrics;
+
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Counts HikariCP leak detection warnings. The pool reports a suspected leak
+ * only through its log, so this listens on the logger that reports them;
+ * it complements the pool's own {@code hikaricp.connections.*} meters.
+ * Needs {@code spring.datasource.hikari.leak-detection-threshold} to be set.
+ */
+@Component
+public class ConnectionLeakMetrics {
+
+    static final String LEAK_LOGGER = "com.zaxxer.hikari.pool.ProxyLeakTask";
+
+    private final Counter leakCounter;
+    private final AppenderBase<ILoggingEvent> appender = new AppenderBase<>() {
+        @Override
+        protected void append(ILoggingEvent event) {
+            if (event.getLevel().isGreaterOrEqual(Level.WARN)) {
+                leakCounter.increment();
+            }
+        }
+    };
+
+    public ConnectionLeakMetrics(MeterRegistry meterRegistry) {
+        this.leakCounter = Counter.builder("hikaricp.connections.leaks")
+                .description("Connections held longer than the leak detection threshold")
+                .register(meterRegistry);
+        this.appender.setName("connection-leak-metrics");
+    }
+
+    @PostConstruct
+    public void attach() {
+        if (LoggerFactory.getLogger(LEAK_LOGGER) instanceof Logger logger) {
+            appender.setContext(logger.getLoggerContext());
+            appender.start();
+            logger.addAppender(appender);
+        }
+    }
+
+    @PreDestroy
+    public void detach() {
+        if (LoggerFactory.getLogger(LEAK_LOGGER) instanceof Logger logger) {
+            logger.detachAppender(appender);
+            appender.stop();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.wintermindset.transaction_service.metrics;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.RuntimeMXBean;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aot.AotDetector;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+
+/**
+ * Cold-start cost as seen from the JVM's launch, which Boot's own
+ * {@code application.started.time} and {@code application.ready.time} leave
+ * out: time to ready and to the first served request, and the CPU time and
+ * classes spent getting there. Gauges are tagged with the class archive and
+ * Spring AOT mode, so runs with and without the {@code startup} build can be
+ * compared on one dashboard.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class StartupMetrics implements Filter {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupMetrics.class);
+
+    private final MeterRegistry meterRegistry;
+    private final RuntimeMXBean runtime = ManagementFactory.getRuntimeMXBean();
+    private final Tags tags;
+    private final AtomicBoolean firstRequestServed = new AtomicBoolean();
+    private volatile boolean firstRequestRecorded;
+
+    public StartupMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.tags = Tags.of(
+                "archive", archiveOf(runtime.getInputArguments()),
+                "aot", String.valueOf(AotDetector.useGeneratedArtifacts())
+        );
+    }
+
+    static String archiveOf(List<String> jvmArguments) {
+        for (String argument : jvmArguments) {
+            if (argument.startsWith("-XX:AOTCache=")) {
+                return "aot-cache";
+            }
+            if (argument.startsWith("-XX:SharedArchiveFile=")) {
+                return "cds";
+            }
+        }
+        return "default";
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        long readyMillis = runtime.getUptime();
+        long cpuMillis = processCpuMillis();
+        long loadedClasses = ManagementFactory.getClassLoadingMXBean().getTotalLoadedClassCount();
+        gauge("application.jvm.ready.time", readyMillis / 1000.0, "JVM launch to application ready");
+        gauge("application.warmup.cpu.time", cpuMillis / 1000.0, "Process CPU time spent until application ready");
+        Gauge.builder("application.warmup.classes.loaded", () -> loadedClasses)
+                .tags(tags)
+                .register(meterRegistry);
+        log.info("Ready {} ms after JVM launch; {} ms CPU, {} classes loaded ({})",
+                readyMillis, cpuMillis, loadedClasses, tags);
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        chain.doFilter(request, response);
+        if (!firstRequestRecorded && firstRequestServed.compareAndSet(false, true)) {
+            long firstRequestMillis = runtime.getUptime();
+            gauge("application.first.request.time", firstRequestMillis / 1000.0,
+                    "JVM launch to the first served request");
+            firstRequestRecorded = true;
+            log.info("First request served {} ms after JVM launch", firstRequestMillis);
+        }
+    }
+
+    private void gauge(String name, double seconds, String description) {
+        Gauge.builder(name, () -> seconds)
+                .tags(tags)
+                .baseUnit("seconds")
+                .description(description)
+                .register(meterRegistry);
+    }
+
+    private static long processCpuMillis() {
+        if (ManagementFactory.getOperatingSystemMXBean() instanceof com.sun.management.OperatingSystemMXBean os) {
+            return TimeUnit.NANOSECONDS.toMillis(os.getProcessCpuTime());
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,52 @@
+package com.wintermindset.transaction_service.outbox;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Appends events as JSON lines to a local file and forces them to disk
+ * before the batch counts as published.
+ */
+public class FileOutboxSink implements OutboxSink {
+
+    private final Path file;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public FileOutboxSink(Path file) {
+        this.file = file;
+    }
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        lock.lock();
+        try {
+            Path directory = file.toAbsolutePath().getParent();
+            if (directory != null) {
+                Files.createDirectories(directory);
+            }
+            try (FileChannel channel = FileChannel.open(
+                         file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+                 Writer writer = Channels.newWriter(channel, StandardCharsets.UTF_8)) {
+                for (OutboxMessage message : messages) {
+                    writer.write(message.toJson());
+                    writer.write('\n');
+                }
+                writer.flush();
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot append outbox events to " + file, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.wintermindset.transaction_service.outbox;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes each event as a JSON line to the {@code outbox} logger, for local
+ * runs and for shipping events with the application logs.
+ */
+public class LoggingOutboxSink implements OutboxSink {
+
+    private static final Logger log = LoggerFactory.getLogger("outbox");
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        for (OutboxMessage message : messages) {
+            log.info(message.toJson());
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.wintermindset.transaction_service.outbox;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.wintermindset.transaction_service.enums.outbox.OutboxEventType;
+
+/**
+ * An event as handed to an {@link OutboxSink}. Delivery is at least once:
+ * consumers deduplicate on {@code id}, which is time-ordered.
+ *
+ * @param payload the event body as JSON
+ * @param attempt publish attempts before this one
+ */
+public record OutboxMessage(
+        UUID id,
+        OutboxEventType eventType,
+        UUID aggregateId,
+        String payload,
+        Instant occurredAt,
+        int attempt
+) {
+
+    /**
+     * One-line JSON envelope around the payload. Every other field is a UUID,
+     * an enum name or an ISO instant, none of which needs escaping.
+     */
+    public String toJson() {
+        return "{\"id\":\"" + id
+                + "\",\"type\":\"" + eventType.name()
+                + "\",\"aggregateType\":\"" + eventType.aggregateType()
+                + "\",\"aggregateId\":\"" + aggregateId
+                + "\",\"occurredAt\":\"" + occurredAt
+                + "\",\"payload\":" + payload + "}";
+    }
+}
@@ -0,0 +1,19 @@
+package com.wintermindset.transaction_service.outbox;
+
+import java.util.List;
+
+/**
+ * Where the relay publishes events. Declaring a bean of this type replaces
+ * the configured {@code app.outbox.sink}.
+ */
+public interface OutboxSink {
+
+    /**
+     * Publishes the batch in order. Returning means every message was
+     * accepted; throwing means none can be assumed delivered. The relay then
+     * re-sends the batch one message at a time, in order, so a message may be
+     * delivered more than once and a failed single-message call is counted
+     * against that message alone.
+     */
+    void publish(List<OutboxMessage> messages);
+}
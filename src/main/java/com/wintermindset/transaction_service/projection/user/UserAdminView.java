@@ -0,0 +1,23 @@
+package com.wintermindset.transaction_service.projection.user;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.wintermindset.transaction_service.enums.user.DeactivationReason;
+import com.wintermindset.transaction_service.enums.user.Role;
+
+/**
+ * Row of the admin user listing; everything except the password hash.
+ */
+public record UserAdminView(
+        UUID id,
+        String username,
+        Role role,
+        boolean active,
+        Instant createdAt,
+        Instant lastLoginAt,
+        Instant deactivatedAt,
+        DeactivationReason deactivationReason,
+        Role deactivatedBy
+) {
+}
@@ -0,0 +1,15 @@
+package com.wintermindset.transaction_service.projection.user;
+
+import java.util.UUID;
+
+import com.wintermindset.transaction_service.enums.user.Role;
+
+/**
+ * The columns an authorization decision needs.
+ */
+public record UserAuthorization(
+        UUID id,
+        Role role,
+        boolean active
+) {
+}
@@ -0,0 +1,17 @@
+package com.wintermindset.transaction_service.projection.user;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.wintermindset.transaction_service.enums.user.Role;
+
+/**
+ * Public view of a user.
+ */
+public record UserProfile(
+        UUID id,
+        String username,
+        Role role,
+        Instant createdAt
+) {
+}
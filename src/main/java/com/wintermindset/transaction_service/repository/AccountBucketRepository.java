@@ -0,0 +1,38 @@
+package com.wintermindset.transaction_service.repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.wintermindset.transaction_service.entity.AccountBucketEntity;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface AccountBucketRepository extends JpaRepository<AccountBucketEntity, UUID> {
+
+    List<AccountBucketEntity> findByAccountIdOrderByBucketIndex(UUID accountId);
+
+    /**
+     * Locks every bucket of the account in index order.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from AccountBucketEntity b where b.accountId = :accountId order by b.bucketIndex")
+    List<AccountBucketEntity> findAllForUpdate(@Param("accountId") UUID accountId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from AccountBucketEntity b where b.accountId = :accountId and b.bucketIndex = :bucketIndex")
+    Optional<AccountBucketEntity> findForUpdate(
+            @Param("accountId") UUID accountId,
+            @Param("bucketIndex") int bucketIndex
+    );
+
+    @Query("select coalesce(sum(b.balance), 0) from AccountBucketEntity b where b.accountId = :accountId")
+    long sumBalancesByAccountId(@Param("accountId") UUID accountId);
+}
@@ -0,0 +1,29 @@
+package com.wintermindset.transaction_service.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.wintermindset.transaction_service.entity.AccountEntity;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface AccountRepository extends JpaRepository<AccountEntity, UUID> {
+
+    List<AccountEntity> findByOwnerId(UUID ownerId);
+
+    /**
+     * Row locks are taken in primary key order, the same order on every
+     * node, so two transfers over the same accounts cannot deadlock.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from AccountEntity a where a.id in :ids order by a.id")
+    List<AccountEntity> findAllForUpdate(@Param("ids") Collection<UUID> ids);
+}
@@ -0,0 +1,20 @@
+package com.wintermindset.transaction_service.repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.wintermindset.transaction_service.entity.BalanceSnapshotEntity;
+
+@Repository
+public interface BalanceSnapshotRepository extends JpaRepository<BalanceSnapshotEntity, UUID> {
+
+    Optional<BalanceSnapshotEntity> findFirstByAccountIdOrderBySequenceDesc(UUID accountId);
+
+    Optional<BalanceSnapshotEntity> findFirstByAccountIdAndSequenceLessThanEqualOrderBySequenceDesc(
+            UUID accountId,
+            long sequence
+    );
+}
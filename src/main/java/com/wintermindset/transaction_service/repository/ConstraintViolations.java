@@ -0,0 +1,27 @@
+package com.wintermindset.transaction_service.repository;
+
+import java.util.Locale;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+public final class ConstraintViolations {
+
+    private ConstraintViolations() {
+    }
+
+    /**
+     * Matches case-insensitively on a substring: databases report the name
+     * in their own case and some decorate it (H2 appends the index name).
+     */
+    public static boolean isViolationOf(DataIntegrityViolationException exception, String constraintName) {
+        String expected = constraintName.toLowerCase(Locale.ROOT);
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                String actual = violation.getConstraintName();
+                return actual != null && actual.toLowerCase(Locale.ROOT).contains(expected);
+            }
+        }
+        return false;
+    }
+}
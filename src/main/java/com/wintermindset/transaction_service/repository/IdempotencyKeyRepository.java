@@ -0,0 +1,38 @@
+package com.wintermindset.transaction_service.repository;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.wintermindset.transaction_service.entity.IdempotencyKeyEntity;
+import com.wintermindset.transaction_service.enums.idempotency.IdempotencyScope;
+
+@Repository
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKeyEntity, UUID> {
+
+    Optional<IdempotencyKeyEntity> findByScopeAndKey(IdempotencyScope scope, String key);
+
+    /**
+     * Frees a key whose record expired but has not been purged yet.
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            delete from IdempotencyKeyEntity k
+             where k.scope = :scope
+               and k.key = :key
+               and k.expiresAt <= :now
+            """)
+    int deleteExpired(
+            @Param("scope") IdempotencyScope scope,
+            @Param("key") String key,
+            @Param("now") Instant now
+    );
+}
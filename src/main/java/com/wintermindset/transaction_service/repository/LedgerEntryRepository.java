@@ -0,0 +1,47 @@
+package com.wintermindset.transaction_service.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.wintermindset.transaction_service.entity.LedgerEntryEntity;
+
+@Repository
+public interface LedgerEntryRepository extends JpaRepository<LedgerEntryEntity, UUID> {
+
+    List<LedgerEntryEntity> findByAccountIdOrderBySequence(UUID accountId);
+
+    List<LedgerEntryEntity> findByTransferId(UUID transferId);
+
+    @Query("select coalesce(sum(e.amount), 0) from LedgerEntryEntity e where e.accountId = :accountId")
+    long sumAmountsByAccountId(@Param("accountId") UUID accountId);
+
+    /**
+     * Sum of the entries in {@code (afterSequence, upToSequence]}, a range
+     * scan of the {@code (account_id, sequence)} unique index.
+     */
+    @Query("""
+            select coalesce(sum(e.amount), 0)
+              from LedgerEntryEntity e
+             where e.accountId = :accountId
+               and e.sequence > :afterSequence
+               and e.sequence <= :upToSequence
+            """)
+    long sumAmountsBetween(
+            @Param("accountId") UUID accountId,
+            @Param("afterSequence") long afterSequence,
+            @Param("upToSequence") long upToSequence
+    );
+
+    List<LedgerEntryEntity> findByAccountIdAndSequenceGreaterThanAndSequenceLessThanEqualOrderBySequence(
+            UUID accountId,
+            long afterSequence,
+            long upToSequence,
+            Limit limit
+    );
+}
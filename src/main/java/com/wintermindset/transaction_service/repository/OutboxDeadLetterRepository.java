@@ -0,0 +1,13 @@
+package com.wintermindset.transaction_service.repository;
+
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.wintermindset.transaction_service.entity.OutboxDeadLetterEntity;
+
+/**
+ * Reads only; the relay moves rows here with plain SQL.
+ */
+public interface OutboxDeadLetterRepository extends JpaRepository<OutboxDeadLetterEntity, UUID> {
+}
@@ -0,0 +1,13 @@
+package com.wintermindset.transaction_service.repository;
+
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.wintermindset.transaction_service.entity.OutboxEventEntity;
+
+/**
+ * Writes only; the relay claims and deletes rows with plain SQL.
+ */
+public interface OutboxEventRepository extends JpaRepository<OutboxEventEntity, UUID> {
+}
@@ -0,0 +1,12 @@
+package com.wintermindset.transaction_service.repository;
+
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.wintermindset.transaction_service.entity.TransferEntity;
+
+@Repository
+public interface TransferRepository extends JpaRepository<TransferEntity, UUID> {
+}
@@ -0,0 +1,29 @@
+package com.wintermindset.transaction_service.repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.wintermindset.transaction_service.dto.user.UserListCursor;
+import com.wintermindset.transaction_service.dto.user.UserListFilter;
+import com.wintermindset.transaction_service.projection.user.UserAdminView;
+
+/**
+ * Admin listing in {@code (created_at, id)} order, backed by the index of
+ * the same name.
+ */
+public interface UserListingRepository {
+
+    /**
+     * Seeks past {@code after} instead of skipping rows, so every page costs
+     * the same regardless of depth.
+     *
+     * @param after {@code null} for the first page
+     */
+    List<UserAdminView> findAdminViewsAfter(UserListFilter filter, UserListCursor after, int limit);
+
+    /**
+     * Must be consumed and closed inside a transaction; rows are fetched
+     * {@code fetchSize} at a time through a database cursor.
+     */
+    Stream<UserAdminView> streamAdminViews(UserListFilter filter, int fetchSize);
+}
@@ -0,0 +1,81 @@
+package com.wintermindset.transaction_service.repository;
+
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+
+import com.wintermindset.transaction_service.dto.user.UserListCursor;
+import com.wintermindset.transaction_service.dto.user.UserListFilter;
+import com.wintermindset.transaction_service.projection.user.UserAdminView;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+
+/**
+ * Builds the query from the filters that are actually set, rather than
+ * {@code :param is null or ...} predicates, so the planner sees a plain
+ * range condition on the {@code (created_at, id)} index.
+ */
+class UserListingRepositoryImpl implements UserListingRepository {
+
+    private static final String SELECT = """
+            select new com.wintermindset.transaction_service.projection.user.UserAdminView(
+                   u.id, u.username, u.role, u.active, u.createdAt, u.lastLoginAt,
+                   u.deactivatedAt, u.deactivationReason, u.deactivatedBy)
+              from UserEntity u
+            """;
+    private static final String ORDER = " order by u.createdAt, u.id";
+
+    private final EntityManager entityManager;
+
+    UserListingRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<UserAdminView> findAdminViewsAfter(UserListFilter filter, UserListCursor after, int limit) {
+        TypedQuery<UserAdminView> query = query(filter, after);
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public Stream<UserAdminView> streamAdminViews(UserListFilter filter, int fetchSize) {
+        return query(filter, null)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private TypedQuery<UserAdminView> query(UserListFilter filter, UserListCursor after) {
+        StringJoiner where = new StringJoiner(" and ", " where ", "").setEmptyValue("");
+        if (filter.role() != null) {
+            where.add("u.role = :role");
+        }
+        if (filter.active() != null) {
+            where.add("u.active = :active");
+        }
+        if (filter.deactivationReason() != null) {
+            where.add("u.deactivationReason = :deactivationReason");
+        }
+        if (after != null) {
+            where.add("(u.createdAt, u.id) > (:afterCreatedAt, :afterId)");
+        }
+        TypedQuery<UserAdminView> query = entityManager.createQuery(SELECT + where + ORDER, UserAdminView.class);
+        if (filter.role() != null) {
+            query.setParameter("role", filter.role());
+        }
+        if (filter.active() != null) {
+            query.setParameter("active", filter.active());
+        }
+        if (filter.deactivationReason() != null) {
+            query.setParameter("deactivationReason", filter.deactivationReason());
+        }
+        if (after != null) {
+            query.setParameter("afterCreatedAt", after.createdAt());
+            query.setParameter("afterId", after.id());
+        }
+        return query;
+    }
+}
@@ -1,17 +1,101 @@
 package com.wintermindset.transaction_service.repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.wintermindset.transaction_service.entity.UserEntity;
+import com.wintermindset.transaction_service.enums.user.DeactivationReason;
+import com.wintermindset.transaction_service.enums.user.Role;
+import com.wintermindset.transaction_service.projection.user.UserAuthorization;
+import com.wintermindset.transaction_service.projection.user.UserProfile;
 
+/**
+ * The projection queries select only the columns their record needs. The
+ * results are plain values, not managed entities, so they never enter the
+ * persistence context or take part in dirty checking.
+ */
 @Repository
-public interface UserRepository extends JpaRepository<UserEntity, UUID> {
+public interface UserRepository extends JpaRepository<UserEntity, UUID>, UserListingRepository {
 
     Optional<UserEntity> findByUsername(String username);
 
     boolean existsByUsername(String username);
+
+    @Query("select u.username from UserEntity u where u.username in :usernames")
+    List<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+
+    @Query("""
+            select new com.wintermindset.transaction_service.projection.user.UserProfile(
+                   u.id, u.username, u.role, u.createdAt)
+              from UserEntity u
+             where u.id = :id
+            """)
+    Optional<UserProfile> findProfileById(@Param("id") UUID id);
+
+    @Query("""
+            select new com.wintermindset.transaction_service.projection.user.UserProfile(
+                   u.id, u.username, u.role, u.createdAt)
+              from UserEntity u
+             where u.username = :username
+            """)
+    Optional<UserProfile> findProfileByUsername(@Param("username") String username);
+
+    @Query("""
+            select new com.wintermindset.transaction_service.projection.user.UserAuthorization(
+                   u.id, u.role, u.active)
+              from UserEntity u
+             where u.id = :id
+            """)
+    Optional<UserAuthorization> findAuthorizationById(@Param("id") UUID id);
+
+    /**
+     * Replaces the hash only if it is still the one that was verified, so a
+     * concurrent password change is never overwritten. No other column is
+     * written, so a concurrent deactivation is not undone either.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update UserEntity u
+               set u.passwordHash = :newHash
+             where u.id = :id
+               and u.passwordHash = :verifiedHash
+            """)
+    int replacePasswordHash(
+            @Param("id") UUID id,
+            @Param("verifiedHash") String verifiedHash,
+            @Param("newHash") String newHash
+    );
+
+    /**
+     * Deactivates the user only if still active, touching nothing but the
+     * deactivation columns, so it cannot undo a concurrent change.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update UserEntity u
+               set u.active = false,
+                   u.deactivatedAt = :deactivatedAt,
+                   u.deactivationReason = :reason,
+                   u.deactivatedBy = :deactivatedBy
+             where u.id = :id
+               and u.active = true
+            """)
+    int deactivateIfActive(
+            @Param("id") UUID id,
+            @Param("deactivatedAt") Instant deactivatedAt,
+            @Param("reason") DeactivationReason reason,
+            @Param("deactivatedBy") Role deactivatedBy
+    );
 }
@@ -0,0 +1,11 @@
+package com.wintermindset.transaction_service.security;
+
+import java.util.UUID;
+
+import com.wintermindset.transaction_service.enums.user.Role;
+
+/**
+ * Principal reconstructed from a verified access token.
+ */
+public record AuthenticatedUser(UUID id, String username, Role role) {
+}
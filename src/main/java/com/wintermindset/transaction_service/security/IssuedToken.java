@@ -0,0 +1,6 @@
+package com.wintermindset.transaction_service.security;
+
+import java.time.Instant;
+
+public record IssuedToken(String value, Instant expiresAt) {
+}
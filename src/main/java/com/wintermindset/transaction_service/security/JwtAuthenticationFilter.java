@@ -0,0 +1,84 @@
+package com.wintermindset.transaction_service.security;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.wintermindset.transaction_service.entity.UserEntity;
+import com.wintermindset.transaction_service.enums.user.Role;
+import com.wintermindset.transaction_service.exception.security.InvalidTokenException;
+import com.wintermindset.transaction_service.service.UserService;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Authenticates requests carrying {@code Authorization: Bearer <token>}.
+ * An invalid token leaves the request anonymous; the authorization rules
+ * decide whether that is enough.
+ *
+ * <p>A valid token is only trusted while its user is still active. The
+ * status comes from the user cache, which every deactivation evicts, so a
+ * deactivated user is turned away on the next request rather than when the
+ * token expires, and an active one costs a cache hit.
+ */
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private static final Map<Role, List<GrantedAuthority>> AUTHORITIES = new EnumMap<>(Role.class);
+
+    static {
+        for (Role role : Role.values()) {
+            AUTHORITIES.put(role, List.of(new SimpleGrantedAuthority("ROLE_" + role.name())));
+        }
+    }
+
+    private final JwtService jwtService;
+    private final UserService userService;
+
+    public JwtAuthenticationFilter(JwtService jwtService, UserService userService) {
+        this.jwtService = jwtService;
+        this.userService = userService;
+    }
+
+    @Override
+    protected void doFilterInternal(
+                HttpServletRequest request,
+                HttpServletResponse response,
+                FilterChain filterChain
+    ) throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            try {
+                AuthenticatedUser user = jwtService.verify(header.substring(BEARER_PREFIX.length()).trim());
+                if (!isActive(user)) {
+                    throw new InvalidTokenException("User is no longer active", null, false, false);
+                }
+                SecurityContext context = SecurityContextHolder.createEmptyContext();
+                context.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                        user, null, AUTHORITIES.get(user.role())
+                ));
+                SecurityContextHolder.setContext(context);
+            } catch (InvalidTokenException e) {
+                SecurityContextHolder.clearContext();
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private boolean isActive(AuthenticatedUser user) {
+        return userService.findById(user.id()).map(UserEntity::isActive).orElse(false);
+    }
+}
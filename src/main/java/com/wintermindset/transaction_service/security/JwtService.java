@@ -0,0 +1,117 @@
+package com.wintermindset.transaction_service.security;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+
+import javax.crypto.SecretKey;
+
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.wintermindset.transaction_service.config.JwtProperties;
+import com.wintermindset.transaction_service.entity.UserEntity;
+import com.wintermindset.transaction_service.enums.user.Role;
+import com.wintermindset.transaction_service.exception.security.InvalidTokenException;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Issues and verifies HMAC-signed access tokens. Verification is stateless:
+ * the principal is rebuilt from the claims without touching the database.
+ * Whether the user is still active is checked separately, by
+ * {@link JwtAuthenticationFilter}.
+ *
+ * <p>The key and parser are built once. Verified tokens are cached until
+ * they expire, so a client repeating its bearer token pays for one signature
+ * check and then a hash lookup per request.
+ */
+@Service
+public class JwtService {
+
+    private static final String USERNAME_CLAIM = "username";
+    private static final String ROLE_CLAIM = "role";
+
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final String issuer;
+    private final Duration accessTokenTtl;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    public JwtService(JwtProperties properties, MeterRegistry meterRegistry) {
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(properties.secret()));
+        this.issuer = properties.issuer();
+        this.accessTokenTtl = properties.accessTokenTtl();
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .requireIssuer(issuer)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(properties.verifiedTokenCacheSize())
+                .expireAfter(Expiry.creating((String token, VerifiedToken verified) ->
+                        Duration.between(Instant.now(), verified.expiresAt())))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt.verified-tokens");
+    }
+
+    public IssuedToken issue(UserEntity user) {
+        Instant issuedAt = Instant.now();
+        Instant expiresAt = issuedAt.plus(accessTokenTtl);
+        String token = Jwts.builder()
+                .issuer(issuer)
+                .subject(user.getId().toString())
+                .claim(USERNAME_CLAIM, user.getUsername())
+                .claim(ROLE_CLAIM, user.getRole().name())
+                .issuedAt(Date.from(issuedAt))
+                .expiration(Date.from(expiresAt))
+                .signWith(signingKey)
+                .compact();
+        return new IssuedToken(token, expiresAt);
+    }
+
+    /**
+     * Rejections carry no stack trace: forged and expired tokens are routine
+     * traffic, not programming errors.
+     */
+    public AuthenticatedUser verify(String token) {
+        VerifiedToken cached = verifiedTokens.getIfPresent(token);
+        if (cached != null) {
+            return cached.user();
+        }
+        Claims claims;
+        try {
+            claims = parser.parseSignedClaims(token).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new InvalidTokenException(e.getMessage(), null, false, false);
+        }
+        VerifiedToken verified = new VerifiedToken(toUser(claims), claims.getExpiration().toInstant());
+        verifiedTokens.put(token, verified);
+        return verified.user();
+    }
+
+    private static AuthenticatedUser toUser(Claims claims) {
+        try {
+            return new AuthenticatedUser(
+                    UUID.fromString(claims.getSubject()),
+                    claims.get(USERNAME_CLAIM, String.class),
+                    Role.valueOf(claims.get(ROLE_CLAIM, String.class))
+            );
+        } catch (RuntimeException e) {
+            throw new InvalidTokenException("Malformed token claims", null, false, false);
+        }
+    }
+
+    private record VerifiedToken(AuthenticatedUser user, Instant expiresAt) {
+    }
+}
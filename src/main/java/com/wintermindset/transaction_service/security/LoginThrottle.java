@@ -0,0 +1,98 @@
+package com.wintermindset.transaction_service.security;
+
+import java.security.SecureRandom;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.wintermindset.transaction_service.config.LoginThrottleProperties;
+import com.wintermindset.transaction_service.exception.security.LoginThrottledException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Caps login attempts per username and per client address before any
+ * password is hashed, and tracks failures per username for escalation.
+ *
+ * <p>All counters are fixed-size {@link SlidingWindowCounter}s: memory does
+ * not grow with the number of distinct keys, at the cost of occasional
+ * overcounting when keys collide.
+ */
+@Component
+public class LoginThrottle {
+
+    private final boolean enabled;
+    private final int maxAttemptsPerUsername;
+    private final int maxAttemptsPerAddress;
+    private final int escalationThreshold;
+    private final SlidingWindowCounter usernameAttempts;
+    private final SlidingWindowCounter addressAttempts;
+    private final SlidingWindowCounter usernameFailures;
+
+    private final Counter usernameRejections;
+    private final Counter addressRejections;
+
+    @Autowired
+    public LoginThrottle(LoginThrottleProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    LoginThrottle(LoginThrottleProperties properties, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        SecureRandom random = new SecureRandom();
+        long window = properties.window().toNanos();
+        this.enabled = properties.enabled();
+        this.maxAttemptsPerUsername = properties.maxAttemptsPerUsername();
+        this.maxAttemptsPerAddress = properties.maxAttemptsPerAddress();
+        this.escalationThreshold = properties.escalationThreshold();
+        this.usernameAttempts = new SlidingWindowCounter(
+                properties.counterSlots(), window, random.nextLong(), nanoClock
+        );
+        this.addressAttempts = new SlidingWindowCounter(
+                properties.counterSlots(), window, random.nextLong(), nanoClock
+        );
+        this.usernameFailures = new SlidingWindowCounter(
+                properties.counterSlots(), properties.escalationWindow().toNanos(), random.nextLong(), nanoClock
+        );
+        this.usernameRejections = Counter.builder("login.throttle.rejected")
+                .tag("key", "username")
+                .register(meterRegistry);
+        this.addressRejections = Counter.builder("login.throttle.rejected")
+                .tag("key", "address")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Counts an attempt. An address over its limit is rejected before the
+     * username is charged, so a single noisy client cannot lock out the
+     * accounts it targets.
+     *
+     * @param clientAddress may be {@code null} when unknown
+     * @throws LoginThrottledException if either limit is exceeded
+     */
+    public void acquire(String username, String clientAddress) {
+        if (!enabled) {
+            return;
+        }
+        if (clientAddress != null && addressAttempts.incrementAndGet(clientAddress) > maxAttemptsPerAddress) {
+            addressRejections.increment();
+            throw new LoginThrottledException("Too many login attempts from this address", null, false, false);
+        }
+        if (usernameAttempts.incrementAndGet(username) > maxAttemptsPerUsername) {
+            usernameRejections.increment();
+            throw new LoginThrottledException("Too many login attempts for this user", null, false, false);
+        }
+    }
+
+    /**
+     * @return {@code true} once the username has failed often enough to be
+     *         deactivated
+     */
+    public boolean recordFailure(String username) {
+        if (!enabled || escalationThreshold == 0) {
+            return false;
+        }
+        return usernameFailures.incrementAndGet(username) >= escalationThreshold;
+    }
+}
@@ -0,0 +1,124 @@
+package com.wintermindset.transaction_service.security;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.wintermindset.transaction_service.config.PasswordEncodingProperties;
+import com.wintermindset.transaction_service.enums.security.PasswordEncodingAlgorithm;
+
+/**
+ * Builds the application {@link PasswordEncoder}: a delegating encoder that
+ * prefixes every hash with its algorithm id and whose work factor is measured
+ * on the current host.
+ *
+ * <p>Hashes written by an older algorithm or a lower work factor still match,
+ * and {@link PasswordEncoder#upgradeEncoding(String)} reports them as stale.
+ * Legacy hashes without a prefix are treated as BCrypt.
+ */
+public final class PasswordEncoderCalibrator {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordEncoderCalibrator.class);
+
+    private static final String SAMPLE_PASSWORD = "Calibr4tion!Sample";
+    private static final int SALT_LENGTH = 16;
+    private static final int HASH_LENGTH = 32;
+    private static final int WARM_UP_ROUNDS = 2;
+    private static final int MEASURED_ROUNDS = 3;
+
+    private PasswordEncoderCalibrator() {
+    }
+
+    public static PasswordEncoder calibrated(PasswordEncodingProperties properties) {
+        BCryptPasswordEncoder bcrypt;
+        Argon2PasswordEncoder argon2;
+        if (properties.algorithm() == PasswordEncodingAlgorithm.ARGON2) {
+            int iterations = argon2Iterations(properties);
+            argon2 = argon2(properties, iterations);
+            bcrypt = new BCryptPasswordEncoder(properties.bcryptMinStrength());
+            log.info("Password encoding: argon2, memory={}KiB, iterations={}, parallelism={}",
+                    properties.argon2MemoryKib(), iterations, properties.argon2Parallelism());
+        } else {
+            int strength = bcryptStrength(properties);
+            bcrypt = new BCryptPasswordEncoder(strength);
+            argon2 = argon2(properties, properties.argon2MinIterations());
+            log.info("Password encoding: bcrypt, strength={}", strength);
+        }
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(
+                properties.algorithm().id(),
+                Map.of(
+                        PasswordEncodingAlgorithm.BCRYPT.id(), bcrypt,
+                        PasswordEncodingAlgorithm.ARGON2.id(), argon2
+                )
+        );
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
+    }
+
+    /**
+     * BCrypt cost doubles with every strength step, so one measurement at the
+     * minimum strength is enough to extrapolate.
+     */
+    static int bcryptStrength(PasswordEncodingProperties properties) {
+        int min = properties.bcryptMinStrength();
+        int max = properties.bcryptMaxStrength();
+        if (min == max) {
+            return min;
+        }
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(min);
+        long measured = medianNanos(() -> probe.encode(SAMPLE_PASSWORD));
+        long target = properties.targetLatency().toNanos();
+        int strength = min;
+        while (strength < max && measured * 2 <= target) {
+            measured *= 2;
+            strength++;
+        }
+        return strength;
+    }
+
+    /**
+     * Argon2 cost grows linearly with iterations at fixed memory.
+     */
+    static int argon2Iterations(PasswordEncodingProperties properties) {
+        int min = properties.argon2MinIterations();
+        int max = properties.argon2MaxIterations();
+        if (min == max) {
+            return min;
+        }
+        Argon2PasswordEncoder probe = argon2(properties, min);
+        long perIteration = Math.max(1, medianNanos(() -> probe.encode(SAMPLE_PASSWORD)) / min);
+        long iterations = properties.targetLatency().toNanos() / perIteration;
+        return Math.clamp(iterations, min, max);
+    }
+
+    private static Argon2PasswordEncoder argon2(PasswordEncodingProperties properties, int iterations) {
+        return new Argon2PasswordEncoder(
+                SALT_LENGTH,
+                HASH_LENGTH,
+                properties.argon2Parallelism(),
+                properties.argon2MemoryKib(),
+                iterations
+        );
+    }
+
+    private static long medianNanos(Supplier<String> hash) {
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            hash.get();
+        }
+        long[] samples = new long[MEASURED_ROUNDS];
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            hash.get();
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[MEASURED_ROUNDS / 2];
+    }
+}
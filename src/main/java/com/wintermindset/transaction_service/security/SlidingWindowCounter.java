@@ -0,0 +1,128 @@
+package com.wintermindset.transaction_service.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Approximate per-key event counts over a sliding window in fixed memory.
+ *
+ * <p>Keys are hashed into two rows of slots, count-min style: collisions can
+ * only overestimate, and the smaller of the two readings is used. Each slot
+ * is one long packing the window number with the counts of the current and
+ * previous window, updated by CAS. The sliding count weights the previous
+ * window by how much of it still overlaps.
+ */
+final class SlidingWindowCounter {
+
+    private static final long COUNT_MASK = 0xFFFF;
+    private static final long EPOCH_MASK = 0xFFFF_FFFFL;
+    private static final int ROWS = 2;
+
+    private final AtomicLongArray slots;
+    private final int slotMask;
+    private final long windowNanos;
+    private final long origin;
+    private final long seed;
+    private final LongSupplier nanoClock;
+
+    SlidingWindowCounter(int slotsPerRow, long windowNanos, long seed, LongSupplier nanoClock) {
+        this.slots = new AtomicLongArray(slotsPerRow * ROWS);
+        this.slotMask = slotsPerRow - 1;
+        this.windowNanos = windowNanos;
+        this.seed = seed;
+        this.nanoClock = nanoClock;
+        this.origin = nanoClock.getAsLong();
+    }
+
+    /**
+     * @return the sliding count including this event
+     */
+    int incrementAndGet(CharSequence key) {
+        long hash = hash(key);
+        long now = nanoClock.getAsLong() - origin;
+        long epoch = epoch(now);
+        double previousWeight = previousWeight(now);
+        int first = increment((int) hash & slotMask, epoch, previousWeight);
+        int second = increment(slotMask + 1 + ((int) (hash >>> 32) & slotMask), epoch, previousWeight);
+        return Math.min(first, second);
+    }
+
+    int get(CharSequence key) {
+        long hash = hash(key);
+        long now = nanoClock.getAsLong() - origin;
+        long epoch = epoch(now);
+        double previousWeight = previousWeight(now);
+        int first = read(slots.get((int) hash & slotMask), epoch, previousWeight);
+        int second = read(slots.get(slotMask + 1 + ((int) (hash >>> 32) & slotMask)), epoch, previousWeight);
+        return Math.min(first, second);
+    }
+
+    private int increment(int index, long epoch, double previousWeight) {
+        while (true) {
+            long packed = slots.get(index);
+            long slotEpoch = packed >>> 32;
+            long current;
+            long previous;
+            if (slotEpoch == epoch) {
+                current = packed & COUNT_MASK;
+                previous = (packed >>> 16) & COUNT_MASK;
+            } else if (slotEpoch == ((epoch - 1) & EPOCH_MASK)) {
+                current = 0;
+                previous = packed & COUNT_MASK;
+            } else {
+                current = 0;
+                previous = 0;
+            }
+            current = Math.min(current + 1, COUNT_MASK);
+            long updated = epoch << 32 | previous << 16 | current;
+            if (slots.compareAndSet(index, packed, updated)) {
+                return estimate(current, previous, previousWeight);
+            }
+        }
+    }
+
+    private static int read(long packed, long epoch, double previousWeight) {
+        long slotEpoch = packed >>> 32;
+        if (slotEpoch == epoch) {
+            return estimate(packed & COUNT_MASK, (packed >>> 16) & COUNT_MASK, previousWeight);
+        }
+        if (slotEpoch == ((epoch - 1) & EPOCH_MASK)) {
+            return estimate(0, packed & COUNT_MASK, previousWeight);
+        }
+        return 0;
+    }
+
+    private static int estimate(long current, long previous, double previousWeight) {
+        return (int) (current + previous * previousWeight);
+    }
+
+    /**
+     * Offset by two so an untouched slot (epoch zero) never reads as the
+     * current or previous window.
+     */
+    private long epoch(long now) {
+        return (now / windowNanos + 2) & EPOCH_MASK;
+    }
+
+    private double previousWeight(long now) {
+        return 1.0 - (double) (now % windowNanos) / windowNanos;
+    }
+
+    /**
+     * Seeded per instance so colliding keys cannot be precomputed to lock
+     * out somebody else.
+     */
+    private long hash(CharSequence key) {
+        long hash = seed;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,118 @@
+package com.wintermindset.transaction_service.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.wintermindset.transaction_service.entity.AccountBucketEntity;
+import com.wintermindset.transaction_service.entity.AccountEntity;
+import com.wintermindset.transaction_service.exception.account.AccountNotFoundException;
+import com.wintermindset.transaction_service.exception.user.UserNotFoundException;
+import com.wintermindset.transaction_service.repository.AccountBucketRepository;
+import com.wintermindset.transaction_service.repository.AccountRepository;
+import com.wintermindset.transaction_service.repository.UserRepository;
+
+@Service
+public class AccountService {
+
+    private final AccountRepository accountRepository;
+    private final AccountBucketRepository bucketRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public AccountService(
+                AccountRepository accountRepository,
+                AccountBucketRepository bucketRepository,
+                UserRepository userRepository,
+                PlatformTransactionManager transactionManager
+    ) {
+        this.accountRepository = accountRepository;
+        this.bucketRepository = bucketRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Opens a customer account with a zero balance; funds arrive by transfer.
+     */
+    public AccountEntity openAccount(UUID ownerId, String currency, Instant openedAt) {
+        return open(ownerId, currency, false, openedAt);
+    }
+
+    /**
+     * Opens an account allowed to go negative, used as the counterparty for
+     * money entering or leaving the ledger.
+     */
+    public AccountEntity openSystemAccount(UUID ownerId, String currency, Instant openedAt) {
+        return open(ownerId, currency, true, openedAt);
+    }
+
+    /**
+     * Opens a customer account that takes credits on {@code bucketCount}
+     * rows in parallel, for merchants and other accounts most transfers pay into.
+     */
+    public AccountEntity openBucketedAccount(UUID ownerId, String currency, int bucketCount, Instant openedAt) {
+        AccountEntity account = open(ownerId, currency, false, openedAt);
+        return splitIntoBuckets(account.getId(), bucketCount);
+    }
+
+    /**
+     * Switches an existing account to bucketed mode; its balance moves to
+     * the first bucket. Cannot be undone.
+     */
+    public AccountEntity splitIntoBuckets(UUID accountId, int bucketCount) {
+        Objects.requireNonNull(accountId, "Account ID must not be null");
+        return transactionTemplate.execute(status -> {
+            AccountEntity account = accountRepository.findAllForUpdate(List.of(accountId)).stream()
+                    .findFirst()
+                    .orElseThrow(() -> new AccountNotFoundException("Account not found with ID: " + accountId));
+            long balance = account.splitIntoBuckets(bucketCount);
+            List<AccountBucketEntity> buckets = new ArrayList<>(bucketCount);
+            for (int i = 0; i < bucketCount; i++) {
+                buckets.add(new AccountBucketEntity(accountId, i, i == 0 ? balance : 0));
+            }
+            bucketRepository.saveAll(buckets);
+            return account;
+        });
+    }
+
+    /**
+     * The account's balance whatever its mode: the row's own balance, or
+     * the sum of its buckets.
+     */
+    public long getBalance(UUID accountId) {
+        AccountEntity account = getAccount(accountId);
+        return account.isBucketed() ? bucketRepository.sumBalancesByAccountId(accountId) : account.getBalance();
+    }
+
+    /**
+     * For a bucketed account the returned row carries no balance; use
+     * {@link #getBalance(UUID)}.
+     */
+    public AccountEntity getAccount(UUID accountId) {
+        Objects.requireNonNull(accountId, "Account ID must not be null");
+        return accountRepository.findById(accountId)
+                .orElseThrow(() -> new AccountNotFoundException("Account not found with ID: " + accountId));
+    }
+
+    public List<AccountEntity> findByOwner(UUID ownerId) {
+        Objects.requireNonNull(ownerId, "Owner ID must not be null");
+        return accountRepository.findByOwnerId(ownerId);
+    }
+
+    private AccountEntity open(UUID ownerId, String currency, boolean overdraftAllowed, Instant openedAt) {
+        Objects.requireNonNull(ownerId, "Owner ID must not be null");
+        Objects.requireNonNull(currency, "Currency must not be null");
+        Objects.requireNonNull(openedAt, "Opening time must not be null");
+        if (!userRepository.existsById(ownerId)) {
+            throw new UserNotFoundException("User not found with ID: " + ownerId);
+        }
+        return accountRepository.save(new AccountEntity(ownerId, currency, overdraftAllowed, openedAt));
+    }
+}
@@ -0,0 +1,200 @@
+package com.wintermindset.transaction_service.service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.wintermindset.transaction_service.config.BalanceSnapshotProperties;
+import com.wintermindset.transaction_service.entity.AccountBucketEntity;
+import com.wintermindset.transaction_service.entity.AccountEntity;
+import com.wintermindset.transaction_service.entity.BalanceSnapshotEntity;
+import com.wintermindset.transaction_service.repository.AccountBucketRepository;
+import com.wintermindset.transaction_service.repository.AccountRepository;
+import com.wintermindset.transaction_service.repository.BalanceSnapshotRepository;
+import com.wintermindset.transaction_service.repository.LedgerEntryRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Takes incremental {@link BalanceSnapshotEntity balance snapshots}: each
+ * new snapshot is the previous one plus the entries since, so no run ever
+ * rescans an account's history.
+ *
+ * <p>A snapshot only covers the settled prefix of the ledger, the entries
+ * below which no new sequence can appear. For an ordinary account that is
+ * its entry sequence, committed together with its entries. A bucketed
+ * account interleaves sequences across buckets, so the prefix ends just
+ * before the lowest sequence any bucket will assign next. So that a bucket
+ * without traffic does not hold that prefix back for good, each run first
+ * {@link AccountBucketEntity#skipPast advances} the buckets that are behind
+ * the highest assigned sequence, locking one bucket at a time for a single
+ * update. Accounts are picked with one keyset-paged query per chunk and each
+ * snapshot is its own short transaction without row locks, so transfers never
+ * wait on it.
+ */
+@Component
+public class BalanceSnapshotCompactor implements SchedulingConfigurer {
+
+    private static final Logger log = LoggerFactory.getLogger(BalanceSnapshotCompactor.class);
+
+    private static final String SELECT_CANDIDATES = """
+            select a.id
+              from accounts a
+             where a.id > :after
+               and (a.bucket_count > 1
+                    or a.entry_sequence - coalesce(
+                           (select max(s.sequence) from balance_snapshots s where s.account_id = a.id), 0
+                       ) >= :minEntries)
+             order by a.id
+             limit :limit
+            """;
+
+    private static final UUID FIRST_KEY = new UUID(0, 0);
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final AccountRepository accountRepository;
+    private final AccountBucketRepository bucketRepository;
+    private final LedgerEntryRepository ledgerEntryRepository;
+    private final BalanceSnapshotRepository snapshotRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BalanceSnapshotProperties properties;
+    private final Counter snapshotsTaken;
+
+    public BalanceSnapshotCompactor(
+                NamedParameterJdbcTemplate jdbcTemplate,
+                AccountRepository accountRepository,
+                AccountBucketRepository bucketRepository,
+                LedgerEntryRepository ledgerEntryRepository,
+                BalanceSnapshotRepository snapshotRepository,
+                PlatformTransactionManager transactionManager,
+                BalanceSnapshotProperties properties,
+                MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.accountRepository = accountRepository;
+        this.bucketRepository = bucketRepository;
+        this.ledgerEntryRepository = ledgerEntryRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.snapshotsTaken = Counter.builder("ledger.snapshots.taken").register(meterRegistry);
+    }
+
+    /**
+     * Compacts every {@code app.ledger.snapshots.interval}.
+     */
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.addFixedDelayTask(this::compactScheduled, properties.interval());
+    }
+
+    private void compactScheduled() {
+        if (properties.enabled()) {
+            compact(Instant.now());
+        }
+    }
+
+    /**
+     * @return the number of snapshots taken
+     */
+    public long compact(Instant now) {
+        long taken = 0;
+        UUID after = FIRST_KEY;
+        while (!Thread.currentThread().isInterrupted()) {
+            List<UUID> candidates = jdbcTemplate.queryForList(
+                    SELECT_CANDIDATES,
+                    Map.of("after", after, "minEntries", properties.minEntries(), "limit", properties.chunkSize()),
+                    UUID.class
+            );
+            for (UUID accountId : candidates) {
+                advanceIdleBuckets(accountId);
+                if (snapshot(accountId, now)) {
+                    taken++;
+                }
+            }
+            if (candidates.size() < properties.chunkSize()) {
+                break;
+            }
+            after = candidates.getLast();
+        }
+        if (taken > 0) {
+            snapshotsTaken.increment(taken);
+            log.info("Took {} balance snapshots", taken);
+        }
+        return taken;
+    }
+
+    private void advanceIdleBuckets(UUID accountId) {
+        AccountEntity account = accountRepository.findById(accountId).orElse(null);
+        if (account == null || !account.isBucketed()) {
+            return;
+        }
+        long sequenceBase = account.getEntrySequence();
+        int bucketCount = account.getBucketCount();
+        List<AccountBucketEntity> buckets = bucketRepository.findByAccountIdOrderByBucketIndex(accountId);
+        long lastAssigned = AccountBucketEntity.lastAssignedSequence(sequenceBase, bucketCount, buckets);
+        for (AccountBucketEntity bucket : buckets) {
+            long next = AccountBucketEntity.entrySequence(
+                    sequenceBase, bucketCount, bucket.getBucketIndex(), bucket.getEntrySequence() + 1
+            );
+            if (next < lastAssigned) {
+                transactionTemplate.executeWithoutResult(status -> bucketRepository
+                        .findForUpdate(accountId, bucket.getBucketIndex())
+                        .ifPresent(locked -> locked.skipPast(sequenceBase, bucketCount, lastAssigned)));
+            }
+        }
+    }
+
+    private boolean snapshot(UUID accountId, Instant now) {
+        try {
+            return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                AccountEntity account = accountRepository.findById(accountId).orElse(null);
+                if (account == null) {
+                    return false;
+                }
+                long settled = settledSequence(account);
+                long fromSequence = 0;
+                long fromBalance = 0;
+                BalanceSnapshotEntity latest = snapshotRepository
+                        .findFirstByAccountIdOrderBySequenceDesc(accountId)
+                        .orElse(null);
+                if (latest != null) {
+                    fromSequence = latest.getSequence();
+                    fromBalance = latest.getBalance();
+                }
+                if (settled - fromSequence < properties.minEntries()) {
+                    return false;
+                }
+                long balance = fromBalance + ledgerEntryRepository.sumAmountsBetween(accountId, fromSequence, settled);
+                snapshotRepository.saveAndFlush(new BalanceSnapshotEntity(accountId, settled, balance, now));
+                return true;
+            }));
+        } catch (DataIntegrityViolationException e) {
+            // another node took the same snapshot
+            return false;
+        }
+    }
+
+    private long settledSequence(AccountEntity account) {
+        if (!account.isBucketed()) {
+            return account.getEntrySequence();
+        }
+        return AccountBucketEntity.settledSequence(
+                account.getEntrySequence(),
+                account.getBucketCount(),
+                bucketRepository.findByAccountIdOrderByBucketIndex(account.getId())
+        );
+    }
+}
@@ -0,0 +1,208 @@
+package com.wintermindset.transaction_service.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.wintermindset.transaction_service.config.IdempotencyProperties;
+import com.wintermindset.transaction_service.dto.idempotency.IdempotentRequest;
+import com.wintermindset.transaction_service.entity.IdempotencyKeyEntity;
+import com.wintermindset.transaction_service.enums.idempotency.IdempotencyScope;
+import com.wintermindset.transaction_service.exception.idempotency.IdempotencyKeyConflictException;
+import com.wintermindset.transaction_service.repository.IdempotencyKeyRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Remembers which resource an idempotency key produced, so a retried
+ * request gets the original result instead of running again.
+ *
+ * <p>The {@code idempotency_keys} table is the source of truth: its row is
+ * inserted in the same transaction as the resource, and its unique
+ * {@code (scope, idempotency_key)} constraint decides between concurrent
+ * retries. Committed outcomes are also kept in a bounded in-memory hot tier
+ * until they expire, so repeated retries are answered without a query. A
+ * key that was never seen costs one indexed lookup.
+ */
+@Service
+public class IdempotencyService implements SchedulingConfigurer {
+
+    private static final String SELECT_EXPIRED = """
+            select id
+              from idempotency_keys
+             where expires_at <= :now
+             order by expires_at
+             limit :limit
+            """;
+
+    private static final String DELETE_EXPIRED = """
+            delete from idempotency_keys
+             where id in (:ids)
+               and expires_at <= :now
+            """;
+
+    private final IdempotencyKeyRepository repository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration timeToLive;
+    private final Duration purgeInterval;
+    private final int purgeChunkSize;
+    private final Cache<HotKey, Outcome> hotTier;
+
+    public IdempotencyService(
+                IdempotencyKeyRepository repository,
+                NamedParameterJdbcTemplate jdbcTemplate,
+                PlatformTransactionManager transactionManager,
+                IdempotencyProperties properties,
+                MeterRegistry meterRegistry
+    ) {
+        this.repository = repository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.timeToLive = properties.timeToLive();
+        this.purgeInterval = properties.purgeInterval();
+        this.purgeChunkSize = properties.purgeChunkSize();
+        this.hotTier = Caffeine.newBuilder()
+                .maximumSize(properties.hotTierSize())
+                .expireAfter(Expiry.creating((HotKey key, Outcome outcome) ->
+                        Duration.between(Instant.now(), outcome.expiresAt())))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, hotTier, "idempotency.keys");
+    }
+
+    /**
+     * @return the resource created by an earlier request with this key, if
+     *         that request completed and has not expired
+     * @throws IdempotencyKeyConflictException if the key was used for a
+     *         different request
+     */
+    public Optional<UUID> find(IdempotentRequest request) {
+        HotKey hotKey = new HotKey(request.scope(), request.key());
+        Outcome outcome = hotTier.getIfPresent(hotKey);
+        if (outcome == null) {
+            Optional<IdempotencyKeyEntity> stored = repository.findByScopeAndKey(request.scope(), request.key());
+            if (stored.isEmpty()) {
+                return Optional.empty();
+            }
+            Instant now = Instant.now();
+            if (!stored.get().getExpiresAt().isAfter(now)) {
+                repository.deleteExpired(request.scope(), request.key(), now);
+                return Optional.empty();
+            }
+            outcome = Outcome.of(stored.get());
+            hotTier.put(hotKey, outcome);
+        }
+        if (!outcome.fingerprint().equals(request.fingerprint())) {
+            throw new IdempotencyKeyConflictException(
+                    "Idempotency key was already used for a different request: " + request.key()
+            );
+        }
+        return Optional.of(outcome.resourceId());
+    }
+
+    /**
+     * Runs {@code action} and records its outcome under the key in one
+     * transaction. If a concurrent request with the same key committed
+     * first, this attempt is rolled back and the winner's resource is
+     * returned through {@code replay}. Must not be called inside another
+     * transaction, which could not survive the rollback.
+     */
+    public <T> T record(
+                IdempotentRequest request,
+                Supplier<T> action,
+                Function<T, UUID> resourceIdOf,
+                Function<UUID, T> replay
+    ) {
+        try {
+            return transactionTemplate.execute(status -> {
+                T result = action.get();
+                remember(request, resourceIdOf.apply(result));
+                return result;
+            });
+        } catch (DataIntegrityViolationException e) {
+            return find(request).map(replay).orElseThrow(() -> e);
+        }
+    }
+
+    private void remember(IdempotentRequest request, UUID resourceId) {
+        Instant now = Instant.now();
+        IdempotencyKeyEntity stored = repository.saveAndFlush(new IdempotencyKeyEntity(
+                request.scope(), request.key(), request.fingerprint(), resourceId, now, now.plus(timeToLive)
+        ));
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                hotTier.put(new HotKey(request.scope(), request.key()), Outcome.of(stored));
+            }
+        });
+    }
+
+    /**
+     * Purges every {@code app.idempotency.purge-interval}.
+     */
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.addFixedDelayTask(this::purgeScheduled, purgeInterval);
+    }
+
+    private void purgeScheduled() {
+        purgeExpired(Instant.now());
+    }
+
+    /**
+     * Deletes expired keys in chunks, each its own short statement.
+     *
+     * @return the number of keys deleted
+     */
+    public long purgeExpired(Instant now) {
+        OffsetDateTime cutoff = now.atOffset(ZoneOffset.UTC);
+        long total = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            List<UUID> ids = jdbcTemplate.queryForList(
+                    SELECT_EXPIRED,
+                    Map.of("now", cutoff, "limit", purgeChunkSize),
+                    UUID.class
+            );
+            if (ids.isEmpty()) {
+                break;
+            }
+            total += jdbcTemplate.update(DELETE_EXPIRED, Map.of("ids", ids, "now", cutoff));
+            if (ids.size() < purgeChunkSize) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    private record HotKey(IdempotencyScope scope, String key) {
+    }
+
+    private record Outcome(String fingerprint, UUID resourceId, Instant expiresAt) {
+
+        static Outcome of(IdempotencyKeyEntity stored) {
+            return new Outcome(stored.getFingerprint(), stored.getResourceId(), stored.getExpiresAt());
+        }
+    }
+}
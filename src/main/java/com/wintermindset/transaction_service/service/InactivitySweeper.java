@@ -0,0 +1,240 @@
+package com.wintermindset.transaction_service.service;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.wintermindset.transaction_service.cache.UserCache;
+import com.wintermindset.transaction_service.config.InactivitySweepProperties;
+import com.wintermindset.transaction_service.dto.outbox.UserDeactivatedEvent;
+import com.wintermindset.transaction_service.enums.user.DeactivationReason;
+import com.wintermindset.transaction_service.enums.user.Role;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Deactivates users with {@link DeactivationReason#INACTIVITY} in chunks.
+ *
+ * <p>Each chunk selects ids through an index ({@code last_login_at, id}, or
+ * {@code created_at, id} for users who never logged in), resuming after the
+ * last key the previous chunk saw, so a sweep reads each stale row once
+ * instead of stepping over the rows it already deactivated on every chunk.
+ * It then deactivates them with one UPDATE that sets every audit column
+ * {@code validateState} requires. The UPDATE repeats the staleness check,
+ * so a user who logs in between the two statements is left alone. No
+ * progress is stored across sweeps: a restarted sweep picks up whatever is
+ * still active and stale.
+ *
+ * <p>A chunk's UPDATE and its outbox events commit together; the ids that
+ * were actually deactivated are read back by their audit columns, since the
+ * UPDATE may skip some of the selected rows.
+ */
+@Component
+public class InactivitySweeper implements SchedulingConfigurer {
+
+    private static final Logger log = LoggerFactory.getLogger(InactivitySweeper.class);
+
+    private static final ChunkQuery STALE_LOGINS = new ChunkQuery("""
+            select id, last_login_at as sort_key
+              from users
+             where active = true
+               and last_login_at < :cutoff
+             order by last_login_at, id
+             limit :limit
+            """, """
+            select id, last_login_at as sort_key
+              from users
+             where active = true
+               and last_login_at < :cutoff
+               and (last_login_at > :afterKey or (last_login_at = :afterKey and id > :afterId))
+             order by last_login_at, id
+             limit :limit
+            """);
+
+    private static final ChunkQuery NEVER_LOGGED_IN = new ChunkQuery("""
+            select id, created_at as sort_key
+              from users
+             where active = true
+               and last_login_at is null
+               and created_at < :cutoff
+             order by created_at, id
+             limit :limit
+            """, """
+            select id, created_at as sort_key
+              from users
+             where active = true
+               and last_login_at is null
+               and created_at < :cutoff
+               and (created_at > :afterKey or (created_at = :afterKey and id > :afterId))
+             order by created_at, id
+             limit :limit
+            """);
+
+    private static final RowMapper<ChunkKey> CHUNK_KEY = (rs, rowNum) -> new ChunkKey(
+            rs.getObject("id", UUID.class),
+            rs.getObject("sort_key", OffsetDateTime.class)
+    );
+
+    private static final String DEACTIVATE = """
+            update users
+               set active = false,
+                   deactivated_at = :now,
+                   deactivation_reason = :reason,
+                   deactivated_by = :deactivatedBy
+             where id in (:ids)
+               and active = true
+               and coalesce(last_login_at, created_at) < :cutoff
+            """;
+
+    private static final String SELECT_DEACTIVATED = """
+            select id
+              from users
+             where id in (:ids)
+               and deactivated_at = :now
+               and deactivation_reason = :reason
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final LastLoginTracker lastLoginTracker;
+    private final UserCache userCache;
+    private final OutboxService outboxService;
+    private final TransactionTemplate transactionTemplate;
+    private final InactivitySweepProperties properties;
+    private final Counter deactivated;
+
+    public InactivitySweeper(
+                NamedParameterJdbcTemplate jdbcTemplate,
+                LastLoginTracker lastLoginTracker,
+                UserCache userCache,
+                OutboxService outboxService,
+                PlatformTransactionManager transactionManager,
+                InactivitySweepProperties properties,
+                MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.lastLoginTracker = lastLoginTracker;
+        this.userCache = userCache;
+        this.outboxService = outboxService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.deactivated = Counter.builder("users.inactivity.deactivated").register(meterRegistry);
+    }
+
+    /**
+     * Sweeps on the {@code app.users.inactivity.cron} schedule.
+     */
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.addCronTask(this::sweepScheduled, properties.cron());
+    }
+
+    private void sweepScheduled() {
+        if (properties.enabled()) {
+            sweep(Instant.now());
+        }
+    }
+
+    /**
+     * @return the number of users deactivated
+     */
+    public long sweep(Instant now) {
+        lastLoginTracker.flush();
+        OffsetDateTime cutoff = now.minus(properties.inactiveAfter()).atOffset(ZoneOffset.UTC);
+        // the precision the column keeps, so the chunk can find its rows again
+        OffsetDateTime deactivatedAt = now.truncatedTo(ChronoUnit.MICROS).atOffset(ZoneOffset.UTC);
+        long total = sweep(STALE_LOGINS, cutoff, deactivatedAt)
+                + sweep(NEVER_LOGGED_IN, cutoff, deactivatedAt);
+        if (total > 0) {
+            log.info("Deactivated {} users inactive since before {}", total, cutoff);
+        }
+        return total;
+    }
+
+    private long sweep(ChunkQuery query, OffsetDateTime cutoff, OffsetDateTime deactivatedAt) {
+        long total = 0;
+        ChunkKey after = null;
+        while (!Thread.currentThread().isInterrupted()) {
+            List<ChunkKey> keys = after == null
+                    ? jdbcTemplate.query(
+                            query.first(),
+                            Map.of("cutoff", cutoff, "limit", properties.chunkSize()),
+                            CHUNK_KEY)
+                    : jdbcTemplate.query(
+                            query.next(),
+                            Map.of("cutoff", cutoff, "limit", properties.chunkSize(),
+                                    "afterKey", after.sortKey(), "afterId", after.id()),
+                            CHUNK_KEY);
+            if (keys.isEmpty()) {
+                break;
+            }
+            after = keys.getLast();
+            List<UUID> ids = keys.stream().map(ChunkKey::id).toList();
+            int updated = transactionTemplate.execute(status -> deactivate(ids, cutoff, deactivatedAt));
+            userCache.evictAll(ids);
+            deactivated.increment(updated);
+            total += updated;
+            if (ids.size() < properties.chunkSize()) {
+                break;
+            }
+            pause();
+        }
+        return total;
+    }
+
+    private int deactivate(List<UUID> ids, OffsetDateTime cutoff, OffsetDateTime deactivatedAt) {
+        int updated = jdbcTemplate.update(DEACTIVATE, Map.of(
+                "now", deactivatedAt,
+                "reason", DeactivationReason.INACTIVITY.name(),
+                "deactivatedBy", Role.ADMIN.name(),
+                "ids", ids,
+                "cutoff", cutoff
+        ));
+        if (updated == 0) {
+            return 0;
+        }
+        List<UUID> deactivatedIds = jdbcTemplate.queryForList(SELECT_DEACTIVATED, Map.of(
+                "ids", ids,
+                "now", deactivatedAt,
+                "reason", DeactivationReason.INACTIVITY.name()
+        ), UUID.class);
+        for (UUID id : deactivatedIds) {
+            outboxService.userDeactivated(new UserDeactivatedEvent(
+                    id, DeactivationReason.INACTIVITY, Role.ADMIN, deactivatedAt.toInstant()
+            ));
+        }
+        return updated;
+    }
+
+    /**
+     * @param first the first chunk of a sweep
+     * @param next every later chunk, starting after {@code :afterKey, :afterId}
+     */
+    private record ChunkQuery(String first, String next) {
+    }
+
+    private record ChunkKey(UUID id, OffsetDateTime sortKey) {
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(properties.pauseBetweenChunks());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
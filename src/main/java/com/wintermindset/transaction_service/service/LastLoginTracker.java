@@ -0,0 +1,108 @@
+package com.wintermindset.transaction_service.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+import com.wintermindset.transaction_service.config.LastLoginProperties;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Write-behind for {@code users.last_login_at}. Logins only update an
+ * in-memory map, keeping the latest timestamp per user; a scheduled flush
+ * writes them as one JDBC batch.
+ *
+ * <p>The update bypasses Hibernate on purpose: no entity is loaded, no
+ * {@code @PreUpdate} hook runs and the user cache is left alone, so cached
+ * users may show a last login up to one cache TTL old. The {@code <} guard
+ * keeps a late flush from overwriting a newer value written elsewhere.
+ */
+@Component
+public class LastLoginTracker implements SchedulingConfigurer {
+
+    private static final Logger log = LoggerFactory.getLogger(LastLoginTracker.class);
+
+    private static final String UPDATE_SQL = """
+            update users
+               set last_login_at = ?
+             where id = ?
+               and (last_login_at is null or last_login_at < ?)
+            """;
+
+    private final Map<UUID, Instant> pending = new ConcurrentHashMap<>();
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration flushInterval;
+    private final int batchSize;
+
+    public LastLoginTracker(JdbcTemplate jdbcTemplate, LastLoginProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.flushInterval = properties.flushInterval();
+        this.batchSize = properties.batchSize();
+    }
+
+    public void record(UUID userId, Instant loggedInAt) {
+        pending.merge(userId, loggedInAt, (current, next) -> next.isAfter(current) ? next : current);
+    }
+
+    /**
+     * Flushes every {@code app.users.last-login.flush-interval}.
+     */
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.addFixedDelayTask(this::flush, flushInterval);
+    }
+
+    /**
+     * Entries are removed before they are written; a failed batch puts them
+     * back so the next flush retries, unless a newer login replaced them.
+     */
+    public void flush() {
+        List<Map.Entry<UUID, Instant>> batch = new ArrayList<>(Math.min(pending.size(), batchSize));
+        for (UUID userId : pending.keySet()) {
+            Instant loggedInAt = pending.remove(userId);
+            if (loggedInAt != null) {
+                batch.add(Map.entry(userId, loggedInAt));
+                if (batch.size() == batchSize) {
+                    write(batch);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+    }
+
+    private void write(List<Map.Entry<UUID, Instant>> batch) {
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, batch, batch.size(), (ps, entry) -> {
+                OffsetDateTime loggedInAt = entry.getValue().atOffset(ZoneOffset.UTC);
+                ps.setObject(1, loggedInAt);
+                ps.setObject(2, entry.getKey());
+                ps.setObject(3, loggedInAt);
+            });
+        } catch (RuntimeException e) {
+            log.warn("Failed to write {} last login timestamps; retrying on next flush", batch.size(), e);
+            batch.forEach(entry -> record(entry.getKey(), entry.getValue()));
+        }
+    }
+
+    @PreDestroy
+    public void drain() {
+        flush();
+    }
+}
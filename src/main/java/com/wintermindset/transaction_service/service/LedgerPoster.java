@@ -0,0 +1,317 @@
+package com.wintermindset.transaction_service.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.stereotype.Component;
+
+import com.wintermindset.transaction_service.entity.AccountBucketEntity;
+import com.wintermindset.transaction_service.entity.AccountEntity;
+import com.wintermindset.transaction_service.entity.LedgerEntryEntity;
+import com.wintermindset.transaction_service.entity.TransferEntity;
+import com.wintermindset.transaction_service.exception.account.AccountNotFoundException;
+import com.wintermindset.transaction_service.exception.account.InsufficientFundsException;
+import com.wintermindset.transaction_service.exception.transfer.InvalidTransferException;
+import com.wintermindset.transaction_service.repository.AccountBucketRepository;
+import com.wintermindset.transaction_service.repository.AccountRepository;
+import com.wintermindset.transaction_service.repository.LedgerEntryRepository;
+import com.wintermindset.transaction_service.repository.TransferRepository;
+
+/**
+ * Locks accounts and posts transfers between them, for both account modes.
+ * Ordinary accounts post to their own row. Bucketed accounts post to one of
+ * their {@link AccountBucketEntity buckets}: a credit locks a single random
+ * bucket, so credits to a hot account run in parallel, while a debit locks
+ * every bucket so it can draw on the whole balance.
+ *
+ * <p>All callers lock in one global order: account rows first, in primary
+ * key order in a single statement, then buckets account by account in the
+ * same key order and by index within an account. Splitting an account
+ * follows it too, locking the row before its buckets exist.
+ *
+ * <p>Which accounts are bucketed is remembered after the first lock that
+ * sees it; splitting is one-way, so the hint can only be missing, never
+ * wrong, and a missing hint costs one extra row lock.
+ */
+@Component
+public class LedgerPoster {
+
+    /**
+     * Unsigned comparison, the order databases use for UUID keys.
+     */
+    private static final Comparator<UUID> KEY_ORDER = Comparator
+            .comparing(UUID::getMostSignificantBits, Long::compareUnsigned)
+            .thenComparing(UUID::getLeastSignificantBits, Long::compareUnsigned);
+
+    private final AccountRepository accountRepository;
+    private final AccountBucketRepository bucketRepository;
+    private final LedgerEntryRepository ledgerEntryRepository;
+    private final TransferRepository transferRepository;
+    private final OutboxService outboxService;
+    private final Map<UUID, BucketedAccount> bucketedAccounts = new ConcurrentHashMap<>();
+
+    public LedgerPoster(
+                AccountRepository accountRepository,
+                AccountBucketRepository bucketRepository,
+                LedgerEntryRepository ledgerEntryRepository,
+                TransferRepository transferRepository,
+                OutboxService outboxService
+    ) {
+        this.accountRepository = accountRepository;
+        this.bucketRepository = bucketRepository;
+        this.ledgerEntryRepository = ledgerEntryRepository;
+        this.transferRepository = transferRepository;
+        this.outboxService = outboxService;
+    }
+
+    /**
+     * Bucketed accounts take no in-process lock: that would serialise the
+     * credits the buckets exist to spread.
+     */
+    public boolean isKnownBucketed(UUID accountId) {
+        return bucketedAccounts.containsKey(accountId);
+    }
+
+    /**
+     * Locks the accounts for the rest of the caller's transaction. Accounts
+     * that do not exist are reported when a transfer touches them.
+     *
+     * @param debitedAccountIds accounts that any of the transfers will debit
+     */
+    public Postings lock(Collection<UUID> accountIds, Collection<UUID> debitedAccountIds) {
+        Set<UUID> debited = new HashSet<>(debitedAccountIds);
+        Map<UUID, Side> sides = new HashMap<>();
+        List<UUID> rowLocked = accountIds.stream().filter(id -> !isKnownBucketed(id)).toList();
+        if (!rowLocked.isEmpty()) {
+            for (AccountEntity account : accountRepository.findAllForUpdate(rowLocked)) {
+                if (account.isBucketed()) {
+                    bucketedAccounts.putIfAbsent(account.getId(), BucketedAccount.of(account));
+                } else {
+                    sides.put(account.getId(), new AccountSide(account));
+                }
+            }
+        }
+        List<UUID> bucketed = accountIds.stream()
+                .filter(this::isKnownBucketed)
+                .distinct()
+                .sorted(KEY_ORDER)
+                .toList();
+        for (UUID accountId : bucketed) {
+            BucketedAccount account = bucketedAccounts.get(accountId);
+            sides.put(accountId, debited.contains(accountId)
+                    ? new BucketSide(account, bucketRepository.findAllForUpdate(accountId))
+                    : new BucketSide(account, List.of(lockRandomBucket(account))));
+        }
+        return new Postings(sides);
+    }
+
+    private AccountBucketEntity lockRandomBucket(BucketedAccount account) {
+        int index = ThreadLocalRandom.current().nextInt(account.bucketCount());
+        return bucketRepository.findForUpdate(account.id(), index)
+                .orElseThrow(() -> new IllegalStateException(
+                        "Bucket " + index + " of account " + account.id() + " is missing"));
+    }
+
+    /**
+     * Accounts locked by {@link #lock}, valid until the transaction ends.
+     */
+    public final class Postings {
+
+        private final Map<UUID, Side> sides;
+        private final List<LedgerEntryEntity> entries = new ArrayList<>();
+
+        private Postings(Map<UUID, Side> sides) {
+            this.sides = sides;
+        }
+
+        /**
+         * Both sides are checked before either changes, so a rejected
+         * transfer leaves the locked accounts exactly as it found them.
+         * Ledger entries are written by {@link #flush()}; the transfer's
+         * outbox event is written immediately.
+         */
+        public TransferEntity post(UUID sourceAccountId, UUID targetAccountId, long amount, Instant occurredAt) {
+            Side source = side(sourceAccountId);
+            Side target = side(targetAccountId);
+            if (!source.currency().equals(target.currency())) {
+                throw new InvalidTransferException("Currency mismatch: " + source.currency()
+                        + " to " + target.currency());
+            }
+            source.checkDebit(amount);
+            target.checkCredit(amount);
+            Posted debit = source.post(-amount);
+            Posted credit = target.post(amount);
+            TransferEntity transfer = transferRepository.save(new TransferEntity(
+                    sourceAccountId, targetAccountId, amount, source.currency(), occurredAt
+            ));
+            entries.add(new LedgerEntryEntity(
+                    transfer.getId(), sourceAccountId, debit.sequence(), -amount, debit.balanceAfter(), occurredAt
+            ));
+            entries.add(new LedgerEntryEntity(
+                    transfer.getId(), targetAccountId, credit.sequence(), amount, credit.balanceAfter(), occurredAt
+            ));
+            outboxService.transferPosted(transfer);
+            return transfer;
+        }
+
+        public void flush() {
+            ledgerEntryRepository.saveAll(entries);
+            entries.clear();
+        }
+
+        private Side side(UUID accountId) {
+            Side side = sides.get(accountId);
+            if (side == null) {
+                throw new AccountNotFoundException("Account not found with ID: " + accountId);
+            }
+            return side;
+        }
+    }
+
+    /**
+     * @param balanceAfter the balance of the row that took the entry: the
+     *        account, or for a bucketed account the bucket
+     */
+    private record Posted(long sequence, long balanceAfter) {
+    }
+
+    private interface Side {
+
+        String currency();
+
+        void checkDebit(long amount);
+
+        void checkCredit(long amount);
+
+        Posted post(long amount);
+    }
+
+    private record AccountSide(AccountEntity account) implements Side {
+
+        @Override
+        public String currency() {
+            return account.getCurrency();
+        }
+
+        @Override
+        public void checkDebit(long amount) {
+            if (Math.subtractExact(account.getBalance(), amount) < 0 && !account.isOverdraftAllowed()) {
+                throw new InsufficientFundsException("Insufficient funds in account: " + account.getId());
+            }
+        }
+
+        @Override
+        public void checkCredit(long amount) {
+            Math.addExact(account.getBalance(), amount);
+        }
+
+        @Override
+        public Posted post(long amount) {
+            long sequence = account.post(amount);
+            return new Posted(sequence, account.getBalance());
+        }
+    }
+
+    private static final class BucketSide implements Side {
+
+        private final BucketedAccount account;
+        private final List<AccountBucketEntity> buckets;
+        private final AccountBucketEntity creditBucket;
+
+        BucketSide(BucketedAccount account, List<AccountBucketEntity> buckets) {
+            this.account = account;
+            this.buckets = buckets;
+            this.creditBucket = buckets.get(ThreadLocalRandom.current().nextInt(buckets.size()));
+        }
+
+        @Override
+        public String currency() {
+            return account.currency();
+        }
+
+        @Override
+        public void checkDebit(long amount) {
+            if (buckets.size() != account.bucketCount()) {
+                throw new IllegalStateException("Debiting account " + account.id() + " needs all its buckets");
+            }
+            long balance = 0;
+            for (AccountBucketEntity bucket : buckets) {
+                balance = Math.addExact(balance, bucket.getBalance());
+            }
+            if (Math.subtractExact(balance, amount) < 0 && !account.overdraftAllowed()) {
+                throw new InsufficientFundsException("Insufficient funds in account: " + account.id());
+            }
+        }
+
+        @Override
+        public void checkCredit(long amount) {
+            Math.addExact(creditBucket.getBalance(), amount);
+        }
+
+        @Override
+        public Posted post(long amount) {
+            AccountBucketEntity bucket = amount < 0 ? refill(-amount) : creditBucket;
+            long entryNumber = bucket.post(amount);
+            return new Posted(account.sequence(bucket.getBucketIndex(), entryNumber), bucket.getBalance());
+        }
+
+        /**
+         * Picks the richest bucket and, when it cannot cover the debit on
+         * its own, tops it up from the others, richest first.
+         */
+        private AccountBucketEntity refill(long amount) {
+            List<AccountBucketEntity> byBalance = buckets.stream()
+                    .sorted(Comparator.comparingLong(AccountBucketEntity::getBalance).reversed())
+                    .toList();
+            AccountBucketEntity richest = byBalance.get(0);
+            long shortfall = amount - richest.getBalance();
+            for (int i = 1; i < byBalance.size() && shortfall > 0; i++) {
+                AccountBucketEntity donor = byBalance.get(i);
+                long moved = Math.min(shortfall, donor.getBalance());
+                if (moved <= 0) {
+                    break;
+                }
+                donor.transfer(moved, richest);
+                shortfall -= moved;
+            }
+            return richest;
+        }
+    }
+
+    /**
+     * What a bucketed account never changes once split, kept so transfers
+     * do not have to load its row.
+     */
+    private record BucketedAccount(
+            UUID id,
+            String currency,
+            boolean overdraftAllowed,
+            int bucketCount,
+            long sequenceBase
+    ) {
+
+        static BucketedAccount of(AccountEntity account) {
+            return new BucketedAccount(
+                    account.getId(),
+                    account.getCurrency(),
+                    account.isOverdraftAllowed(),
+                    account.getBucketCount(),
+                    account.getEntrySequence()
+            );
+        }
+
+        long sequence(int bucketIndex, long entryNumber) {
+            return AccountBucketEntity.entrySequence(sequenceBase, bucketCount, bucketIndex, entryNumber);
+        }
+    }
+}
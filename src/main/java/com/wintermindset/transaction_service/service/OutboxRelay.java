@@ -0,0 +1,260 @@
+package com.wintermindset.transaction_service.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.wintermindset.transaction_service.config.OutboxProperties;
+import com.wintermindset.transaction_service.entity.OutboxDeadLetterEntity;
+import com.wintermindset.transaction_service.enums.outbox.OutboxEventType;
+import com.wintermindset.transaction_service.outbox.OutboxMessage;
+import com.wintermindset.transaction_service.outbox.OutboxSink;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Drains the outbox into the {@link OutboxSink} in batches. Each batch is one
+ * transaction: claim the oldest available rows with {@code FOR UPDATE SKIP
+ * LOCKED}, publish them, delete them. Relays on other nodes skip the claimed
+ * rows and take the next ones, so any number of nodes can relay at once; a
+ * node that dies mid-batch rolls back and its rows become claimable again.
+ *
+ * <p>Delivery is at least once and ordered within a batch only. Across
+ * nodes nothing is ordered, not even per aggregate: one node can publish a
+ * user's {@code USER_DEACTIVATED} while another still holds the batch with
+ * its {@code USER_CREATED}. Consumers that care order by {@code occurredAt}.
+ *
+ * <p>When the sink rejects a batch, its events are retried one by one so a
+ * single bad event cannot hold back the rest. If some are accepted, each
+ * event that still fails has its attempt counted and becomes available
+ * again after {@code retryBackoff}; after {@code maxAttempts} it is moved to
+ * {@code outbox_dead_letters} instead. If none is accepted, the sink is
+ * taken to be down: no attempt is counted and this node stops relaying for
+ * {@code retryBackoff}, so an outage of any length dead-letters nothing. An
+ * event that is rejected whenever it is published alone is therefore only
+ * counted once it shares a batch with an event the sink accepts.
+ */
+@Component
+public class OutboxRelay implements SchedulingConfigurer {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private static final String CLAIM = """
+            select id, event_type, aggregate_id, payload, occurred_at, attempts
+              from outbox_events
+             where available_at <= :now
+             order by available_at, id
+             limit :limit
+               for update skip locked
+            """;
+
+    private static final String DELETE_EVENTS = """
+            delete from outbox_events
+             where id in (:ids)
+            """;
+
+    private static final String RESCHEDULE = """
+            update outbox_events
+               set attempts = attempts + 1,
+                   available_at = :retryAt
+             where id in (:ids)
+            """;
+
+    private static final String COPY_TO_DEAD_LETTERS = """
+            insert into outbox_dead_letters
+                   (id, event_type, aggregate_id, payload, occurred_at, attempts, failed_at, last_error)
+            select id, event_type, aggregate_id, payload, occurred_at, attempts + 1, :failedAt, :lastError
+              from outbox_events
+             where id = :id
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final OutboxSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxProperties properties;
+
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+    private final Counter deadLetteredCounter;
+    private final Timer batchTimer;
+    private final Timer lagTimer;
+
+    private volatile Instant pausedUntil = Instant.MIN;
+
+    public OutboxRelay(
+                NamedParameterJdbcTemplate jdbcTemplate,
+                OutboxSink sink,
+                PlatformTransactionManager transactionManager,
+                OutboxProperties properties,
+                MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.sink = sink;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.publishedCounter = Counter.builder("outbox.relay.published").register(meterRegistry);
+        this.failedCounter = Counter.builder("outbox.relay.failed").register(meterRegistry);
+        this.deadLetteredCounter = Counter.builder("outbox.relay.dead.lettered").register(meterRegistry);
+        this.batchTimer = Timer.builder("outbox.relay.batch.duration")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder("outbox.relay.lag")
+                .description("Time from the change to its event being published")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Polls every {@code app.outbox.poll-interval}.
+     */
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.addFixedDelayTask(this::relayScheduled, properties.pollInterval());
+    }
+
+    private void relayScheduled() {
+        if (properties.enabled()) {
+            drain(Instant.now());
+        }
+    }
+
+    /**
+     * Relays batches until the outbox holds nothing available at {@code now}
+     * or the sink rejects every event of a batch, which suggests it is down.
+     * Does nothing while the relay is paused after such a batch.
+     *
+     * @return the number of events published
+     */
+    public long drain(Instant now) {
+        // the precision the columns keep, so a retry time compares as written
+        Instant claimedAt = now.truncatedTo(ChronoUnit.MICROS);
+        if (claimedAt.isBefore(pausedUntil)) {
+            return 0;
+        }
+        long total = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            long startedAt = System.nanoTime();
+            BatchResult result = transactionTemplate.execute(status -> relayBatch(claimedAt));
+            if (result.claimed() > 0) {
+                batchTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+            total += result.published();
+            if (result.claimed() < properties.batchSize() || result.published() == 0) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    private BatchResult relayBatch(Instant now) {
+        OffsetDateTime claimedAt = now.atOffset(ZoneOffset.UTC);
+        List<OutboxMessage> messages = jdbcTemplate.query(
+                CLAIM,
+                Map.of("now", claimedAt, "limit", properties.batchSize()),
+                (rs, rowNum) -> new OutboxMessage(
+                        rs.getObject("id", UUID.class),
+                        OutboxEventType.valueOf(rs.getString("event_type")),
+                        rs.getObject("aggregate_id", UUID.class),
+                        rs.getString("payload"),
+                        rs.getObject("occurred_at", OffsetDateTime.class).toInstant(),
+                        rs.getInt("attempts")
+                )
+        );
+        if (messages.isEmpty()) {
+            return new BatchResult(0, 0);
+        }
+        List<OutboxMessage> published;
+        try {
+            sink.publish(messages);
+            published = messages;
+        } catch (RuntimeException e) {
+            log.warn("Outbox sink rejected a batch of {} events; retrying them one by one", messages.size(), e);
+            published = publishOneByOne(messages, now);
+        }
+        if (!published.isEmpty()) {
+            jdbcTemplate.update(DELETE_EVENTS, Map.of("ids", published.stream().map(OutboxMessage::id).toList()));
+            publishedCounter.increment(published.size());
+            Instant publishedAt = Instant.now();
+            for (OutboxMessage message : published) {
+                lagTimer.record(Duration.between(message.occurredAt(), publishedAt));
+            }
+        }
+        return new BatchResult(messages.size(), published.size());
+    }
+
+    /**
+     * @return the messages the sink accepted; if there are any, the rest are
+     *         rescheduled or dead-lettered, otherwise the relay is paused and
+     *         the rest are left as they were
+     */
+    private List<OutboxMessage> publishOneByOne(List<OutboxMessage> messages, Instant now) {
+        List<OutboxMessage> published = new ArrayList<>(messages.size());
+        Map<OutboxMessage, RuntimeException> rejected = new LinkedHashMap<>();
+        for (OutboxMessage message : messages) {
+            try {
+                sink.publish(List.of(message));
+                published.add(message);
+            } catch (RuntimeException e) {
+                failedCounter.increment();
+                rejected.put(message, e);
+            }
+        }
+        if (published.isEmpty()) {
+            pausedUntil = now.plus(properties.retryBackoff());
+            log.warn("Outbox sink rejected all {} events; pausing the relay until {}", messages.size(), pausedUntil);
+            return published;
+        }
+        List<UUID> retried = new ArrayList<>();
+        rejected.forEach((message, error) -> {
+            if (message.attempt() + 1 >= properties.maxAttempts()) {
+                deadLetter(message, now, error);
+            } else {
+                retried.add(message.id());
+            }
+        });
+        if (!retried.isEmpty()) {
+            OffsetDateTime retryAt = now.plus(properties.retryBackoff()).atOffset(ZoneOffset.UTC);
+            jdbcTemplate.update(RESCHEDULE, Map.of("ids", retried, "retryAt", retryAt));
+            log.warn("Outbox sink rejected {} events; retrying after {}", retried.size(), retryAt);
+        }
+        return published;
+    }
+
+    private void deadLetter(OutboxMessage message, Instant now, RuntimeException error) {
+        String lastError = String.valueOf(error);
+        if (lastError.length() > OutboxDeadLetterEntity.MAX_ERROR_LENGTH) {
+            lastError = lastError.substring(0, OutboxDeadLetterEntity.MAX_ERROR_LENGTH);
+        }
+        jdbcTemplate.update(COPY_TO_DEAD_LETTERS, Map.of(
+                "id", message.id(),
+                "failedAt", now.atOffset(ZoneOffset.UTC),
+                "lastError", lastError
+        ));
+        jdbcTemplate.update(DELETE_EVENTS, Map.of("ids", List.of(message.id())));
+        deadLetteredCounter.increment();
+        log.error("Outbox event {} ({}) failed {} times; moved to outbox_dead_letters",
+                message.id(), message.eventType(), message.attempt() + 1, error);
+    }
+
+    private record BatchResult(int claimed, int published) {
+    }
+}
@@ -0,0 +1,77 @@
+package com.wintermindset.transaction_service.service;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.wintermindset.transaction_service.dto.outbox.TransferPostedEvent;
+import com.wintermindset.transaction_service.dto.outbox.UserCreatedEvent;
+import com.wintermindset.transaction_service.dto.outbox.UserDeactivatedEvent;
+import com.wintermindset.transaction_service.dto.outbox.UserPasswordChangedEvent;
+import com.wintermindset.transaction_service.entity.OutboxEventEntity;
+import com.wintermindset.transaction_service.entity.TransferEntity;
+import com.wintermindset.transaction_service.entity.UserEntity;
+import com.wintermindset.transaction_service.enums.outbox.OutboxEventType;
+import com.wintermindset.transaction_service.repository.OutboxEventRepository;
+
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Records domain events in the outbox. Every method must run inside the
+ * transaction that makes the change, so the event commits or rolls back with
+ * it; {@link OutboxRelay} publishes it afterwards. Inserts are deferred to
+ * the flush and batched with the change itself.
+ */
+@Service
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    public OutboxService(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    public void userCreated(UserEntity user) {
+        append(OutboxEventType.USER_CREATED, user.getId(), new UserCreatedEvent(
+                user.getId(), user.getUsername(), user.getRole(), user.getCreatedAt()
+        ), user.getCreatedAt());
+    }
+
+    public void userDeactivated(UserEntity user) {
+        append(OutboxEventType.USER_DEACTIVATED, user.getId(), new UserDeactivatedEvent(
+                user.getId(), user.getDeactivationReason(), user.getDeactivatedBy(), user.getDeactivatedAt()
+        ), user.getDeactivatedAt());
+    }
+
+    public void userDeactivated(UserDeactivatedEvent event) {
+        append(OutboxEventType.USER_DEACTIVATED, event.userId(), event, event.deactivatedAt());
+    }
+
+    public void passwordChanged(UUID userId, Instant changedAt) {
+        append(OutboxEventType.USER_PASSWORD_CHANGED, userId, new UserPasswordChangedEvent(userId, changedAt), changedAt);
+    }
+
+    public void transferPosted(TransferEntity transfer) {
+        append(OutboxEventType.TRANSFER_POSTED, transfer.getId(), new TransferPostedEvent(
+                transfer.getId(),
+                transfer.getSourceAccountId(),
+                transfer.getTargetAccountId(),
+                transfer.getAmount(),
+                transfer.getCurrency(),
+                transfer.getCreatedAt()
+        ), transfer.getCreatedAt());
+    }
+
+    private void append(OutboxEventType eventType, UUID aggregateId, Object payload, Instant occurredAt) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Outbox events must be written in the transaction that makes the change");
+        }
+        outboxEventRepository.save(new OutboxEventEntity(
+                eventType, aggregateId, objectMapper.writeValueAsString(payload), occurredAt
+        ));
+    }
+}
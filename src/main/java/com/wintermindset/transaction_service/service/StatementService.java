@@ -0,0 +1,133 @@
+package com.wintermindset.transaction_service.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import com.wintermindset.transaction_service.dto.account.AccountStatement;
+import com.wintermindset.transaction_service.dto.account.StatementLine;
+import com.wintermindset.transaction_service.entity.AccountBucketEntity;
+import com.wintermindset.transaction_service.entity.AccountEntity;
+import com.wintermindset.transaction_service.entity.BalanceSnapshotEntity;
+import com.wintermindset.transaction_service.entity.LedgerEntryEntity;
+import com.wintermindset.transaction_service.exception.account.AccountNotFoundException;
+import com.wintermindset.transaction_service.repository.AccountBucketRepository;
+import com.wintermindset.transaction_service.repository.AccountRepository;
+import com.wintermindset.transaction_service.repository.BalanceSnapshotRepository;
+import com.wintermindset.transaction_service.repository.LedgerEntryRepository;
+
+/**
+ * Historical balances and statements, in ledger sequence order. A balance
+ * at any sequence starts from the latest {@link BalanceSnapshotEntity
+ * snapshot} at or below it and replays only the entries after that, so the
+ * cost depends on the distance to the snapshot, not on the account's age.
+ *
+ * <p>Both stop at the {@link #settledSequence settled sequence}. A bucketed
+ * account assigns sequences per bucket, so an entry can commit after one
+ * with a higher sequence; past the settled prefix a page could skip it and
+ * a balance could change retroactively. Buckets without traffic are moved
+ * past the others by {@link BalanceSnapshotCompactor}, so the settled
+ * sequence trails the latest entry by at most one compaction interval.
+ */
+@Service
+public class StatementService {
+
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private final AccountRepository accountRepository;
+    private final AccountBucketRepository bucketRepository;
+    private final LedgerEntryRepository ledgerEntryRepository;
+    private final BalanceSnapshotRepository snapshotRepository;
+
+    public StatementService(
+                AccountRepository accountRepository,
+                AccountBucketRepository bucketRepository,
+                LedgerEntryRepository ledgerEntryRepository,
+                BalanceSnapshotRepository snapshotRepository
+    ) {
+        this.accountRepository = accountRepository;
+        this.bucketRepository = bucketRepository;
+        this.ledgerEntryRepository = ledgerEntryRepository;
+        this.snapshotRepository = snapshotRepository;
+    }
+
+    /**
+     * The highest sequence below which no entry can still appear. Must be
+     * read before the entries it bounds: the bucket rows commit with their
+     * entries, so everything up to it is visible by then.
+     */
+    public long settledSequence(UUID accountId) {
+        Objects.requireNonNull(accountId, "Account ID must not be null");
+        AccountEntity account = accountRepository.findById(accountId)
+                .orElseThrow(() -> new AccountNotFoundException("Account not found with ID: " + accountId));
+        if (!account.isBucketed()) {
+            return account.getEntrySequence();
+        }
+        return AccountBucketEntity.settledSequence(
+                account.getEntrySequence(),
+                account.getBucketCount(),
+                bucketRepository.findByAccountIdOrderByBucketIndex(accountId)
+        );
+    }
+
+    /**
+     * @return the balance after every entry up to and including
+     *         {@code sequence}, or up to the settled sequence if that is lower
+     */
+    public long balanceAt(UUID accountId, long sequence) {
+        Objects.requireNonNull(accountId, "Account ID must not be null");
+        if (sequence < 0) {
+            throw new IllegalArgumentException("Sequence must not be negative");
+        }
+        return balanceAt(accountId, sequence, settledSequence(accountId));
+    }
+
+    private long balanceAt(UUID accountId, long sequence, long settled) {
+        sequence = Math.min(sequence, settled);
+        long snapshotSequence = 0;
+        long snapshotBalance = 0;
+        BalanceSnapshotEntity snapshot = snapshotRepository
+                .findFirstByAccountIdAndSequenceLessThanEqualOrderBySequenceDesc(accountId, sequence)
+                .orElse(null);
+        if (snapshot != null) {
+            snapshotSequence = snapshot.getSequence();
+            snapshotBalance = snapshot.getBalance();
+        }
+        return snapshotBalance + ledgerEntryRepository.sumAmountsBetween(accountId, snapshotSequence, sequence);
+    }
+
+    /**
+     * Settled entries after {@code afterSequence} with the running balance;
+     * pass {@code 0} for the first page. The last page ends at the settled
+     * sequence: paging on later from its last line picks up entries that
+     * have settled since.
+     */
+    public AccountStatement statement(UUID accountId, long afterSequence, int pageSize) {
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (afterSequence < 0) {
+            throw new IllegalArgumentException("Sequence must not be negative");
+        }
+        long settled = settledSequence(accountId);
+        long openingBalance = balanceAt(accountId, afterSequence, settled);
+        List<LedgerEntryEntity> entries = ledgerEntryRepository
+                .findByAccountIdAndSequenceGreaterThanAndSequenceLessThanEqualOrderBySequence(
+                        accountId, afterSequence, settled, Limit.of(pageSize)
+                );
+        List<StatementLine> lines = new ArrayList<>(entries.size());
+        long balance = openingBalance;
+        for (LedgerEntryEntity entry : entries) {
+            balance = Math.addExact(balance, entry.getAmount());
+            lines.add(new StatementLine(
+                    entry.getSequence(), entry.getTransferId(), entry.getAmount(), balance, entry.getCreatedAt()
+            ));
+        }
+        Long nextSequence = entries.size() == pageSize ? entries.getLast().getSequence() : null;
+        return new AccountStatement(accountId, openingBalance, lines, balance, nextSequence);
+    }
+}
@@ -0,0 +1,281 @@
+package com.wintermindset.transaction_service.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.wintermindset.transaction_service.config.TransferProperties;
+import com.wintermindset.transaction_service.entity.TransferEntity;
+import com.wintermindset.transaction_service.exception.account.AccountNotFoundException;
+import com.wintermindset.transaction_service.exception.account.InsufficientFundsException;
+import com.wintermindset.transaction_service.exception.transfer.InvalidTransferException;
+import com.wintermindset.transaction_service.exception.transfer.TransferCapacityExceededException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Group commit for transfers: submissions wait on a bounded queue and a
+ * single committer thread posts them in micro-batches, one transaction and
+ * one JDBC batch per batch, so a burst costs one commit per batch rather
+ * than one per transfer.
+ *
+ * <p>Each batch locks all of its accounts through {@link LedgerPoster}, in
+ * the same order {@link TransferService} uses, and applies the transfers in
+ * arrival order. A transfer that cannot be posted (insufficient funds, unknown
+ * account, currency mismatch) fails alone without touching its neighbours.
+ * If the batch as a whole cannot commit, its transfers are retried one by
+ * one through {@link TransferService} so a single bad row cannot fail the
+ * rest. Futures complete on the committer thread after the commit.
+ */
+@Service
+public class TransferPipeline {
+
+    private static final Logger log = LoggerFactory.getLogger(TransferPipeline.class);
+
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final LedgerPoster ledgerPoster;
+    private final TransferService transferService;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<PendingTransfer> queue;
+    private final int maxBatchSize;
+    private final long batchLingerNanos;
+
+    private final DistributionSummary batchSizeSummary;
+    private final Timer commitTimer;
+    private final Counter rejectedCounter;
+
+    private volatile boolean running;
+    private Thread committer;
+
+    public TransferPipeline(
+                LedgerPoster ledgerPoster,
+                TransferService transferService,
+                PlatformTransactionManager transactionManager,
+                TransferProperties properties,
+                MeterRegistry meterRegistry
+    ) {
+        this.ledgerPoster = ledgerPoster;
+        this.transferService = transferService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+        this.maxBatchSize = properties.maxBatchSize();
+        this.batchLingerNanos = properties.batchLinger().toNanos();
+        this.batchSizeSummary = DistributionSummary.builder("transfers.pipeline.batch.size")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.commitTimer = Timer.builder("transfers.pipeline.commit.duration")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("transfers.pipeline.rejected")
+                .register(meterRegistry);
+        Gauge.builder("transfers.pipeline.queue.depth", queue, BlockingQueue::size)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        committer = Thread.ofPlatform()
+                .name("transfer-committer")
+                .daemon(true)
+                .start(this::run);
+    }
+
+    /**
+     * @param amount in minor units of the accounts' currency
+     * @throws TransferCapacityExceededException if the queue is full
+     */
+    public CompletableFuture<TransferEntity> submit(
+                UUID sourceAccountId,
+                UUID targetAccountId,
+                long amount,
+                Instant occurredAt
+    ) {
+        TransferService.validate(sourceAccountId, targetAccountId, amount, occurredAt);
+        PendingTransfer pending = new PendingTransfer(sourceAccountId, targetAccountId, amount, occurredAt);
+        if (!running || !queue.offer(pending)) {
+            rejectedCounter.increment();
+            throw new TransferCapacityExceededException("Transfer pipeline capacity exceeded");
+        }
+        return pending.result();
+    }
+
+    /**
+     * Blocking form of {@link #submit}; safe to call from virtual threads.
+     */
+    public TransferEntity transfer(UUID sourceAccountId, UUID targetAccountId, long amount, Instant occurredAt) {
+        CompletableFuture<TransferEntity> future = submit(sourceAccountId, targetAccountId, amount, occurredAt);
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for the transfer to commit");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Transfer failed", e.getCause());
+        }
+    }
+
+    private void run() {
+        List<PendingTransfer> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingTransfer first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                fill(batch);
+                commit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                log.error("Transfer committer failed a batch of {}", batch.size(), e);
+                batch.forEach(pending -> pending.result().completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Takes whatever is already queued, then lingers for more until the
+     * batch is full or the linger time since the first transfer has passed.
+     */
+    private void fill(List<PendingTransfer> batch) throws InterruptedException {
+        queue.drainTo(batch, maxBatchSize - batch.size());
+        long deadline = System.nanoTime() + batchLingerNanos;
+        while (batch.size() < maxBatchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            PendingTransfer next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+            queue.drainTo(batch, maxBatchSize - batch.size());
+        }
+    }
+
+    private void commit(List<PendingTransfer> batch) {
+        batchSizeSummary.record(batch.size());
+        long startedAt = System.nanoTime();
+        List<Outcome> outcomes;
+        try {
+            outcomes = transactionTemplate.execute(status -> apply(batch));
+        } catch (RuntimeException e) {
+            log.warn("Transfer batch of {} failed to commit; retrying one by one", batch.size(), e);
+            commitOneByOne(batch);
+            return;
+        } finally {
+            commitTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            outcomes.get(i).completeTo(batch.get(i).result());
+        }
+    }
+
+    private List<Outcome> apply(List<PendingTransfer> batch) {
+        Set<UUID> accountIds = new HashSet<>();
+        Set<UUID> debitedIds = new HashSet<>();
+        for (PendingTransfer pending : batch) {
+            accountIds.add(pending.sourceAccountId());
+            accountIds.add(pending.targetAccountId());
+            debitedIds.add(pending.sourceAccountId());
+        }
+        LedgerPoster.Postings postings = ledgerPoster.lock(accountIds, debitedIds);
+        List<Outcome> outcomes = new ArrayList<>(batch.size());
+        for (PendingTransfer pending : batch) {
+            try {
+                outcomes.add(new Outcome(postings.post(
+                        pending.sourceAccountId(), pending.targetAccountId(), pending.amount(), pending.occurredAt()
+                ), null));
+            } catch (InsufficientFundsException | AccountNotFoundException
+                    | InvalidTransferException | ArithmeticException e) {
+                outcomes.add(new Outcome(null, e));
+            }
+        }
+        postings.flush();
+        return outcomes;
+    }
+
+    private void commitOneByOne(List<PendingTransfer> batch) {
+        for (PendingTransfer pending : batch) {
+            try {
+                pending.result().complete(transferService.transfer(
+                        pending.sourceAccountId(), pending.targetAccountId(), pending.amount(), pending.occurredAt()
+                ));
+            } catch (RuntimeException e) {
+                pending.result().completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * Commits everything already accepted before returning.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        if (committer != null) {
+            committer.join();
+        }
+        PendingTransfer stranded;
+        while ((stranded = queue.poll()) != null) {
+            stranded.result().completeExceptionally(
+                    new TransferCapacityExceededException("Transfer pipeline is shut down")
+            );
+        }
+    }
+
+    private record PendingTransfer(
+            UUID sourceAccountId,
+            UUID targetAccountId,
+            long amount,
+            Instant occurredAt,
+            CompletableFuture<TransferEntity> result
+    ) {
+
+        PendingTransfer(UUID sourceAccountId, UUID targetAccountId, long amount, Instant occurredAt) {
+            this(sourceAccountId, targetAccountId, amount, occurredAt, new CompletableFuture<>());
+        }
+    }
+
+    private record Outcome(TransferEntity transfer, RuntimeException failure) {
+
+        void completeTo(CompletableFuture<TransferEntity> result) {
+            if (failure != null) {
+                result.completeExceptionally(failure);
+            } else {
+                result.complete(transfer);
+            }
+        }
+    }
+}
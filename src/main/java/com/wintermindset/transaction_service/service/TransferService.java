@@ -0,0 +1,133 @@
+package com.wintermindset.transaction_service.service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.wintermindset.transaction_service.concurrency.StripedLocks;
+import com.wintermindset.transaction_service.config.TransferProperties;
+import com.wintermindset.transaction_service.dto.idempotency.IdempotentRequest;
+import com.wintermindset.transaction_service.entity.TransferEntity;
+import com.wintermindset.transaction_service.enums.idempotency.IdempotencyScope;
+import com.wintermindset.transaction_service.exception.transfer.InvalidTransferException;
+import com.wintermindset.transaction_service.repository.TransferRepository;
+
+/**
+ * Moves money between accounts as a double entry: one debit and one credit
+ * of the same amount, written in the same transaction as both balances.
+ *
+ * <p>Transfers touching the same account are serialised in-process by
+ * {@link StripedLocks}, held until the transaction has committed, so they
+ * queue on a lock rather than on a database row while holding a connection.
+ * The row locks taken inside the transaction keep other nodes correct.
+ * Transfers over unrelated accounts run in parallel. Bucketed accounts
+ * take no in-process lock; see {@link LedgerPoster}.
+ */
+@Service
+public class TransferService {
+
+    private final LedgerPoster ledgerPoster;
+    private final TransferRepository transferRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final StripedLocks accountLocks;
+    private final IdempotencyService idempotencyService;
+
+    public TransferService(
+                LedgerPoster ledgerPoster,
+                TransferRepository transferRepository,
+                PlatformTransactionManager transactionManager,
+                TransferProperties properties,
+                IdempotencyService idempotencyService
+    ) {
+        this.ledgerPoster = ledgerPoster;
+        this.transferRepository = transferRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.accountLocks = new StripedLocks(properties.lockStripes());
+        this.idempotencyService = idempotencyService;
+    }
+
+    /**
+     * @param amount in minor units of the accounts' currency
+     */
+    public TransferEntity transfer(UUID sourceAccountId, UUID targetAccountId, long amount, Instant occurredAt) {
+        validate(sourceAccountId, targetAccountId, amount, occurredAt);
+        return withAccountLocks(sourceAccountId, targetAccountId, () -> transactionTemplate.execute(status ->
+                post(sourceAccountId, targetAccountId, amount, occurredAt)
+        ));
+    }
+
+    /**
+     * A retry with the same key returns the transfer posted by the first
+     * request instead of posting again. The key is looked up before any
+     * account lock is taken, so retries of a completed transfer never queue
+     * behind live ones.
+     */
+    public TransferEntity transfer(
+                UUID sourceAccountId,
+                UUID targetAccountId,
+                long amount,
+                Instant occurredAt,
+                String idempotencyKey
+    ) {
+        validate(sourceAccountId, targetAccountId, amount, occurredAt);
+        IdempotentRequest request = IdempotentRequest.of(
+                IdempotencyScope.TRANSFER, idempotencyKey, sourceAccountId, targetAccountId, amount
+        );
+        Optional<UUID> posted = idempotencyService.find(request);
+        if (posted.isPresent()) {
+            return loadPostedTransfer(posted.get());
+        }
+        return withAccountLocks(sourceAccountId, targetAccountId, () -> idempotencyService.record(
+                request,
+                () -> post(sourceAccountId, targetAccountId, amount, occurredAt),
+                TransferEntity::getId,
+                this::loadPostedTransfer
+        ));
+    }
+
+    static void validate(UUID sourceAccountId, UUID targetAccountId, long amount, Instant occurredAt) {
+        Objects.requireNonNull(sourceAccountId, "Source account ID must not be null");
+        Objects.requireNonNull(targetAccountId, "Target account ID must not be null");
+        Objects.requireNonNull(occurredAt, "Transfer time must not be null");
+        if (amount <= 0) {
+            throw new InvalidTransferException("Transfer amount must be positive");
+        }
+        if (sourceAccountId.equals(targetAccountId)) {
+            throw new InvalidTransferException("Source and target accounts must differ");
+        }
+    }
+
+    private TransferEntity loadPostedTransfer(UUID transferId) {
+        return transferRepository.findById(transferId)
+                .orElseThrow(() -> new IllegalStateException("Transfer recorded for idempotency key is missing: "
+                        + transferId));
+    }
+
+    private <T> T withAccountLocks(UUID sourceAccountId, UUID targetAccountId, Supplier<T> action) {
+        boolean sourceBucketed = ledgerPoster.isKnownBucketed(sourceAccountId);
+        boolean targetBucketed = ledgerPoster.isKnownBucketed(targetAccountId);
+        if (sourceBucketed && targetBucketed) {
+            return action.get();
+        }
+        if (sourceBucketed || targetBucketed) {
+            return accountLocks.withLock(sourceBucketed ? targetAccountId : sourceAccountId, action);
+        }
+        return accountLocks.withLocks(sourceAccountId, targetAccountId, action);
+    }
+
+    private TransferEntity post(UUID sourceAccountId, UUID targetAccountId, long amount, Instant occurredAt) {
+        LedgerPoster.Postings postings = ledgerPoster.lock(
+                List.of(sourceAccountId, targetAccountId), List.of(sourceAccountId)
+        );
+        TransferEntity transfer = postings.post(sourceAccountId, targetAccountId, amount, occurredAt);
+        postings.flush();
+        return transfer;
+    }
+}
@@ -0,0 +1,261 @@
+package com.wintermindset.transaction_service.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.wintermindset.transaction_service.config.PasswordHashingProperties;
+import com.wintermindset.transaction_service.config.UserImportProperties;
+import com.wintermindset.transaction_service.dto.user.UserImportFailure;
+import com.wintermindset.transaction_service.dto.user.UserImportReport;
+import com.wintermindset.transaction_service.dto.user.UserImportRow;
+import com.wintermindset.transaction_service.entity.UserEntity;
+import com.wintermindset.transaction_service.enums.user.Role;
+import com.wintermindset.transaction_service.exception.security.HashingCapacityExceededException;
+import com.wintermindset.transaction_service.exception.user.BadPasswordException;
+import com.wintermindset.transaction_service.exception.user.BadUsernameException;
+import com.wintermindset.transaction_service.repository.ConstraintViolations;
+import com.wintermindset.transaction_service.repository.UserRepository;
+import com.wintermindset.transaction_service.security.PasswordHashingService;
+import com.wintermindset.transaction_service.validation.user.UserCredentialsValidator;
+
+/**
+ * Imports users chunk by chunk: one existence query, parallel hashing and one
+ * JDBC batch per chunk. A bad row is reported and skipped; it never aborts
+ * the rest of the import.
+ */
+@Service
+public class UserImportService {
+
+    private static final String ALREADY_EXISTS = "Username already exists";
+    private static final String DUPLICATE_IN_IMPORT = "Username appears more than once in the import";
+
+    private final UserRepository userRepository;
+    private final PasswordHashingService passwordHashingService;
+    private final UserCredentialsValidator credentialsValidator;
+    private final OutboxService outboxService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int hashingParallelism;
+
+    public UserImportService(
+                UserRepository userRepository,
+                PasswordHashingService passwordHashingService,
+                UserCredentialsValidator credentialsValidator,
+                OutboxService outboxService,
+                PlatformTransactionManager transactionManager,
+                UserImportProperties importProperties,
+                PasswordHashingProperties hashingProperties
+    ) {
+        this.userRepository = userRepository;
+        this.passwordHashingService = passwordHashingService;
+        this.credentialsValidator = credentialsValidator;
+        this.outboxService = outboxService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = importProperties.chunkSize();
+        this.hashingParallelism = importProperties.hashingParallelism() > 0
+                ? importProperties.hashingParallelism()
+                : Math.max(1, hashingProperties.threads() / 2);
+    }
+
+    /**
+     * Consumes the stream lazily; only one chunk is held in memory at a time.
+     */
+    public UserImportReport importUsers(Stream<UserImportRow> rows, Instant importedAt) {
+        Objects.requireNonNull(rows, "Rows must not be null");
+        Objects.requireNonNull(importedAt, "Import time must not be null");
+        List<UserImportFailure> failures = new ArrayList<>();
+        List<IndexedRow> chunk = new ArrayList<>(chunkSize);
+        long imported = 0;
+        long rowIndex = 0;
+        Iterator<UserImportRow> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            chunk.add(new IndexedRow(rowIndex++, iterator.next()));
+            if (chunk.size() == chunkSize) {
+                imported += importChunk(chunk, importedAt, failures);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            imported += importChunk(chunk, importedAt, failures);
+        }
+        return new UserImportReport(imported, failures);
+    }
+
+    private int importChunk(List<IndexedRow> chunk, Instant importedAt, List<UserImportFailure> failures) {
+        Map<String, IndexedRow> candidates = new LinkedHashMap<>();
+        for (IndexedRow row : chunk) {
+            String rejection = rejection(row);
+            if (rejection != null) {
+                failures.add(row.failure(rejection));
+                continue;
+            }
+            if (candidates.putIfAbsent(row.username(), row) != null) {
+                failures.add(row.failure(DUPLICATE_IN_IMPORT));
+            }
+        }
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+        for (String existing : userRepository.findExistingUsernames(candidates.keySet())) {
+            rejectExisting(candidates, existing, failures);
+        }
+        return insert(hash(candidates.values(), importedAt, failures), failures);
+    }
+
+    /**
+     * A database that compares usernames case-insensitively can report a
+     * match spelled differently from the row, so those rows are found by a
+     * case-insensitive scan when the exact lookup misses.
+     */
+    private static void rejectExisting(
+                Map<String, IndexedRow> candidates,
+                String existing,
+                List<UserImportFailure> failures
+    ) {
+        IndexedRow exact = candidates.remove(existing);
+        if (exact != null) {
+            failures.add(exact.failure(ALREADY_EXISTS));
+            return;
+        }
+        Iterator<IndexedRow> iterator = candidates.values().iterator();
+        while (iterator.hasNext()) {
+            IndexedRow row = iterator.next();
+            if (row.username().equalsIgnoreCase(existing)) {
+                failures.add(row.failure(ALREADY_EXISTS));
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * @return why the row cannot be imported, or {@code null} if it can
+     */
+    private String rejection(IndexedRow indexedRow) {
+        UserImportRow row = indexedRow.row();
+        if (row.username() == null) {
+            return "Username must not be null";
+        }
+        if (row.rawPassword() == null) {
+            return "Password must not be null";
+        }
+        if (row.role() == null) {
+            return "Role must not be null";
+        }
+        try {
+            credentialsValidator.validateUsername(indexedRow.username());
+            credentialsValidator.validatePassword(row.rawPassword());
+        } catch (BadUsernameException | BadPasswordException e) {
+            return e.getMessage();
+        }
+        return null;
+    }
+
+    /**
+     * Keeps at most {@code hashingParallelism} hashes in flight so an import
+     * never fills the hashing queue that logins depend on.
+     */
+    private List<PendingUser> hash(
+                Collection<IndexedRow> rows,
+                Instant importedAt,
+                List<UserImportFailure> failures
+    ) {
+        Semaphore inFlight = new Semaphore(hashingParallelism);
+        List<CompletableFuture<String>> hashes = new ArrayList<>(rows.size());
+        for (IndexedRow row : rows) {
+            inFlight.acquireUninterruptibly();
+            try {
+                hashes.add(passwordHashingService.encodeAsync(row.row().rawPassword())
+                        .whenComplete((hash, error) -> inFlight.release()));
+            } catch (HashingCapacityExceededException e) {
+                inFlight.release();
+                hashes.add(CompletableFuture.failedFuture(e));
+            }
+        }
+        List<PendingUser> pending = new ArrayList<>(rows.size());
+        Iterator<CompletableFuture<String>> hashIterator = hashes.iterator();
+        for (IndexedRow row : rows) {
+            try {
+                pending.add(new PendingUser(row, hashIterator.next().join(), importedAt));
+            } catch (CompletionException e) {
+                failures.add(row.failure(e.getCause().getMessage()));
+            }
+        }
+        return pending;
+    }
+
+    private int insert(List<PendingUser> pending, List<UserImportFailure> failures) {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                userRepository.saveAll(pending.stream().map(PendingUser::toEntity).toList())
+                        .forEach(outboxService::userCreated);
+                userRepository.flush();
+            });
+            return pending.size();
+        } catch (DataIntegrityViolationException e) {
+            return insertOneByOne(pending, failures);
+        }
+    }
+
+    /**
+     * Fallback when a concurrent writer claimed a username after the existence
+     * query: isolates the offending rows instead of failing the chunk.
+     */
+    private int insertOneByOne(List<PendingUser> pending, List<UserImportFailure> failures) {
+        int inserted = 0;
+        for (PendingUser user : pending) {
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        outboxService.userCreated(userRepository.saveAndFlush(user.toEntity())));
+                inserted++;
+            } catch (DataIntegrityViolationException e) {
+                failures.add(user.row().failure(
+                        ConstraintViolations.isViolationOf(e, UserEntity.USERNAME_UNIQUE_CONSTRAINT)
+                                ? ALREADY_EXISTS
+                                : e.getMostSpecificCause().getMessage()
+                ));
+            }
+        }
+        return inserted;
+    }
+
+    private record IndexedRow(long index, UserImportRow row) {
+
+        String username() {
+            return row.username().trim();
+        }
+
+        UserImportFailure failure(String reason) {
+            return new UserImportFailure(index, row.username(), reason);
+        }
+    }
+
+    /**
+     * Entities are rebuilt for every attempt: a failed batch leaves generated
+     * ids on the instances it tried to persist.
+     */
+    private record PendingUser(IndexedRow row, String passwordHash, Instant createdAt) {
+
+        UserEntity toEntity() {
+            Role role = row.row().role();
+            return new UserEntity(row.username(), passwordHash, role, createdAt);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.wintermindset.transaction_service.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.wintermindset.transaction_service.config.UserListingProperties;
+import com.wintermindset.transaction_service.dto.user.UserListCursor;
+import com.wintermindset.transaction_service.dto.user.UserListFilter;
+import com.wintermindset.transaction_service.dto.user.UserListPage;
+import com.wintermindset.transaction_service.enums.user.UserExportFormat;
+import com.wintermindset.transaction_service.projection.user.UserAdminView;
+import com.wintermindset.transaction_service.repository.UserRepository;
+
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Admin browsing and export of the user base. Neither path loads more than
+ * one page or one fetch batch of rows at a time.
+ */
+@Service
+public class UserListingService {
+
+    private static final String CSV_HEADER = "id,username,role,active,created_at,last_login_at,"
+            + "deactivated_at,deactivation_reason,deactivated_by\n";
+
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+    private final int exportFetchSize;
+
+    public UserListingService(
+                UserRepository userRepository,
+                ObjectMapper objectMapper,
+                PlatformTransactionManager transactionManager,
+                UserListingProperties properties
+    ) {
+        this.userRepository = userRepository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.defaultPageSize = properties.defaultPageSize();
+        this.maxPageSize = properties.maxPageSize();
+        this.exportFetchSize = properties.exportFetchSize();
+    }
+
+    public int defaultPageSize() {
+        return defaultPageSize;
+    }
+
+    /**
+     * Reads one row past the page to learn whether another page exists.
+     *
+     * @param cursor {@code null} for the first page
+     */
+    public UserListPage listUsers(UserListFilter filter, String cursor, int limit) {
+        Objects.requireNonNull(filter, "Filter must not be null");
+        if (limit < 1 || limit > maxPageSize) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + maxPageSize);
+        }
+        UserListCursor after = cursor == null ? null : UserListCursor.decode(cursor);
+        List<UserAdminView> rows = userRepository.findAdminViewsAfter(filter, after, limit + 1);
+        if (rows.size() <= limit) {
+            return new UserListPage(rows, null);
+        }
+        UserAdminView last = rows.get(limit - 1);
+        return new UserListPage(
+                rows.subList(0, limit),
+                new UserListCursor(last.createdAt(), last.id()).encode()
+        );
+    }
+
+    /**
+     * Writes every matching user to {@code out} as rows arrive from the
+     * database cursor. The stream is flushed but not closed.
+     *
+     * @return the number of users written
+     */
+    public long export(UserListFilter filter, UserExportFormat format, OutputStream out) {
+        Objects.requireNonNull(filter, "Filter must not be null");
+        Objects.requireNonNull(format, "Format must not be null");
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        Long written = readOnlyTransaction.execute(status -> {
+            long count = 0;
+            try (Stream<UserAdminView> rows = userRepository.streamAdminViews(filter, exportFetchSize)) {
+                if (format == UserExportFormat.CSV) {
+                    writer.write(CSV_HEADER);
+                }
+                for (UserAdminView row : (Iterable<UserAdminView>) rows::iterator) {
+                    if (format == UserExportFormat.CSV) {
+                        writeCsv(writer, row);
+                    } else {
+                        writer.write(objectMapper.writeValueAsString(row));
+                        writer.write('\n');
+                    }
+                    count++;
+                }
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return count;
+        });
+        return written;
+    }
+
+    private static void writeCsv(Writer writer, UserAdminView row) throws IOException {
+        writer.write(row.id().toString());
+        writer.write(',');
+        writeCsvField(writer, row.username());
+        writer.write(',');
+        writer.write(row.role().name());
+        writer.write(',');
+        writer.write(Boolean.toString(row.active()));
+        writer.write(',');
+        writeCsvField(writer, row.createdAt());
+        writer.write(',');
+        writeCsvField(writer, row.lastLoginAt());
+        writer.write(',');
+        writeCsvField(writer, row.deactivatedAt());
+        writer.write(',');
+        writeCsvField(writer, row.deactivationReason());
+        writer.write(',');
+        writeCsvField(writer, row.deactivatedBy());
+        writer.write('\n');
+    }
+
+    private static void writeCsvField(Writer writer, Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -4,100 +4,197 @@ import java.time.Instant;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.regex.Pattern;
+import java.util.function.Supplier;
 
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.wintermindset.transaction_service.cache.UserCache;
+import com.wintermindset.transaction_service.cache.UsernameFilter;
+import com.wintermindset.transaction_service.dto.idempotency.IdempotentRequest;
+import com.wintermindset.transaction_service.dto.outbox.UserDeactivatedEvent;
 import com.wintermindset.transaction_service.entity.UserEntity;
+import com.wintermindset.transaction_service.enums.idempotency.IdempotencyScope;
+import com.wintermindset.transaction_service.enums.user.DeactivationReason;
 import com.wintermindset.transaction_service.enums.user.Role;
+import com.wintermindset.transaction_service.enums.user.UserOperation;
+import com.wintermindset.transaction_service.enums.user.UserOperationStep;
 import com.wintermindset.transaction_service.exception.user.BadPasswordException;
 import com.wintermindset.transaction_service.exception.user.UserNotFoundException;
 import com.wintermindset.transaction_service.exception.user.UserAlreadyExistsException;
+import com.wintermindset.transaction_service.exception.user.UserDeactivatedException;
+import com.wintermindset.transaction_service.metrics.UserMetrics;
+import com.wintermindset.transaction_service.projection.user.UserAuthorization;
+import com.wintermindset.transaction_service.projection.user.UserProfile;
+import com.wintermindset.transaction_service.repository.ConstraintViolations;
 import com.wintermindset.transaction_service.repository.UserRepository;
+import com.wintermindset.transaction_service.security.LoginThrottle;
+import com.wintermindset.transaction_service.security.PasswordHashingService;
+import com.wintermindset.transaction_service.validation.user.UserCredentialsValidator;
 
 @Service
 public class UserService {
 
-    private static final Pattern USERNAME_FIRST_CHAR_IS_LETTER = Pattern.compile("^[a-zA-Z].*");
-    private static final Pattern USERNAME_LAST_CHAR_IS_LETTER_OR_DIGIT = Pattern.compile(".*[a-zA-Z0-9]$");
-    private static final Pattern USERNAME_ALLOWED_CHARS = Pattern.compile("^[a-zA-Z0-9_]+$");
-    
-    private static final Pattern PASSWORD_HAS_CHAR_IN_LOWERCASE = Pattern.compile(".*[a-z].*");
-    private static final Pattern PASSWORD_HAS_CHAR_IN_UPPERCASE = Pattern.compile(".*[A-Z].*");
-    private static final Pattern PASSWORD_HAS_DIGIT = Pattern.compile(".*\\d.*");
-    private static final Pattern PASSWORD_HAS_SPECIAL = Pattern.compile(
-            ".*[!@#$%^&*()_+\\[\\]{}|;:'\",.<>?/].*"
-    );
+    private static final Logger log = LoggerFactory.getLogger(UserService.class);
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final UserCredentialsValidator credentialsValidator;
+    private final UserCache userCache;
+    private final UsernameFilter usernameFilter;
+    private final LoginThrottle loginThrottle;
+    private final LastLoginTracker lastLoginTracker;
+    private final IdempotencyService idempotencyService;
+    private final UserMetrics metrics;
+    private final OutboxService outboxService;
+    private final TransactionTemplate transactionTemplate;
+    private final String dummyPasswordHash;
 
     public UserService(
                 UserRepository userRepository,
-                PasswordEncoder passwordEncoder
+                PasswordHashingService passwordHashingService,
+                UserCredentialsValidator credentialsValidator,
+                UserCache userCache,
+                UsernameFilter usernameFilter,
+                LoginThrottle loginThrottle,
+                LastLoginTracker lastLoginTracker,
+                IdempotencyService idempotencyService,
+                UserMetrics metrics,
+                OutboxService outboxService,
+                PlatformTransactionManager transactionManager
     ) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingService = passwordHashingService;
+        this.credentialsValidator = credentialsValidator;
+        this.userCache = userCache;
+        this.usernameFilter = usernameFilter;
+        this.loginThrottle = loginThrottle;
+        this.lastLoginTracker = lastLoginTracker;
+        this.idempotencyService = idempotencyService;
+        this.metrics = metrics;
+        this.outboxService = outboxService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.dummyPasswordHash = passwordHashingService.encode(UUID.randomUUID().toString());
     }
 
     public UserEntity createUser(String username, String rawPassword, Role role, Instant creationTime) {
-        String trimmedUsername = username.trim();
-        validateUsername(trimmedUsername);
-        if (userRepository.existsByUsername(trimmedUsername)) {
-            throw new UserAlreadyExistsException(username);
+        try {
+            String trimmedUsername = username.trim();
+            UserEntity user = newUser(trimmedUsername, rawPassword, role, creationTime);
+            UserEntity created = insert(user, () -> transactionTemplate.execute(status -> saveNew(user)));
+            metrics.success(UserOperation.CREATE);
+            return created;
+        } catch (RuntimeException e) {
+            metrics.failure(UserOperation.CREATE, e);
+            throw e;
         }
-        validatePassword(rawPassword);
-        validateRole(role);
-        validateCreationTime(creationTime);
-        String passwordHash = passwordEncoder.encode(rawPassword);
-        return userRepository.save(new UserEntity(trimmedUsername, passwordHash, role, creationTime));
     }
 
-    private void validateUsername(String username) {
-        Objects.requireNonNull(username, "Username must not be null");
-        StringBuilder errors = new StringBuilder();
-        if (username.length() < 3 || username.length() > 20) {
-            errors.append("\n- Username must be 3-20 characters long.");
-        }
-        if (!USERNAME_FIRST_CHAR_IS_LETTER.matcher(username).matches()) {
-            errors.append("\n- Username must start with letter.");
-        }
-        if (!USERNAME_LAST_CHAR_IS_LETTER_OR_DIGIT.matcher(username).matches()) {
-            errors.append("\n- Username must end with letter or digit.");
-        }
-        if (!USERNAME_ALLOWED_CHARS.matcher(username).matches()) {
-            errors.append(
-                "\n- Username must contain only letters, digits and underscores."
-            );
-        }
-        if (!errors.isEmpty()) {
-            throw new UserNotFoundException("Bad username." + errors.toString());
+    /**
+     * A retry with the same key gets the user created by the first request,
+     * without validating or hashing again. The fingerprint covers username
+     * and role only; the password is never stored outside its hash.
+     */
+    public UserEntity createUser(
+                String username,
+                String rawPassword,
+                Role role,
+                Instant creationTime,
+                String idempotencyKey
+    ) {
+        try {
+            UserEntity user = createIdempotently(username.trim(), rawPassword, role, creationTime, idempotencyKey);
+            metrics.success(UserOperation.CREATE);
+            return user;
+        } catch (RuntimeException e) {
+            metrics.failure(UserOperation.CREATE, e);
+            throw e;
         }
     }
 
-    private void validatePassword(String password) {
-        Objects.requireNonNull(password, "Password must not be null");
-        StringBuilder errors = new StringBuilder();
-        if (password.length() < 8 || password.length() > 32) {
-            errors.append("\n- Password must be 8-32 characters long.");
-        }
-        if (!PASSWORD_HAS_CHAR_IN_LOWERCASE.matcher(password).matches()) {
-            errors.append("\n- Password must contain at least one lowercase letter.");
-        }
-        if (!PASSWORD_HAS_CHAR_IN_UPPERCASE.matcher(password).matches()) {
-            errors.append("\n- Password must contain at least one uppercase letter.");
-        }
-        if (!PASSWORD_HAS_DIGIT.matcher(password).matches()) {
-            errors.append("\n- Password must contain at least one digit.");
+    private UserEntity createIdempotently(
+                String trimmedUsername,
+                String rawPassword,
+                Role role,
+                Instant creationTime,
+                String idempotencyKey
+    ) {
+        validateRole(role);
+        IdempotentRequest request = IdempotentRequest.of(
+                IdempotencyScope.USER_SIGNUP, idempotencyKey, trimmedUsername, role
+        );
+        Optional<UUID> created = idempotencyService.find(request);
+        if (created.isPresent()) {
+            return loadCreatedUser(created.get());
         }
-        if (!PASSWORD_HAS_SPECIAL.matcher(password).matches()) {
-            errors.append(
-                "\n- Password must contain at least one special character (!@#$%^&*()_+[]{}|;:'\",.<>?/)."
-            );
+        UserEntity user = newUser(trimmedUsername, rawPassword, role, creationTime);
+        return insert(user, () -> idempotencyService.record(
+                request,
+                () -> saveNew(user),
+                UserEntity::getId,
+                this::loadCreatedUser
+        ));
+    }
+
+    /**
+     * Must run in a transaction, which the outbox event joins.
+     */
+    private UserEntity saveNew(UserEntity user) {
+        UserEntity saved = userRepository.saveAndFlush(user);
+        outboxService.userCreated(saved);
+        return saved;
+    }
+
+    private UserEntity newUser(String trimmedUsername, String rawPassword, Role role, Instant creationTime) {
+        long startedAt = metrics.start();
+        credentialsValidator.validateUsername(trimmedUsername);
+        credentialsValidator.validatePassword(rawPassword);
+        validateRole(role);
+        validateCreationTime(creationTime);
+        startedAt = metrics.record(UserOperationStep.VALIDATE, startedAt);
+        if (usernameFilter.mightExist(trimmedUsername) && userRepository.existsByUsername(trimmedUsername)) {
+            throw new UserAlreadyExistsException(trimmedUsername);
         }
-        if (!errors.isEmpty()) {
-            throw new BadPasswordException("Bad password." + errors.toString());
+        startedAt = metrics.record(UserOperationStep.EXISTS_CHECK, startedAt);
+        String passwordHash = passwordHashingService.encode(rawPassword);
+        metrics.record(UserOperationStep.HASH, startedAt);
+        return new UserEntity(trimmedUsername, passwordHash, role, creationTime);
+    }
+
+    private UserEntity loadCreatedUser(UUID id) {
+        return userRepository.findById(id)
+                .orElseThrow(() -> new UserNotFoundException("User not found with id: " + id));
+    }
+
+    /**
+     * Always asks the database: the {@link UsernameFilter} misses usernames
+     * created on other nodes, and no constraint would catch a wrong answer.
+     */
+    public boolean isUsernameAvailable(String username) {
+        Objects.requireNonNull(username, "Username must not be null");
+        return !userRepository.existsByUsername(username.trim());
+    }
+
+    /**
+     * Single round trip: the unique constraint is the existence check. Only
+     * usernames the filter cannot rule out are checked up front, to avoid
+     * hashing for an insert that is bound to fail.
+     */
+    private UserEntity insert(UserEntity user, Supplier<UserEntity> save) {
+        long startedAt = metrics.start();
+        try {
+            UserEntity saved = save.get();
+            metrics.record(UserOperationStep.INSERT, startedAt);
+            return saved;
+        } catch (DataIntegrityViolationException e) {
+            if (ConstraintViolations.isViolationOf(e, UserEntity.USERNAME_UNIQUE_CONSTRAINT)) {
+                throw new UserAlreadyExistsException(user.getUsername(), e);
+            }
+            throw e;
         }
     }
 
@@ -109,22 +206,163 @@ public class UserService {
         Objects.requireNonNull(creationTime, "Creation time must not be null");
     }
 
+    /**
+     * Served from {@link UserCache}; the returned user must not be modified.
+     */
     public Optional<UserEntity> findById(UUID id) {
-        return userRepository.findById(id);
+        return userCache.findById(id, userRepository::findById);
+    }
+
+    /**
+     * Served from {@link UserCache}; the returned user must not be modified.
+     */
+    public Optional<UserEntity> findByUsername(String username) {
+        return userCache.findByUsername(username, userRepository::findByUsername);
+    }
+
+    public Optional<UserProfile> findProfile(UUID id) {
+        return userRepository.findProfileById(id);
+    }
+
+    public Optional<UserProfile> findProfileByUsername(String username) {
+        return userRepository.findProfileByUsername(username);
+    }
+
+    public Optional<UserAuthorization> findAuthorization(UUID id) {
+        return userRepository.findAuthorizationById(id);
+    }
+
+    /**
+     * Verifies credentials and, on success, upgrades a hash written with stale
+     * encoding parameters.
+     */
+    public UserEntity authenticate(String username, String rawPassword) {
+        return authenticate(username, rawPassword, null);
+    }
+
+    /**
+     * Throttled attempts are rejected before the user is loaded or any hash
+     * is computed. An unknown username is verified against a dummy hash and
+     * fails like a wrong password, so neither the outcome nor the latency
+     * tells the caller whether the user exists.
+     *
+     * @param clientAddress may be {@code null} when unknown
+     */
+    public UserEntity authenticate(String username, String rawPassword, String clientAddress) {
+        try {
+            UserEntity user = verifyLogin(username, rawPassword, clientAddress);
+            metrics.success(UserOperation.AUTHENTICATE);
+            return user;
+        } catch (RuntimeException e) {
+            metrics.failure(UserOperation.AUTHENTICATE, e);
+            throw e;
+        }
+    }
+
+    private UserEntity verifyLogin(String username, String rawPassword, String clientAddress) {
+        Objects.requireNonNull(username, "Username must not be null");
+        Objects.requireNonNull(rawPassword, "Password must not be null");
+        String trimmedUsername = username.trim();
+        loginThrottle.acquire(trimmedUsername, clientAddress);
+        long startedAt = metrics.start();
+        UserEntity user = userRepository.findByUsername(trimmedUsername).orElse(null);
+        String passwordHash = user != null ? user.getPasswordHash() : dummyPasswordHash;
+        startedAt = metrics.record(UserOperationStep.LOOKUP, startedAt);
+        boolean matches = passwordHashingService.matches(rawPassword, passwordHash);
+        metrics.record(UserOperationStep.VERIFY, startedAt);
+        if (user == null) {
+            loginThrottle.recordFailure(trimmedUsername);
+            throw new BadPasswordException("Password is incorrect");
+        }
+        if (!matches) {
+            if (loginThrottle.recordFailure(trimmedUsername)) {
+                deactivateAfterRepeatedFailures(user);
+            }
+            throw new BadPasswordException("Password is incorrect");
+        }
+        if (!user.isActive()) {
+            throw new UserDeactivatedException("User is deactivated: " + user.getId());
+        }
+        if (passwordHashingService.upgradeEncoding(passwordHash)) {
+            startedAt = metrics.start();
+            String upgradedHash = passwordHashingService.encode(rawPassword);
+            startedAt = metrics.record(UserOperationStep.HASH, startedAt);
+            if (userRepository.replacePasswordHash(user.getId(), passwordHash, upgradedHash) == 1) {
+                userCache.evict(user.getId(), user.getUsername());
+                user.setPasswordHash(upgradedHash);
+            }
+            metrics.record(UserOperationStep.UPDATE, startedAt);
+        }
+        lastLoginTracker.record(user.getId(), Instant.now());
+        return user;
+    }
+
+    /**
+     * {@code user} was loaded before hashing and may be stale, so it is not
+     * saved back: a conditional UPDATE changes only the deactivation columns.
+     */
+    private void deactivateAfterRepeatedFailures(UserEntity user) {
+        if (!user.isActive()) {
+            return;
+        }
+        Instant deactivatedAt = Instant.now();
+        boolean deactivated = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            if (userRepository.deactivateIfActive(
+                    user.getId(), deactivatedAt, DeactivationReason.SECURITY_BREACH, Role.ADMIN) == 0) {
+                return false;
+            }
+            userCache.evictAfterCompletion(user.getId(), user.getUsername());
+            outboxService.userDeactivated(new UserDeactivatedEvent(
+                    user.getId(), DeactivationReason.SECURITY_BREACH, Role.ADMIN, deactivatedAt
+            ));
+            return true;
+        }));
+        if (deactivated) {
+            log.warn("Deactivated user {} after repeated failed logins", user.getId());
+        }
     }
 
     public void updatePassword(UUID userId, String oldPassword, String newPassword) {
+        try {
+            changePassword(userId, oldPassword, newPassword);
+            metrics.success(UserOperation.UPDATE_PASSWORD);
+        } catch (RuntimeException e) {
+            metrics.failure(UserOperation.UPDATE_PASSWORD, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Hashing takes long enough for the user to change meanwhile, so the
+     * loaded entity is never saved back: only the hash is replaced, and only
+     * if it is still the one the old password was verified against.
+     */
+    private void changePassword(UUID userId, String oldPassword, String newPassword) {
         Objects.requireNonNull(userId, "User ID must not be null");
         Objects.requireNonNull(oldPassword, "Old password must not be null");
         Objects.requireNonNull(newPassword, "New password must not be null");
+        long startedAt = metrics.start();
         UserEntity user = userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException("User not found with id: " + userId));
-        if (!passwordEncoder.matches(oldPassword, user.getPasswordHash())) {
+        String verifiedHash = user.getPasswordHash();
+        startedAt = metrics.record(UserOperationStep.LOOKUP, startedAt);
+        boolean matches = passwordHashingService.matches(oldPassword, verifiedHash);
+        metrics.record(UserOperationStep.VERIFY, startedAt);
+        if (!matches) {
             throw new BadPasswordException("Old password is incorrect");
         }
-        validatePassword(newPassword);
-        String newPasswordHash = passwordEncoder.encode(newPassword);
-        user.setPasswordHash(newPasswordHash);
-        userRepository.save(user);
+        startedAt = metrics.start();
+        credentialsValidator.validatePassword(newPassword);
+        startedAt = metrics.record(UserOperationStep.VALIDATE, startedAt);
+        String newPasswordHash = passwordHashingService.encode(newPassword);
+        startedAt = metrics.record(UserOperationStep.HASH, startedAt);
+        transactionTemplate.executeWithoutResult(status -> {
+            if (userRepository.replacePasswordHash(userId, verifiedHash, newPasswordHash) == 0) {
+                throw new BadPasswordException("Old password is incorrect");
+            }
+            userCache.evictAfterCompletion(userId, user.getUsername());
+            outboxService.passwordChanged(userId, Instant.now());
+        });
+        metrics.record(UserOperationStep.UPDATE, startedAt);
     }
 }
@@ -0,0 +1,138 @@
+package com.wintermindset.transaction_service.validation.user;
+
+import java.util.Objects;
+
+import org.springframework.stereotype.Component;
+
+import com.wintermindset.transaction_service.exception.user.BadPasswordException;
+import com.wintermindset.transaction_service.exception.user.BadUsernameException;
+
+/**
+ * Classifies every character once through a lookup table and allocates only
+ * when a rule is violated. Rejections skip the stack trace: they are expected
+ * input errors, and bots can produce them at request rate.
+ *
+ * <p>Rules match the former regular expressions exactly, including the quirk
+ * that {@code .} never matched a line terminator: input containing one fails
+ * every "starts with", "ends with" and "contains" rule.
+ */
+@Component
+public class SinglePassUserCredentialsValidator implements UserCredentialsValidator {
+
+    private static final int USERNAME_MIN_LENGTH = 3;
+    private static final int USERNAME_MAX_LENGTH = 20;
+    private static final int PASSWORD_MIN_LENGTH = 8;
+    private static final int PASSWORD_MAX_LENGTH = 32;
+
+    private static final int LOWER = 1;
+    private static final int UPPER = 1 << 1;
+    private static final int DIGIT = 1 << 2;
+    private static final int UNDERSCORE = 1 << 3;
+    private static final int SPECIAL = 1 << 4;
+    private static final int LINE_TERMINATOR = 1 << 5;
+
+    private static final int LETTER = LOWER | UPPER;
+    private static final int USERNAME_CHAR = LETTER | DIGIT | UNDERSCORE;
+    private static final int PASSWORD_REQUIRED = LOWER | UPPER | DIGIT | SPECIAL;
+
+    private static final String SPECIAL_CHARS = "!@#$%^&*()_+[]{}|;:'\",.<>?/";
+
+    private static final byte[] ASCII_CLASSES = new byte[128];
+
+    static {
+        for (char c = 'a'; c <= 'z'; c++) {
+            ASCII_CLASSES[c] |= LOWER;
+        }
+        for (char c = 'A'; c <= 'Z'; c++) {
+            ASCII_CLASSES[c] |= UPPER;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            ASCII_CLASSES[c] |= DIGIT;
+        }
+        ASCII_CLASSES['_'] |= UNDERSCORE;
+        for (int i = 0; i < SPECIAL_CHARS.length(); i++) {
+            ASCII_CLASSES[SPECIAL_CHARS.charAt(i)] |= SPECIAL;
+        }
+        ASCII_CLASSES['\n'] |= LINE_TERMINATOR;
+        ASCII_CLASSES['\r'] |= LINE_TERMINATOR;
+    }
+
+    private static int classify(char c) {
+        if (c < 128) {
+            return ASCII_CLASSES[c];
+        }
+        return c == '\u0085' || c == '\u2028' || c == '\u2029' ? LINE_TERMINATOR : 0;
+    }
+
+    @Override
+    public void validateUsername(String username) {
+        Objects.requireNonNull(username, "Username must not be null");
+        int length = username.length();
+        boolean lengthValid = length >= USERNAME_MIN_LENGTH && length <= USERNAME_MAX_LENGTH;
+        int seen = 0;
+        boolean onlyAllowedChars = length > 0;
+        for (int i = 0; i < length; i++) {
+            int charClass = classify(username.charAt(i));
+            seen |= charClass;
+            onlyAllowedChars &= (charClass & USERNAME_CHAR) != 0;
+        }
+        boolean singleLine = (seen & LINE_TERMINATOR) == 0;
+        boolean startsWithLetter = singleLine && length > 0
+                && (classify(username.charAt(0)) & LETTER) != 0;
+        boolean endsWithLetterOrDigit = singleLine && length > 0
+                && (classify(username.charAt(length - 1)) & (LETTER | DIGIT)) != 0;
+        if (lengthValid && startsWithLetter && endsWithLetterOrDigit && onlyAllowedChars) {
+            return;
+        }
+        StringBuilder errors = new StringBuilder("Bad username.");
+        if (!lengthValid) {
+            errors.append("\n- Username must be 3-20 characters long.");
+        }
+        if (!startsWithLetter) {
+            errors.append("\n- Username must start with letter.");
+        }
+        if (!endsWithLetterOrDigit) {
+            errors.append("\n- Username must end with letter or digit.");
+        }
+        if (!onlyAllowedChars) {
+            errors.append("\n- Username must contain only letters, digits and underscores.");
+        }
+        throw new BadUsernameException(errors.toString(), null, false, false);
+    }
+
+    @Override
+    public void validatePassword(String password) {
+        Objects.requireNonNull(password, "Password must not be null");
+        int length = password.length();
+        boolean lengthValid = length >= PASSWORD_MIN_LENGTH && length <= PASSWORD_MAX_LENGTH;
+        int seen = 0;
+        for (int i = 0; i < length; i++) {
+            seen |= classify(password.charAt(i));
+        }
+        if ((seen & LINE_TERMINATOR) != 0) {
+            seen = 0;
+        }
+        if (lengthValid && (seen & PASSWORD_REQUIRED) == PASSWORD_REQUIRED) {
+            return;
+        }
+        StringBuilder errors = new StringBuilder("Bad password.");
+        if (!lengthValid) {
+            errors.append("\n- Password must be 8-32 characters long.");
+        }
+        if ((seen & LOWER) == 0) {
+            errors.append("\n- Password must contain at least one lowercase letter.");
+        }
+        if ((seen & UPPER) == 0) {
+            errors.append("\n- Password must contain at least one uppercase letter.");
+        }
+        if ((seen & DIGIT) == 0) {
+            errors.append("\n- Password must contain at least one digit.");
+        }
+        if ((seen & SPECIAL) == 0) {
+            errors.append(
+                "\n- Password must contain at least one special character (!@#$%^&*()_+[]{}|;:'\",.<>?/)."
+            );
+        }
+        throw new BadPasswordException(errors.toString(), null, false, false);
+    }
+}
@@ -0,0 +1,17 @@
+package com.wintermindset.transaction_service.validation.user;
+
+import com.wintermindset.transaction_service.exception.user.BadPasswordException;
+import com.wintermindset.transaction_service.exception.user.BadUsernameException;
+
+public interface UserCredentialsValidator {
+
+    /**
+     * @throws BadUsernameException listing every violated rule
+     */
+    void validateUsername(String username);
+
+    /**
+     * @throws BadPasswordException listing every violated rule
+     */
+    void validatePassword(String password);
+}
@@ -0,0 +1,48 @@
+package com.wintermindset.transaction_service.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BlockedBloomFilterTest {
+
+    private static final int KEYS = 10_000;
+
+    @Test
+    void mightContain_neverMissesAnAddedKey() {
+        BlockedBloomFilter filter = new BlockedBloomFilter(KEYS, 0.01);
+        for (int i = 0; i < KEYS; i++) {
+            filter.put("user" + i);
+        }
+
+        for (int i = 0; i < KEYS; i++) {
+            assertThat(filter.mightContain("user" + i)).isTrue();
+        }
+    }
+
+    @Test
+    void mightContain_keepsFalsePositivesNearTheConfiguredRate() {
+        BlockedBloomFilter filter = new BlockedBloomFilter(KEYS, 0.01);
+        for (int i = 0; i < KEYS; i++) {
+            filter.put("user" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < KEYS; i++) {
+            if (filter.mightContain("other" + i)) {
+                falsePositives++;
+            }
+        }
+
+        assertThat(falsePositives).isLessThan(KEYS * 3 / 100);
+    }
+
+    @Test
+    void constructor_rejectsInvalidSizing() {
+        assertThatThrownBy(() -> new BlockedBloomFilter(0, 0.01))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BlockedBloomFilter(KEYS, 1.0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,62 @@
+package com.wintermindset.transaction_service.concurrency;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdmissionControlledDataSourceTest {
+
+    private MeterRegistry meterRegistry;
+    private AdmissionControlledDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource target = new JdbcDataSource();
+        target.setURL("jdbc:h2:mem:admission;DB_CLOSE_DELAY=-1");
+        meterRegistry = new SimpleMeterRegistry();
+        dataSource = new AdmissionControlledDataSource(target, 1, Duration.ofMillis(50), meterRegistry);
+    }
+
+    @Test
+    void getConnection_waitsForPermitThenTimesOut() throws Exception {
+        try (Connection held = dataSource.getConnection()) {
+            assertThatThrownBy(dataSource::getConnection)
+                    .isInstanceOf(SQLTransientConnectionException.class);
+        }
+
+        try (Connection next = dataSource.getConnection()) {
+            assertThat(next.isValid(1)).isTrue();
+        }
+        assertThat(meterRegistry.get("db.admission.timeouts").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void close_releasesPermitOnce() throws Exception {
+        Connection connection = dataSource.getConnection();
+        connection.close();
+        connection.close();
+
+        assertThat(meterRegistry.get("db.admission.permits.available").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void admittedConnection_delegatesToTarget() throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            assertThat(statement.execute("select 1")).isTrue();
+            assertThat(((ConnectionProxy) connection).getTargetConnection()).isNotSameAs(connection);
+        }
+    }
+}
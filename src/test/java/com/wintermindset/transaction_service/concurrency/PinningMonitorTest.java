@@ -0,0 +1,30 @@
+package com.wintermindset.transaction_service.concurrency;
+
+import com.wintermindset.transaction_service.concurrency.PinningMonitor.PinningPath;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PinningMonitorTest {
+
+    @Test
+    void pinningPath_isTakenFromInnermostKnownFrame() {
+        assertThat(PinningPath.of(List.of(
+                "java.lang.Object",
+                "org.postgresql.core.PGStream",
+                "org.hibernate.engine.jdbc.internal.ResultSetReturnImpl"
+        ))).isEqualTo(PinningPath.JDBC);
+        assertThat(PinningPath.of(List.of(
+                "org.hibernate.internal.SessionImpl",
+                "com.zaxxer.hikari.pool.HikariPool"
+        ))).isEqualTo(PinningPath.HIBERNATE);
+        assertThat(PinningPath.of(List.of(
+                "org.springframework.security.crypto.bcrypt.BCrypt"
+        ))).isEqualTo(PinningPath.HASHING);
+        assertThat(PinningPath.of(List.of("java.lang.Thread"))).isEqualTo(PinningPath.OTHER);
+        assertThat(PinningPath.of(List.of())).isEqualTo(PinningPath.OTHER);
+    }
+}
@@ -0,0 +1,61 @@
+package com.wintermindset.transaction_service.concurrency;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StripedLocksTest {
+
+    @Test
+    void constructor_rejectsNonPowerOfTwo() {
+        assertThatThrownBy(() -> new StripedLocks(12))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void withLocks_handlesKeysOnTheSameStripe() {
+        StripedLocks locks = new StripedLocks(1);
+
+        assertThat(locks.withLocks("a", "b", () -> "done")).isEqualTo("done");
+    }
+
+    @Test
+    void withLocks_doesNotDeadlockOnOppositeOrder() throws Exception {
+        StripedLocks locks = new StripedLocks(64);
+        String first = "alpha";
+        String second = "omega";
+        assertThat(locks.stripeOf(first)).isNotEqualTo(locks.stripeOf(second));
+        int rounds = 10_000;
+        CountDownLatch start = new CountDownLatch(1);
+        long[] counter = new long[1];
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<?> forward = executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < rounds; i++) {
+                    locks.withLocks(first, second, () -> counter[0]++);
+                }
+                return null;
+            });
+            Future<?> backward = executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < rounds; i++) {
+                    locks.withLocks(second, first, () -> counter[0]++);
+                }
+                return null;
+            });
+            start.countDown();
+            forward.get(10, TimeUnit.SECONDS);
+            backward.get(10, TimeUnit.SECONDS);
+        }
+
+        assertThat(counter[0]).isEqualTo(2L * rounds);
+    }
+}
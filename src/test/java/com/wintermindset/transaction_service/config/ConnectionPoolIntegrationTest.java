@@ -0,0 +1,64 @@
+package com.wintermindset.transaction_service.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.env.Environment;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ConnectionPoolIntegrationTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ConnectionPoolProperties properties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private Environment environment;
+
+    @Test
+    void pool_isSizedFromCoreCount() throws Exception {
+        HikariDataSource pool = dataSource.unwrap(HikariDataSource.class);
+
+        assertThat(pool.getMaximumPoolSize())
+                .isEqualTo(properties.poolSize(Runtime.getRuntime().availableProcessors()));
+    }
+
+    @Test
+    void pool_exportsSaturationMeters() {
+        assertThat(meterRegistry.find("hikaricp.connections.active").gauge()).isNotNull();
+        assertThat(meterRegistry.find("hikaricp.connections.idle").gauge()).isNotNull();
+        assertThat(meterRegistry.find("hikaricp.connections.acquire").timer()).isNotNull();
+    }
+
+    @Test
+    void leakWarnings_areCounted() {
+        double before = meterRegistry.get("hikaricp.connections.leaks").counter().count();
+
+        LoggerFactory.getLogger("com.zaxxer.hikari.pool.ProxyLeakTask")
+                .warn("Connection leak detection triggered for conn0 on thread main, stack trace follows");
+
+        assertThat(meterRegistry.get("hikaricp.connections.leaks").counter().count()).isEqualTo(before + 1);
+    }
+
+    @Test
+    void sharedSettings_passSelfCheck() {
+        assertThat(DatabaseSettingsCheck.findings(environment, null, Runtime.getRuntime().availableProcessors()))
+                .isEmpty();
+    }
+}
@@ -0,0 +1,47 @@
+package com.wintermindset.transaction_service.config;
+
+import com.zaxxer.hikari.HikariConfig;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConnectionPoolProfilesTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = { "dev", "prod" })
+    void profile_bindsPoolSettingsAndPassesSelfCheck(String profile) throws IOException {
+        StandardEnvironment environment = new StandardEnvironment();
+        addYaml(environment, "application-" + profile + ".yaml");
+        addYaml(environment, "application.yaml");
+        environment.getPropertySources().addFirst(new MapPropertySource(
+                "connection", Map.of("DB_URL", "jdbc:postgresql://db/bank_db", "DB_USERNAME", "app", "DB_PASSWORD", "")
+        ));
+
+        HikariConfig pool = new HikariConfig();
+        pool.setMaximumPoolSize(new ConnectionPoolProperties(2, 1, true).poolSize(8));
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setJdbcUrl(environment.getProperty("spring.datasource.url"));
+
+        assertThat(pool.getConnectionTimeout()).isPositive();
+        assertThat(pool.getLeakDetectionThreshold()).isPositive();
+        assertThat(DatabaseSettingsCheck.findings(environment, pool, 8)).isEmpty();
+    }
+
+    private static void addYaml(StandardEnvironment environment, String name) throws IOException {
+        for (PropertySource<?> source : new YamlPropertySourceLoader().load(name, new ClassPathResource(name))) {
+            environment.getPropertySources().addLast(source);
+        }
+    }
+}
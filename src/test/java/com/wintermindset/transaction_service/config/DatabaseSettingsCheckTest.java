@@ -0,0 +1,56 @@
+package com.wintermindset.transaction_service.config;
+
+import com.zaxxer.hikari.HikariConfig;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DatabaseSettingsCheckTest {
+
+    @Test
+    void findings_emptyForTunedSettings() {
+        HikariConfig pool = new HikariConfig();
+        pool.setJdbcUrl("jdbc:postgresql://db/bank_db?reWriteBatchedInserts=true");
+        pool.setMaximumPoolSize(9);
+
+        assertThat(DatabaseSettingsCheck.findings(tuned(), pool, 4)).isEmpty();
+    }
+
+    @Test
+    void findings_reportEachSlowSetting() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.jpa.show-sql", "true");
+        HikariConfig pool = new HikariConfig();
+        pool.setJdbcUrl("jdbc:postgresql://db/bank_db");
+        pool.setMaximumPoolSize(64);
+        pool.setMinimumIdle(2);
+
+        assertThat(DatabaseSettingsCheck.findings(environment, pool, 4))
+                .hasSize(8)
+                .anySatisfy(finding -> assertThat(finding).contains("open-in-view"))
+                .anySatisfy(finding -> assertThat(finding).contains("batch_size"))
+                .anySatisfy(finding -> assertThat(finding).contains("show-sql"))
+                .anySatisfy(finding -> assertThat(finding).contains("pool size 64"))
+                .anySatisfy(finding -> assertThat(finding).contains("minimum-idle"))
+                .anySatisfy(finding -> assertThat(finding).contains("reWriteBatchedInserts"));
+    }
+
+    @Test
+    void findings_acceptRewriteFromDataSourceProperties() {
+        HikariConfig pool = new HikariConfig();
+        pool.setJdbcUrl("jdbc:postgresql://db/bank_db");
+        pool.addDataSourceProperty("reWriteBatchedInserts", "true");
+
+        assertThat(DatabaseSettingsCheck.findings(tuned(), pool, 8)).isEmpty();
+    }
+
+    private static MockEnvironment tuned() {
+        return new MockEnvironment()
+                .withProperty("spring.jpa.open-in-view", "false")
+                .withProperty("spring.jpa.properties.hibernate.jdbc.batch_size", "500")
+                .withProperty("spring.jpa.properties.hibernate.order_inserts", "true")
+                .withProperty("spring.jpa.properties.hibernate.order_updates", "true");
+    }
+}
@@ -0,0 +1,118 @@
+package com.wintermindset.transaction_service.controller;
+
+import com.wintermindset.transaction_service.entity.UserEntityTestFactory;
+import com.wintermindset.transaction_service.enums.user.Role;
+import com.wintermindset.transaction_service.repository.UserRepository;
+import com.wintermindset.transaction_service.security.JwtService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AdminUserControllerIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+    }
+
+    @Test
+    void listUsers_isAvailableToRolesThatManageUsers() throws Exception {
+        String token = tokenFor("root", Role.ADMIN);
+        userRepository.save(UserEntityTestFactory.createActiveUser("member"));
+
+        mockMvc.perform(get("/api/admin/users").param("limit", "1").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users.length()").value(1))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty());
+    }
+
+    @Test
+    void listUsers_isForbiddenToOtherRoles() throws Exception {
+        String token = tokenFor("member", Role.USER);
+
+        mockMvc.perform(get("/api/admin/users").header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void listUsers_rejectsMalformedCursor() throws Exception {
+        String token = tokenFor("root", Role.ADMIN);
+
+        mockMvc.perform(get("/api/admin/users").param("cursor", "bogus").header("Authorization", "Bearer " + token))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void importUsers_importsNdjsonRowsAndReportsFailures() throws Exception {
+        String token = tokenFor("root", Role.ADMIN);
+        String body = """
+                {"username":"alice","rawPassword":"Str0ng!Passw0rd","role":"USER"}
+                {"username":"root","rawPassword":"Str0ng!Passw0rd","role":"ADMIN"}
+                {"username":"bob","rawPassword":"Str0ng!Passw0rd","role":"USER"}
+                """;
+
+        mockMvc.perform(post("/api/admin/users/import")
+                        .contentType("application/x-ndjson")
+                        .content(body)
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.failures[0].rowIndex").value(1))
+                .andExpect(jsonPath("$.failures[0].reason").value("Username already exists"));
+
+        assertThat(userRepository.findByUsername("bob")).isPresent();
+    }
+
+    @Test
+    void importUsers_rejectsMalformedLines() throws Exception {
+        String token = tokenFor("root", Role.ADMIN);
+
+        mockMvc.perform(post("/api/admin/users/import")
+                        .contentType("application/x-ndjson")
+                        .content("{\"username\":")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void importUsers_isForbiddenToOtherRoles() throws Exception {
+        String token = tokenFor("member", Role.USER);
+
+        mockMvc.perform(post("/api/admin/users/import")
+                        .contentType("application/x-ndjson")
+                        .content("{}")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden());
+    }
+
+    private String tokenFor(String username, Role role) {
+        return jwtService.issue(userRepository.save(UserEntityTestFactory.createActiveUser(username, role))).value();
+    }
+}
@@ -0,0 +1,132 @@
+package com.wintermindset.transaction_service.controller;
+
+import com.wintermindset.transaction_service.enums.user.DeactivationReason;
+import com.wintermindset.transaction_service.enums.user.Role;
+import com.wintermindset.transaction_service.entity.UserEntity;
+import com.wintermindset.transaction_service.repository.UserRepository;
+import com.wintermindset.transaction_service.service.UserService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.Instant;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AuthControllerIntegrationTest {
+
+    private static final String PASSWORD = "Str0ng!Passw0rd";
+    private static final Pattern ACCESS_TOKEN = Pattern.compile("\"accessToken\"\\s*:\\s*\"([^\"]+)\"");
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+    }
+
+    @Test
+    void login_issuesTokenAcceptedOnProtectedEndpoints() throws Exception {
+        userService.createUser("alice", PASSWORD, Role.USER, Instant.now());
+
+        MvcResult result = mockMvc.perform(login("alice", PASSWORD))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tokenType").value("Bearer"))
+                .andReturn();
+        Matcher token = ACCESS_TOKEN.matcher(result.getResponse().getContentAsString());
+        assertThat(token.find()).isTrue();
+
+        int authenticated = mockMvc.perform(get("/api/unmapped").header("Authorization", "Bearer " + token.group(1)))
+                .andReturn().getResponse().getStatus();
+        assertThat(authenticated).isNotIn(401, 403);
+    }
+
+    @Test
+    void token_isRejectedOnceItsUserIsDeactivated() throws Exception {
+        UserEntity user = userService.createUser("alice", PASSWORD, Role.USER, Instant.now());
+        MvcResult result = mockMvc.perform(login("alice", PASSWORD)).andExpect(status().isOk()).andReturn();
+        Matcher token = ACCESS_TOKEN.matcher(result.getResponse().getContentAsString());
+        assertThat(token.find()).isTrue();
+        String bearer = "Bearer " + token.group(1);
+        int beforeDeactivation = mockMvc.perform(get("/api/unmapped").header("Authorization", bearer))
+                .andReturn().getResponse().getStatus();
+        assertThat(beforeDeactivation).isNotIn(401, 403);
+
+        UserEntity stored = userRepository.findById(user.getId()).orElseThrow();
+        stored.deactivate(Instant.now(), DeactivationReason.ADMIN_ACTION, Role.ADMIN);
+        userRepository.save(stored);
+
+        mockMvc.perform(get("/api/unmapped").header("Authorization", bearer))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void prometheus_isNotScrapableOnTheApplicationPort() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void login_rejectsUnknownUserAndWrongPasswordAlike() throws Exception {
+        userService.createUser("alice", PASSWORD, Role.USER, Instant.now());
+
+        mockMvc.perform(login("alice", "Wr0ng!Passw0rd"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.detail").value("Invalid username or password"));
+        mockMvc.perform(login("nobody", PASSWORD))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.detail").value("Invalid username or password"));
+    }
+
+    @Test
+    void login_rejectsDeactivatedUser() throws Exception {
+        UserEntity user = userService.createUser("alice", PASSWORD, Role.USER, Instant.now());
+        user.deactivate(Instant.now(), DeactivationReason.USER_REQUEST, Role.USER);
+        userRepository.save(user);
+
+        mockMvc.perform(login("alice", PASSWORD))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void protectedEndpoints_rejectMissingOrInvalidToken() throws Exception {
+        mockMvc.perform(get("/api/unmapped"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/unmapped").header("Authorization", "Bearer not-a-token"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private static RequestBuilder login(String username, String password) {
+        return post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}");
+    }
+}
@@ -0,0 +1,84 @@
+package com.wintermindset.transaction_service.controller;
+
+import com.wintermindset.transaction_service.enums.user.Role;
+import com.wintermindset.transaction_service.repository.UserRepository;
+import com.wintermindset.transaction_service.service.UserService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.client.RestClient;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "management.server.port=0"
+)
+@ActiveProfiles("test")
+class ManagementPortIntegrationTest {
+
+    private static final String PASSWORD = "Str0ng!Passw0rd";
+
+    @LocalServerPort
+    private int serverPort;
+
+    @LocalManagementPort
+    private int managementPort;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final RestClient restClient = RestClient.builder()
+            .defaultStatusHandler(HttpStatusCode::isError, (request, response) -> { })
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void prometheus_isScrapableWithoutTokenOnTheManagementPortAndCountsLogins() {
+        userService.createUser("alice", PASSWORD, Role.USER, Instant.now());
+        HttpStatusCode login = restClient.post()
+                .uri("http://localhost:{port}/api/auth/login", serverPort)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body("{\"username\":\"alice\",\"password\":\"" + PASSWORD + "\"}")
+                .retrieve()
+                .toBodilessEntity()
+                .getStatusCode();
+        assertThat(login.value()).isEqualTo(200);
+
+        String scrape = restClient.get()
+                .uri("http://localhost:{port}/actuator/prometheus", managementPort)
+                .retrieve()
+                .body(String.class);
+        assertThat(scrape)
+                .contains("users_operations_total{operation=\"authenticate\",outcome=\"success\"}")
+                .contains("users_step_duration_seconds_bucket{step=\"verify\"")
+                .contains("spring_data_repository_invocations_seconds");
+    }
+
+    @Test
+    void prometheus_isNotServedOnTheApplicationPort() {
+        HttpStatusCode status = restClient.get()
+                .uri("http://localhost:{port}/actuator/prometheus", serverPort)
+                .retrieve()
+                .toBodilessEntity()
+                .getStatusCode();
+
+        assertThat(status.value()).isEqualTo(401);
+    }
+}
@@ -0,0 +1,62 @@
+package com.wintermindset.transaction_service.entity;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AccountBucketEntityTest {
+
+    private static final UUID ACCOUNT_ID = UUID.randomUUID();
+
+    /* ---------- transfer ---------- */
+
+    @Test
+    void shouldMoveFundsBetweenBuckets() {
+        AccountBucketEntity donor = new AccountBucketEntity(ACCOUNT_ID, 0, 100);
+        AccountBucketEntity target = new AccountBucketEntity(ACCOUNT_ID, 1, 50);
+
+        donor.transfer(100, target);
+
+        assertThat(donor.getBalance()).isZero();
+        assertThat(target.getBalance()).isEqualTo(150);
+    }
+
+    @Test
+    void shouldRejectMovingMoreThanTheBucketHolds() {
+        AccountBucketEntity donor = new AccountBucketEntity(ACCOUNT_ID, 0, 100);
+        AccountBucketEntity target = new AccountBucketEntity(ACCOUNT_ID, 1, 50);
+
+        assertThatThrownBy(() -> donor.transfer(101, target))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> donor.transfer(0, target))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> donor.transfer(-1, target))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(donor.getBalance()).isEqualTo(100);
+        assertThat(target.getBalance()).isEqualTo(50);
+    }
+
+    @Test
+    void shouldRejectOverflowingTheTarget() {
+        AccountBucketEntity donor = new AccountBucketEntity(ACCOUNT_ID, 0, 100);
+        AccountBucketEntity target = new AccountBucketEntity(ACCOUNT_ID, 1, Long.MAX_VALUE);
+
+        assertThatThrownBy(() -> donor.transfer(1, target))
+                .isInstanceOf(ArithmeticException.class);
+
+        assertThat(donor.getBalance()).isEqualTo(100);
+        assertThat(target.getBalance()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void shouldRejectBucketsOfDifferentAccounts() {
+        AccountBucketEntity donor = new AccountBucketEntity(ACCOUNT_ID, 0, 100);
+        AccountBucketEntity target = new AccountBucketEntity(UUID.randomUUID(), 1, 50);
+
+        assertThatThrownBy(() -> donor.transfer(10, target))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,56 @@
+package com.wintermindset.transaction_service.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UuidV7GeneratorTest {
+
+    @Test
+    void next_producesVersion7WithRfcVariant() {
+        UUID uuid = UuidV7Generator.next();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    @Test
+    void next_embedsCurrentTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7Generator.next();
+        long after = System.currentTimeMillis();
+
+        assertThat(UuidV7Generator.timestampOf(uuid)).isBetween(before, after);
+    }
+
+    @Test
+    void next_ordersKeysCreatedInDifferentMilliseconds() throws InterruptedException {
+        UUID earlier = UuidV7Generator.next();
+        Thread.sleep(2);
+        UUID later = UuidV7Generator.next();
+
+        assertThat(Long.compareUnsigned(earlier.getMostSignificantBits(), later.getMostSignificantBits()))
+                .isNegative();
+    }
+
+    @Test
+    void next_doesNotRepeat() {
+        Set<UUID> seen = new HashSet<>();
+        for (int i = 0; i < 100_000; i++) {
+            seen.add(UuidV7Generator.next());
+        }
+
+        assertThat(seen).hasSize(100_000);
+    }
+
+    @Test
+    void timestampOf_rejectsOtherVersions() {
+        assertThatThrownBy(() -> UuidV7Generator.timestampOf(UUID.randomUUID()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
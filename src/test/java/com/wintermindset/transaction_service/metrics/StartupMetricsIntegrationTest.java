@@ -0,0 +1,51 @@
+package com.wintermindset.transaction_service.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class StartupMetricsIntegrationTest {
+
+    @Autowired
+    private StartupMetrics startupMetrics;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void ready_recordsWarmUpCost() {
+        assertThat(meterRegistry.get("application.jvm.ready.time").tag("archive", "default").gauge().value())
+                .isPositive();
+        assertThat(meterRegistry.get("application.warmup.cpu.time").gauge().value()).isPositive();
+        assertThat(meterRegistry.get("application.warmup.classes.loaded").gauge().value()).isPositive();
+    }
+
+    @Test
+    void firstRequest_isRecordedOnce() throws Exception {
+        startupMetrics.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), new MockFilterChain());
+        double firstRequest = meterRegistry.get("application.first.request.time").gauge().value();
+        startupMetrics.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(firstRequest).isPositive();
+        assertThat(meterRegistry.get("application.first.request.time").gauge().value()).isEqualTo(firstRequest);
+    }
+
+    @Test
+    void archiveOf_readsJvmArguments() {
+        assertThat(StartupMetrics.archiveOf(List.of("-Xmx1g", "-XX:AOTCache=app.aot"))).isEqualTo("aot-cache");
+        assertThat(StartupMetrics.archiveOf(List.of("-XX:SharedArchiveFile=app.jsa"))).isEqualTo("cds");
+        assertThat(StartupMetrics.archiveOf(List.of("-Xmx1g"))).isEqualTo("default");
+    }
+}
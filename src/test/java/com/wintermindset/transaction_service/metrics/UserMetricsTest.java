@@ -0,0 +1,59 @@
+package com.wintermindset.transaction_service.metrics;
+
+import com.wintermindset.transaction_service.enums.user.UserOperation;
+import com.wintermindset.transaction_service.enums.user.UserOperationStep;
+import com.wintermindset.transaction_service.exception.user.BadPasswordException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserMetricsTest {
+
+    private MeterRegistry meterRegistry;
+    private UserMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new UserMetrics(meterRegistry);
+    }
+
+    @Test
+    void constructor_registersEveryMeterUpFront() {
+        assertThat(meterRegistry.find("users.step.duration").timers())
+                .hasSize(UserOperationStep.values().length);
+        assertThat(meterRegistry.find("users.operations")
+                .tags("operation", "create", "outcome", "success").counter()).isNotNull();
+        assertThat(meterRegistry.find("users.operations")
+                .tags("operation", "authenticate", "outcome", "BadPasswordException").counter()).isNotNull();
+    }
+
+    @Test
+    void record_timesTheStep() {
+        metrics.record(UserOperationStep.HASH, metrics.start());
+
+        assertThat(meterRegistry.get("users.step.duration").tag("step", "hash").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("users.step.duration").tag("step", "insert").timer().count()).isZero();
+    }
+
+    @Test
+    void outcomes_areCountedPerOperationAndExceptionType() {
+        metrics.success(UserOperation.CREATE);
+        metrics.failure(UserOperation.AUTHENTICATE, new BadPasswordException("Password is incorrect"));
+        metrics.failure(UserOperation.AUTHENTICATE, new IllegalStateException("unexpected"));
+
+        assertThat(outcome("create", "success")).isEqualTo(1);
+        assertThat(outcome("authenticate", "success")).isZero();
+        assertThat(outcome("authenticate", "BadPasswordException")).isEqualTo(1);
+        assertThat(outcome("authenticate", "other")).isEqualTo(1);
+    }
+
+    private double outcome(String operation, String outcome) {
+        return meterRegistry.get("users.operations").tags("operation", operation, "outcome", outcome).counter().count();
+    }
+}
@@ -0,0 +1,52 @@
+package com.wintermindset.transaction_service.outbox;
+
+import com.wintermindset.transaction_service.entity.UuidV7Generator;
+import com.wintermindset.transaction_service.enums.outbox.OutboxEventType;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileOutboxSinkTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void publish_appendsOneJsonLinePerEvent() throws Exception {
+        Path file = directory.resolve("events/outbox.jsonl");
+        FileOutboxSink sink = new FileOutboxSink(file);
+        UUID userId = UUID.randomUUID();
+        Instant occurredAt = Instant.parse("2026-06-01T00:00:00Z");
+
+        sink.publish(List.of(message(OutboxEventType.USER_CREATED, userId, "{\"username\":\"alice\"}", occurredAt)));
+        sink.publish(List.of(
+                message(OutboxEventType.USER_PASSWORD_CHANGED, userId, "{}", occurredAt),
+                message(OutboxEventType.TRANSFER_POSTED, UUID.randomUUID(), "{\"amount\":1000}", occurredAt)
+        ));
+
+        List<String> lines = Files.readAllLines(file);
+        assertThat(lines).hasSize(3);
+        JsonNode first = JsonMapper.builder().build().readTree(lines.getFirst());
+        assertThat(first.get("type").asString()).isEqualTo("USER_CREATED");
+        assertThat(first.get("aggregateType").asString()).isEqualTo("user");
+        assertThat(first.get("aggregateId").asString()).isEqualTo(userId.toString());
+        assertThat(first.get("occurredAt").asString()).isEqualTo("2026-06-01T00:00:00Z");
+        assertThat(first.get("payload").get("username").asString()).isEqualTo("alice");
+        assertThat(lines.get(2)).contains("\"aggregateType\":\"transfer\"");
+    }
+
+    private static OutboxMessage message(OutboxEventType type, UUID aggregateId, String payload, Instant occurredAt) {
+        return new OutboxMessage(UuidV7Generator.next(), type, aggregateId, payload, occurredAt, 0);
+    }
+}
@@ -4,6 +4,8 @@ import com.wintermindset.transaction_service.entity.UserEntity;
 import com.wintermindset.transaction_service.entity.UserEntityTestFactory;
 import com.wintermindset.transaction_service.enums.user.DeactivationReason;
 import com.wintermindset.transaction_service.enums.user.Role;
+import com.wintermindset.transaction_service.projection.user.UserAuthorization;
+import com.wintermindset.transaction_service.projection.user.UserProfile;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -178,4 +180,28 @@ class UserRepositoryIntegrationTest {
         assertThat(foundUser).isPresent();
         assertThat(foundUser.get().getRole()).isEqualTo(Role.ADMIN);
     }
+
+    @Test
+    void findProfile_returnsPublicColumnsOnly() {
+        String username = uniqueUsername("profile");
+        Instant createdAt = Instant.parse("2026-01-02T10:15:30Z");
+        UserEntity savedUser = userRepository.save(
+                UserEntityTestFactory.createActiveUser(username, Role.ADMIN, "hashed-password", createdAt)
+        );
+
+        assertThat(userRepository.findProfileById(savedUser.getId()))
+                .contains(new UserProfile(savedUser.getId(), username, Role.ADMIN, createdAt));
+        assertThat(userRepository.findProfileByUsername(username))
+                .map(UserProfile::id)
+                .contains(savedUser.getId());
+        assertThat(userRepository.findProfileById(UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    void findAuthorizationById_reflectsDeactivation() {
+        UserEntity savedUser = userRepository.save(UserEntityTestFactory.createDeactivatedUser(uniqueUsername("auth")));
+
+        assertThat(userRepository.findAuthorizationById(savedUser.getId()))
+                .contains(new UserAuthorization(savedUser.getId(), Role.USER, false));
+    }
 }
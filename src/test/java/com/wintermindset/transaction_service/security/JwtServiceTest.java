@@ -0,0 +1,111 @@
+package com.wintermindset.transaction_service.security;
+
+import com.wintermindset.transaction_service.config.JwtProperties;
+import com.wintermindset.transaction_service.entity.UserEntity;
+import com.wintermindset.transaction_service.entity.UserEntityTestFactory;
+import com.wintermindset.transaction_service.enums.user.Role;
+import com.wintermindset.transaction_service.exception.security.InvalidTokenException;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtServiceTest {
+
+    private static final String SECRET = "c2VjcmV0LWtleS1mb3ItdGVzdHMtb25seS0wMTIzNDU2Nzg5";
+
+    private MeterRegistry meterRegistry;
+    private JwtService jwtService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        jwtService = new JwtService(
+                new JwtProperties(SECRET, "transaction-service", Duration.ofMinutes(15), 100),
+                meterRegistry
+        );
+    }
+
+    @Test
+    void verify_returnsPrincipalOfIssuedToken() throws Exception {
+        UserEntity user = userWithId(UserEntityTestFactory.createActiveUser("alice"));
+
+        IssuedToken token = jwtService.issue(user);
+
+        assertThat(jwtService.verify(token.value()))
+                .isEqualTo(new AuthenticatedUser(user.getId(), "alice", user.getRole()));
+        assertThat(token.expiresAt()).isAfter(Instant.now());
+    }
+
+    @Test
+    void verify_servesRepeatedTokensFromCache() throws Exception {
+        String token = jwtService.issue(userWithId(UserEntityTestFactory.createActiveUser("alice"))).value();
+
+        jwtService.verify(token);
+        jwtService.verify(token);
+        jwtService.verify(token);
+
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "jwt.verified-tokens").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void verify_rejectsTamperedToken() throws Exception {
+        String token = jwtService.issue(userWithId(UserEntityTestFactory.createActiveUser("alice"))).value();
+        String tampered = token.substring(0, token.length() - 2)
+                + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThatThrownBy(() -> jwtService.verify(tampered))
+                .isInstanceOf(InvalidTokenException.class);
+    }
+
+    @Test
+    void verify_rejectsExpiredToken() {
+        Instant issuedAt = Instant.now().minus(Duration.ofHours(1));
+        String token = Jwts.builder()
+                .issuer("transaction-service")
+                .subject(UUID.randomUUID().toString())
+                .claim("username", "alice")
+                .claim("role", Role.USER.name())
+                .issuedAt(Date.from(issuedAt))
+                .expiration(Date.from(issuedAt.plus(Duration.ofMinutes(15))))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)))
+                .compact();
+
+        assertThatThrownBy(() -> jwtService.verify(token))
+                .isInstanceOf(InvalidTokenException.class);
+    }
+
+    @Test
+    void verify_rejectsTokenFromAnotherIssuer() throws Exception {
+        JwtService otherIssuer = new JwtService(
+                new JwtProperties(SECRET, "someone-else", Duration.ofMinutes(15), 100),
+                new SimpleMeterRegistry()
+        );
+        String token = otherIssuer.issue(userWithId(UserEntityTestFactory.createActiveUser("alice"))).value();
+
+        assertThatThrownBy(() -> jwtService.verify(token))
+                .isInstanceOf(InvalidTokenException.class);
+    }
+
+    private static UserEntity userWithId(UserEntity user) throws ReflectiveOperationException {
+        Field id = UserEntity.class.getDeclaredField("id");
+        id.setAccessible(true);
+        id.set(user, UUID.randomUUID());
+        return user;
+    }
+}
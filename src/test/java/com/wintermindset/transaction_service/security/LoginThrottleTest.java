@@ -0,0 +1,95 @@
+package com.wintermindset.transaction_service.security;
+
+import com.wintermindset.transaction_service.config.LoginThrottleProperties;
+import com.wintermindset.transaction_service.exception.security.LoginThrottledException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginThrottleTest {
+
+    private static final Duration WINDOW = Duration.ofMinutes(1);
+
+    private final AtomicLong clock = new AtomicLong(123_456_789L);
+    private MeterRegistry meterRegistry;
+    private LoginThrottle throttle;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        throttle = new LoginThrottle(
+                new LoginThrottleProperties(true, WINDOW, 3, 5, Duration.ofHours(1), 4, 1024),
+                meterRegistry,
+                clock::get
+        );
+    }
+
+    @Test
+    void acquire_rejectsUsernameOverItsLimit() {
+        for (int i = 0; i < 3; i++) {
+            throttle.acquire("alice", null);
+        }
+
+        assertThatThrownBy(() -> throttle.acquire("alice", null))
+                .isInstanceOf(LoginThrottledException.class);
+        assertThatCode(() -> throttle.acquire("bob", null)).doesNotThrowAnyException();
+        assertThat(meterRegistry.get("login.throttle.rejected").tag("key", "username").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void acquire_rejectsAddressOverItsLimitAcrossUsernames() {
+        for (int i = 0; i < 5; i++) {
+            throttle.acquire("user" + i, "10.0.0.1");
+        }
+
+        assertThatThrownBy(() -> throttle.acquire("victim", "10.0.0.1"))
+                .isInstanceOf(LoginThrottledException.class);
+        assertThatCode(() -> throttle.acquire("victim", "10.0.0.2")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void acquire_allowsAttemptsAgainOnceTheWindowHasSlid() {
+        for (int i = 0; i < 3; i++) {
+            throttle.acquire("alice", null);
+        }
+        clock.addAndGet(WINDOW.toNanos() / 2);
+        assertThatThrownBy(() -> throttle.acquire("alice", null))
+                .isInstanceOf(LoginThrottledException.class);
+
+        clock.addAndGet(WINDOW.toNanos() * 2);
+
+        assertThatCode(() -> throttle.acquire("alice", null)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void recordFailure_reportsEscalationAtThreshold() {
+        assertThat(throttle.recordFailure("alice")).isFalse();
+        assertThat(throttle.recordFailure("alice")).isFalse();
+        assertThat(throttle.recordFailure("alice")).isFalse();
+        assertThat(throttle.recordFailure("alice")).isTrue();
+        assertThat(throttle.recordFailure("bob")).isFalse();
+    }
+
+    @Test
+    void slidingWindowCounter_staysBoundedUnderManyDistinctKeys() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(1024, WINDOW.toNanos(), 42L, clock::get);
+
+        for (int i = 0; i < 100_000; i++) {
+            counter.incrementAndGet("key" + i);
+        }
+
+        assertThat(counter.incrementAndGet("fresh")).isGreaterThanOrEqualTo(1);
+        assertThat(counter.get("never-seen")).isLessThan(100_000);
+    }
+}
@@ -0,0 +1,69 @@
+package com.wintermindset.transaction_service.security;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.wintermindset.transaction_service.config.PasswordEncodingProperties;
+import com.wintermindset.transaction_service.enums.security.PasswordEncodingAlgorithm;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PasswordEncoderCalibratorTest {
+
+    private static final String PASSWORD = "Str0ng!Passw0rd";
+
+    @Test
+    void shouldStayWithinStrengthBounds() {
+        PasswordEncodingProperties properties = bcrypt(Duration.ofMillis(1), 4, 6);
+
+        assertThat(PasswordEncoderCalibrator.bcryptStrength(properties)).isEqualTo(4);
+        assertThat(PasswordEncoderCalibrator.bcryptStrength(bcrypt(Duration.ofHours(1), 4, 6))).isEqualTo(6);
+    }
+
+    @Test
+    void shouldPrefixHashesAndMatchLegacyBcrypt() {
+        PasswordEncoder encoder = PasswordEncoderCalibrator.calibrated(bcrypt(Duration.ofMillis(1), 4, 4));
+        String legacyHash = new BCryptPasswordEncoder(4).encode(PASSWORD);
+
+        String hash = encoder.encode(PASSWORD);
+
+        assertThat(hash).startsWith("{bcrypt}");
+        assertThat(encoder.matches(PASSWORD, hash)).isTrue();
+        assertThat(encoder.upgradeEncoding(hash)).isFalse();
+        assertThat(encoder.matches(PASSWORD, legacyHash)).isTrue();
+        assertThat(encoder.upgradeEncoding(legacyHash)).isTrue();
+    }
+
+    @Test
+    void shouldReportWeakerBcryptAsStale() {
+        PasswordEncoder weak = PasswordEncoderCalibrator.calibrated(bcrypt(Duration.ofMillis(1), 4, 4));
+        PasswordEncoder strong = PasswordEncoderCalibrator.calibrated(bcrypt(Duration.ofMillis(1), 5, 5));
+
+        assertThat(strong.upgradeEncoding(weak.encode(PASSWORD))).isTrue();
+    }
+
+    @Test
+    void shouldEncodeWithArgon2AndUpgradeBcryptHashes() {
+        PasswordEncodingProperties properties = new PasswordEncodingProperties(
+                PasswordEncodingAlgorithm.ARGON2, Duration.ofMillis(1), 4, 4, 1024, 1, 1, 1
+        );
+        PasswordEncoder encoder = PasswordEncoderCalibrator.calibrated(properties);
+        String bcryptHash = "{bcrypt}" + new BCryptPasswordEncoder(4).encode(PASSWORD);
+
+        String hash = encoder.encode(PASSWORD);
+
+        assertThat(hash).startsWith("{argon2}");
+        assertThat(encoder.matches(PASSWORD, hash)).isTrue();
+        assertThat(encoder.matches(PASSWORD, bcryptHash)).isTrue();
+        assertThat(encoder.upgradeEncoding(bcryptHash)).isTrue();
+    }
+
+    private static PasswordEncodingProperties bcrypt(Duration targetLatency, int minStrength, int maxStrength) {
+        return new PasswordEncodingProperties(
+                PasswordEncodingAlgorithm.BCRYPT, targetLatency, minStrength, maxStrength, 1024, 1, 1, 1
+        );
+    }
+}
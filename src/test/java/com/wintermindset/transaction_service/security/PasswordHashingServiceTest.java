@@ -0,0 +1,100 @@
+package com.wintermindset.transaction_service.security;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.wintermindset.transaction_service.config.PasswordHashingProperties;
+import com.wintermindset.transaction_service.exception.security.HashingCapacityExceededException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PasswordHashingServiceTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PasswordHashingService service = new PasswordHashingService(
+            new GatedPasswordEncoder(release),
+            new PasswordHashingProperties(1, 1),
+            meterRegistry
+    );
+
+    @AfterEach
+    void shutdown() {
+        release.countDown();
+        service.shutdown();
+    }
+
+    @Test
+    void shouldEncodeAndMatchOnHashingPool() {
+        release.countDown();
+
+        assertThat(service.encode("secret")).isEqualTo("hashed:secret");
+        assertThat(service.matches("secret", "hashed:secret")).isTrue();
+        assertThat(meterRegistry.get("password.hashing.duration").tag("operation", "encode").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectWhenQueueIsFull() throws InterruptedException {
+        CompletableFuture<String> running = service.encodeAsync("first");
+        awaitActiveHashes(1);
+        CompletableFuture<String> queued = service.encodeAsync("second");
+
+        assertThatThrownBy(() -> service.encodeAsync("third"))
+                .isInstanceOf(HashingCapacityExceededException.class);
+        assertThat(meterRegistry.get("password.hashing.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.join()).isEqualTo("hashed:first");
+        assertThat(queued.join()).isEqualTo("hashed:second");
+    }
+
+    @Test
+    void shouldAllowVirtualThreadsToWaitForResult() throws Exception {
+        release.countDown();
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var result = executor.submit(() -> service.encode("virtual"));
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:virtual");
+        }
+    }
+
+    private void awaitActiveHashes(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("password.hashing.active").gauge().value() < expected) {
+            assertThat(System.nanoTime()).as("hashing thread did not start").isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    private record GatedPasswordEncoder(CountDownLatch release) implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            awaitRelease();
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            awaitRelease();
+            return encodedPassword.equals("hashed:" + rawPassword);
+        }
+
+        private void awaitRelease() {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.wintermindset.transaction_service.service;
+
+import com.wintermindset.transaction_service.entity.AccountBucketEntity;
+import com.wintermindset.transaction_service.entity.AccountEntity;
+import com.wintermindset.transaction_service.entity.LedgerEntryEntity;
+import com.wintermindset.transaction_service.entity.UserEntityTestFactory;
+import com.wintermindset.transaction_service.exception.account.InsufficientFundsException;
+import com.wintermindset.transaction_service.repository.AccountBucketRepository;
+import com.wintermindset.transaction_service.repository.AccountRepository;
+import com.wintermindset.transaction_service.repository.LedgerEntryRepository;
+import com.wintermindset.transaction_service.repository.TransferRepository;
+import com.wintermindset.transaction_service.repository.UserRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class BucketedAccountIntegrationTest {
+
+    private static final int BUCKETS = 4;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransferService transferService;
+
+    @Autowired
+    private TransferPipeline transferPipeline;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountBucketRepository bucketRepository;
+
+    @Autowired
+    private LedgerEntryRepository ledgerEntryRepository;
+
+    @Autowired
+    private TransferRepository transferRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private UUID ownerId;
+    private AccountEntity treasury;
+
+    @BeforeEach
+    void setUp() {
+        ledgerEntryRepository.deleteAll();
+        transferRepository.deleteAll();
+        bucketRepository.deleteAll();
+        accountRepository.deleteAll();
+        userRepository.deleteAll();
+        ownerId = userRepository.save(UserEntityTestFactory.createActiveUser("owner")).getId();
+        treasury = accountService.openSystemAccount(ownerId, "EUR", Instant.now());
+    }
+
+    @Test
+    void transfer_spreadsConcurrentCreditsAcrossBuckets() throws Exception {
+        AccountEntity merchant = accountService.openBucketedAccount(ownerId, "EUR", BUCKETS, Instant.now());
+        List<UUID> payers = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            UUID payer = accountService.openAccount(ownerId, "EUR", Instant.now()).getId();
+            transferService.transfer(treasury.getId(), payer, 100_00, Instant.now());
+            payers.add(payer);
+        }
+
+        List<Future<?>> workers = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(payers.size())) {
+            for (UUID payer : payers) {
+                workers.add(executor.submit(() -> {
+                    for (int i = 0; i < 25; i++) {
+                        transferService.transfer(payer, merchant.getId(), 1_00, Instant.now());
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        }
+
+        assertThat(accountService.getBalance(merchant.getId())).isEqualTo(200_00);
+        assertThat(ledgerEntryRepository.sumAmountsByAccountId(merchant.getId())).isEqualTo(200_00);
+        assertThat(bucketRepository.findByAccountIdOrderByBucketIndex(merchant.getId()))
+                .filteredOn(bucket -> bucket.getBalance() > 0)
+                .hasSizeGreaterThan(1);
+        assertThat(ledgerEntryRepository.findByAccountIdOrderBySequence(merchant.getId()))
+                .extracting(LedgerEntryEntity::getSequence)
+                .doesNotHaveDuplicates()
+                .hasSize(200);
+    }
+
+    @Test
+    void transfer_debitDrawsOnEveryBucket() {
+        AccountEntity merchant = accountService.openBucketedAccount(ownerId, "EUR", BUCKETS, Instant.now());
+        AccountEntity payout = accountService.openAccount(ownerId, "EUR", Instant.now());
+        for (int i = 0; i < 40; i++) {
+            transferService.transfer(treasury.getId(), merchant.getId(), 1_00, Instant.now());
+        }
+        long richestBucket = bucketRepository.findByAccountIdOrderByBucketIndex(merchant.getId()).stream()
+                .mapToLong(AccountBucketEntity::getBalance)
+                .max()
+                .orElseThrow();
+        assertThat(richestBucket).isLessThan(40_00);
+
+        transferService.transfer(merchant.getId(), payout.getId(), 39_00, Instant.now());
+
+        assertThat(accountService.getBalance(merchant.getId())).isEqualTo(1_00);
+        assertThat(accountService.getBalance(payout.getId())).isEqualTo(39_00);
+        assertThat(bucketRepository.findByAccountIdOrderByBucketIndex(merchant.getId()))
+                .allSatisfy(bucket -> assertThat(bucket.getBalance()).isNotNegative());
+        assertThatThrownBy(() -> transferService.transfer(merchant.getId(), payout.getId(), 1_01, Instant.now()))
+                .isInstanceOf(InsufficientFundsException.class);
+        assertThat(accountService.getBalance(merchant.getId())).isEqualTo(1_00);
+    }
+
+    @Test
+    void splitIntoBuckets_keepsBalanceAndEntrySequences() {
+        AccountEntity account = accountService.openAccount(ownerId, "EUR", Instant.now());
+        transferService.transfer(treasury.getId(), account.getId(), 5_00, Instant.now());
+        transferService.transfer(treasury.getId(), account.getId(), 5_00, Instant.now());
+
+        accountService.splitIntoBuckets(account.getId(), BUCKETS);
+        for (int i = 0; i < 10; i++) {
+            transferService.transfer(treasury.getId(), account.getId(), 1_00, Instant.now());
+        }
+
+        assertThat(accountService.getAccount(account.getId()).isBucketed()).isTrue();
+        assertThat(accountService.getBalance(account.getId())).isEqualTo(20_00);
+        assertThat(ledgerEntryRepository.findByAccountIdOrderBySequence(account.getId()))
+                .extracting(LedgerEntryEntity::getSequence)
+                .startsWith(1L, 2L)
+                .doesNotHaveDuplicates()
+                .hasSize(12);
+    }
+
+    @Test
+    void submit_postsToBucketedAccountsInBatches() {
+        AccountEntity merchant = accountService.openBucketedAccount(ownerId, "EUR", BUCKETS, Instant.now());
+        AccountEntity payout = accountService.openAccount(ownerId, "EUR", Instant.now());
+        List<CompletableFuture<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            futures.add(transferPipeline.submit(treasury.getId(), merchant.getId(), 1_00, Instant.now()));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        transferPipeline.transfer(merchant.getId(), payout.getId(), 45_00, Instant.now());
+
+        assertThat(accountService.getBalance(merchant.getId())).isEqualTo(5_00);
+        assertThat(ledgerEntryRepository.sumAmountsByAccountId(merchant.getId())).isEqualTo(5_00);
+    }
+}
@@ -0,0 +1,153 @@
+package com.wintermindset.transaction_service.service;
+
+import com.wintermindset.transaction_service.entity.AccountEntity;
+import com.wintermindset.transaction_service.entity.TransferEntity;
+import com.wintermindset.transaction_service.entity.UserEntity;
+import com.wintermindset.transaction_service.entity.UserEntityTestFactory;
+import com.wintermindset.transaction_service.enums.user.Role;
+import com.wintermindset.transaction_service.exception.idempotency.IdempotencyKeyConflictException;
+import com.wintermindset.transaction_service.repository.AccountRepository;
+import com.wintermindset.transaction_service.repository.IdempotencyKeyRepository;
+import com.wintermindset.transaction_service.repository.LedgerEntryRepository;
+import com.wintermindset.transaction_service.repository.TransferRepository;
+import com.wintermindset.transaction_service.repository.UserRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class IdempotencyServiceIntegrationTest {
+
+    private static final String PASSWORD = "Str0ng!Passw0rd";
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransferService transferService;
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    private LedgerEntryRepository ledgerEntryRepository;
+
+    @Autowired
+    private TransferRepository transferRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void cleanDatabase() {
+        idempotencyKeyRepository.deleteAll();
+        ledgerEntryRepository.deleteAll();
+        transferRepository.deleteAll();
+        accountRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void createUser_replaysTheFirstResultForARepeatedKey() {
+        String key = UUID.randomUUID().toString();
+
+        UserEntity first = userService.createUser("retried", PASSWORD, Role.USER, Instant.now(), key);
+        UserEntity retry = userService.createUser("retried", "An0ther!Passw0rd", Role.USER, Instant.now(), key);
+
+        assertThat(retry.getId()).isEqualTo(first.getId());
+        assertThat(retry.getPasswordHash()).isEqualTo(first.getPasswordHash());
+        assertThat(userRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void createUser_rejectsAKeyReusedForADifferentRequest() {
+        String key = UUID.randomUUID().toString();
+        userService.createUser("original", PASSWORD, Role.USER, Instant.now(), key);
+
+        assertThatThrownBy(() -> userService.createUser("other", PASSWORD, Role.USER, Instant.now(), key))
+                .isInstanceOf(IdempotencyKeyConflictException.class);
+        assertThat(userRepository.findByUsername("other")).isEmpty();
+    }
+
+    @Test
+    void transfer_postsOnceUnderConcurrentRetries() throws Exception {
+        UUID ownerId = userRepository.save(UserEntityTestFactory.createActiveUser("owner")).getId();
+        AccountEntity treasury = accountService.openSystemAccount(ownerId, "EUR", Instant.now());
+        AccountEntity account = accountService.openAccount(ownerId, "EUR", Instant.now());
+        String key = UUID.randomUUID().toString();
+        int retries = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<UUID>> results = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(retries)) {
+            for (int i = 0; i < retries; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return transferService.transfer(treasury.getId(), account.getId(), 2_50, Instant.now(), key)
+                            .getId();
+                }));
+            }
+            start.countDown();
+            UUID transferId = results.get(0).get();
+            for (Future<UUID> result : results) {
+                assertThat(result.get()).isEqualTo(transferId);
+            }
+        }
+
+        assertThat(transferRepository.count()).isEqualTo(1);
+        assertThat(ledgerEntryRepository.count()).isEqualTo(2);
+        assertThat(accountService.getAccount(account.getId()).getBalance()).isEqualTo(2_50);
+    }
+
+    @Test
+    void transfer_rejectsAKeyReusedForADifferentAmount() {
+        UUID ownerId = userRepository.save(UserEntityTestFactory.createActiveUser("owner")).getId();
+        AccountEntity treasury = accountService.openSystemAccount(ownerId, "EUR", Instant.now());
+        AccountEntity account = accountService.openAccount(ownerId, "EUR", Instant.now());
+        String key = UUID.randomUUID().toString();
+        TransferEntity first = transferService.transfer(treasury.getId(), account.getId(), 1_00, Instant.now(), key);
+
+        assertThat(transferService.transfer(treasury.getId(), account.getId(), 1_00, Instant.now(), key).getId())
+                .isEqualTo(first.getId());
+        assertThatThrownBy(() -> transferService.transfer(treasury.getId(), account.getId(), 2_00, Instant.now(), key))
+                .isInstanceOf(IdempotencyKeyConflictException.class);
+        assertThat(accountService.getAccount(account.getId()).getBalance()).isEqualTo(1_00);
+    }
+
+    @Test
+    void purgeExpired_deletesOnlyExpiredKeys() {
+        userService.createUser("first", PASSWORD, Role.USER, Instant.now(), UUID.randomUUID().toString());
+        userService.createUser("second", PASSWORD, Role.USER, Instant.now(), UUID.randomUUID().toString());
+
+        assertThat(idempotencyService.purgeExpired(Instant.now())).isZero();
+        assertThat(idempotencyService.purgeExpired(Instant.now().plus(Duration.ofDays(2)))).isEqualTo(2);
+        assertThat(idempotencyKeyRepository.count()).isZero();
+        assertThat(userRepository.count()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,131 @@
+package com.wintermindset.transaction_service.service;
+
+import com.wintermindset.transaction_service.config.InactivitySweepProperties;
+import com.wintermindset.transaction_service.entity.UserEntity;
+import com.wintermindset.transaction_service.entity.UserEntityTestFactory;
+import com.wintermindset.transaction_service.enums.user.DeactivationReason;
+import com.wintermindset.transaction_service.enums.user.Role;
+import com.wintermindset.transaction_service.repository.UserRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.scheduling.config.CronTask;
+import org.springframework.scheduling.config.ScheduledTask;
+import org.springframework.scheduling.config.ScheduledTaskHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "app.users.inactivity.inactive-after=365d",
+        "app.users.inactivity.chunk-size=2",
+        "app.users.inactivity.pause-between-chunks=0ms"
+})
+@ActiveProfiles("test")
+class InactivitySweeperIntegrationTest {
+
+    private static final Instant NOW = Instant.parse("2026-06-01T00:00:00Z");
+
+    @Autowired
+    private InactivitySweeper inactivitySweeper;
+
+    @Autowired
+    private LastLoginTracker lastLoginTracker;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private InactivitySweepProperties properties;
+
+    @Autowired
+    private List<ScheduledTaskHolder> scheduledTaskHolders;
+
+    @BeforeEach
+    void cleanDatabase() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void sweep_deactivatesStaleUsersAcrossChunks() {
+        UUID stale1 = userWithLogin("stale1", Duration.ofDays(400));
+        UUID stale2 = userWithLogin("stale2", Duration.ofDays(500));
+        UUID stale3 = userWithLogin("stale3", Duration.ofDays(366));
+        UUID recent = userWithLogin("recent", Duration.ofDays(10));
+        UUID neverLoggedInOld = user("dormant", Duration.ofDays(400));
+        UUID neverLoggedInNew = user("newcomer", Duration.ofDays(1));
+
+        assertThat(inactivitySweeper.sweep(NOW)).isEqualTo(4);
+
+        for (UUID id : new UUID[] { stale1, stale2, stale3, neverLoggedInOld }) {
+            assertThat(userRepository.findById(id)).get().satisfies(u -> {
+                assertThat(u.isActive()).isFalse();
+                assertThat(u.getDeactivationReason()).isEqualTo(DeactivationReason.INACTIVITY);
+                assertThat(u.getDeactivatedBy()).isEqualTo(Role.ADMIN);
+                assertThat(u.getDeactivatedAt()).isEqualTo(NOW);
+            });
+        }
+        assertThat(userRepository.findById(recent)).get().satisfies(u -> assertThat(u.isActive()).isTrue());
+        assertThat(userRepository.findById(neverLoggedInNew)).get().satisfies(u -> assertThat(u.isActive()).isTrue());
+    }
+
+    @Test
+    void sweep_isIdempotent() {
+        userWithLogin("stale", Duration.ofDays(400));
+
+        assertThat(inactivitySweeper.sweep(NOW)).isEqualTo(1);
+        assertThat(inactivitySweeper.sweep(NOW)).isZero();
+    }
+
+    @Test
+    void sweep_honoursLoginsStillWaitingForWriteBehind() {
+        UUID id = userWithLogin("returning", Duration.ofDays(400));
+        lastLoginTracker.record(id, NOW.minus(Duration.ofMinutes(1)));
+
+        assertThat(inactivitySweeper.sweep(NOW)).isZero();
+        assertThat(userRepository.findById(id)).get().satisfies(u -> assertThat(u.isActive()).isTrue());
+    }
+
+    @Test
+    void sweep_resumesChunksWithinEqualTimestamps() {
+        for (int i = 0; i < 5; i++) {
+            userWithLogin("tied" + i, Duration.ofDays(400));
+            user("tied-dormant" + i, Duration.ofDays(400));
+        }
+
+        assertThat(inactivitySweeper.sweep(NOW)).isEqualTo(10);
+        assertThat(userRepository.findAll()).noneMatch(UserEntity::isActive);
+    }
+
+    @Test
+    void sweep_isScheduledOnTheConfiguredCron() {
+        assertThat(scheduledTaskHolders)
+                .flatMap(ScheduledTaskHolder::getScheduledTasks)
+                .extracting(ScheduledTask::getTask)
+                .filteredOn(CronTask.class::isInstance)
+                .map(CronTask.class::cast)
+                .extracting(CronTask::getExpression)
+                .contains(properties.cron());
+    }
+
+    private UUID userWithLogin(String username, Duration sinceLogin) {
+        UUID id = user(username, sinceLogin.plusDays(1));
+        lastLoginTracker.record(id, NOW.minus(sinceLogin));
+        lastLoginTracker.flush();
+        return id;
+    }
+
+    private UUID user(String username, Duration age) {
+        UserEntity user = UserEntityTestFactory.createActiveUser(
+                username, Role.USER, "hashed-password", NOW.minus(age)
+        );
+        return userRepository.save(user).getId();
+    }
+}
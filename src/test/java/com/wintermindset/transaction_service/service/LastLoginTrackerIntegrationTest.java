@@ -0,0 +1,93 @@
+package com.wintermindset.transaction_service.service;
+
+import com.wintermindset.transaction_service.entity.UserEntity;
+import com.wintermindset.transaction_service.enums.user.Role;
+import com.wintermindset.transaction_service.repository.UserRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTask;
+import org.springframework.scheduling.config.ScheduledTaskHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "app.users.last-login.flush-interval=7s")
+@ActiveProfiles("test")
+class LastLoginTrackerIntegrationTest {
+
+    private static final String PASSWORD = "Str0ng!Passw0rd";
+
+    @Autowired
+    private LastLoginTracker lastLoginTracker;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private List<ScheduledTaskHolder> scheduledTaskHolders;
+
+    @BeforeEach
+    void cleanDatabase() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void authenticate_recordsLastLoginOnFlush() {
+        UserEntity user = userService.createUser("alice", PASSWORD, Role.USER, Instant.now());
+        Instant before = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+        userService.authenticate("alice", PASSWORD);
+        lastLoginTracker.flush();
+
+        assertThat(userRepository.findById(user.getId()).orElseThrow().getLastLoginAt())
+                .isAfterOrEqualTo(before);
+    }
+
+    @Test
+    void flush_keepsLatestOfCoalescedLogins() {
+        UserEntity user = userService.createUser("alice", PASSWORD, Role.USER, Instant.now());
+        Instant latest = Instant.parse("2026-01-02T10:15:30Z");
+
+        lastLoginTracker.record(user.getId(), latest);
+        lastLoginTracker.record(user.getId(), latest.minusSeconds(60));
+        lastLoginTracker.flush();
+
+        assertThat(userRepository.findById(user.getId()).orElseThrow().getLastLoginAt()).isEqualTo(latest);
+    }
+
+    @Test
+    void flush_neverMovesLastLoginBackwards() {
+        UserEntity user = userService.createUser("alice", PASSWORD, Role.USER, Instant.now());
+        Instant latest = Instant.parse("2026-01-02T10:15:30Z");
+        lastLoginTracker.record(user.getId(), latest);
+        lastLoginTracker.flush();
+
+        lastLoginTracker.record(user.getId(), latest.minusSeconds(60));
+        lastLoginTracker.flush();
+
+        assertThat(userRepository.findById(user.getId()).orElseThrow().getLastLoginAt()).isEqualTo(latest);
+    }
+
+    @Test
+    void flush_isScheduledAtTheConfiguredInterval() {
+        assertThat(scheduledTaskHolders)
+                .flatMap(ScheduledTaskHolder::getScheduledTasks)
+                .extracting(ScheduledTask::getTask)
+                .filteredOn(FixedDelayTask.class::isInstance)
+                .map(FixedDelayTask.class::cast)
+                .extracting(FixedDelayTask::getIntervalDuration)
+                .contains(Duration.ofSeconds(7));
+    }
+}
@@ -0,0 +1,297 @@
+package com.wintermindset.transaction_service.service;
+
+import com.wintermindset.transaction_service.config.OutboxProperties;
+import com.wintermindset.transaction_service.entity.AccountEntity;
+import com.wintermindset.transaction_service.entity.OutboxEventEntity;
+import com.wintermindset.transaction_service.entity.TransferEntity;
+import com.wintermindset.transaction_service.entity.UserEntity;
+import com.wintermindset.transaction_service.entity.UserEntityTestFactory;
+import com.wintermindset.transaction_service.enums.outbox.OutboxEventType;
+import com.wintermindset.transaction_service.enums.outbox.OutboxSinkType;
+import com.wintermindset.transaction_service.enums.user.Role;
+import com.wintermindset.transaction_service.outbox.OutboxMessage;
+import com.wintermindset.transaction_service.outbox.OutboxSink;
+import com.wintermindset.transaction_service.repository.AccountRepository;
+import com.wintermindset.transaction_service.repository.LedgerEntryRepository;
+import com.wintermindset.transaction_service.repository.OutboxDeadLetterRepository;
+import com.wintermindset.transaction_service.repository.OutboxEventRepository;
+import com.wintermindset.transaction_service.repository.TransferRepository;
+import com.wintermindset.transaction_service.repository.UserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "app.users.inactivity.inactive-after=365d",
+        "app.users.inactivity.pause-between-chunks=0ms"
+})
+@ActiveProfiles("test")
+class OutboxRelayIntegrationTest {
+
+    private static final String PASSWORD = "Str0ng!Passw0rd";
+    private static final Duration RETRY_BACKOFF = Duration.ofSeconds(30);
+    private static final int MAX_ATTEMPTS = 2;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private InactivitySweeper inactivitySweeper;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransferService transferService;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private OutboxDeadLetterRepository deadLetterRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransferRepository transferRepository;
+
+    @Autowired
+    private LedgerEntryRepository ledgerEntryRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private RecordingSink sink;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        outboxEventRepository.deleteAll();
+        deadLetterRepository.deleteAll();
+        ledgerEntryRepository.deleteAll();
+        transferRepository.deleteAll();
+        accountRepository.deleteAll();
+        userRepository.deleteAll();
+        sink = new RecordingSink();
+        relay = new OutboxRelay(
+                jdbcTemplate,
+                sink,
+                transactionManager,
+                new OutboxProperties(true, Duration.ofSeconds(1), 2, RETRY_BACKOFF, MAX_ATTEMPTS, OutboxSinkType.LOG,
+                        Path.of("unused.jsonl")),
+                new SimpleMeterRegistry()
+        );
+    }
+
+    @Test
+    void userChanges_areRelayedInOrderAndDeleted() {
+        UserEntity user = userService.createUser("alice", PASSWORD, Role.USER, Instant.now());
+        userService.updatePassword(user.getId(), PASSWORD, "N3w!Password");
+
+        assertThat(outboxEventRepository.count()).isEqualTo(2);
+        assertThat(relay.drain(Instant.now().plusSeconds(1))).isEqualTo(2);
+
+        assertThat(sink.published).extracting(OutboxMessage::eventType)
+                .containsExactly(OutboxEventType.USER_CREATED, OutboxEventType.USER_PASSWORD_CHANGED);
+        assertThat(sink.published).allSatisfy(message -> assertThat(message.aggregateId()).isEqualTo(user.getId()));
+        assertThat(sink.published.getFirst().payload()).contains("\"username\":\"alice\"").doesNotContain(PASSWORD);
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    @Test
+    void drain_relaysEveryBatch() {
+        for (int i = 0; i < 5; i++) {
+            userService.createUser("user" + i, PASSWORD, Role.USER, Instant.now());
+        }
+
+        assertThat(relay.drain(Instant.now().plusSeconds(1))).isEqualTo(5);
+        assertThat(sink.batches).containsExactly(2, 2, 1);
+    }
+
+    @Test
+    void failedChange_leavesNoEvent() {
+        userService.createUser("alice", PASSWORD, Role.USER, Instant.now());
+        outboxEventRepository.deleteAll();
+
+        assertThatThrownBy(() -> userService.createUser("alice", PASSWORD, Role.USER, Instant.now()))
+                .isInstanceOf(RuntimeException.class);
+
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    @Test
+    void append_requiresTransaction() {
+        UserEntity user = userRepository.save(UserEntityTestFactory.createActiveUser("alice"));
+
+        assertThatThrownBy(() -> outboxService.userCreated(user)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void rolledBackTransaction_discardsEvent() {
+        UserEntity user = userRepository.save(UserEntityTestFactory.createActiveUser("alice"));
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            outboxService.userCreated(user);
+            status.setRollbackOnly();
+        });
+
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    @Test
+    void sweep_recordsOneEventPerDeactivatedUser() {
+        Instant now = Instant.now();
+        UserEntity dormant = userRepository.save(UserEntityTestFactory.createActiveUser(
+                "dormant", Role.USER, "hash", now.minus(Duration.ofDays(400))
+        ));
+        userRepository.save(UserEntityTestFactory.createActiveUser("newcomer", Role.USER, "hash", now));
+
+        assertThat(inactivitySweeper.sweep(now)).isEqualTo(1);
+        relay.drain(now.plusSeconds(1));
+
+        assertThat(sink.published).singleElement().satisfies(message -> {
+            assertThat(message.eventType()).isEqualTo(OutboxEventType.USER_DEACTIVATED);
+            assertThat(message.aggregateId()).isEqualTo(dormant.getId());
+            assertThat(message.payload()).contains("\"reason\":\"INACTIVITY\"");
+        });
+    }
+
+    @Test
+    void transfer_recordsEvent() {
+        UserEntity owner = userRepository.save(UserEntityTestFactory.createActiveUser("owner"));
+        AccountEntity treasury = accountService.openSystemAccount(owner.getId(), "EUR", Instant.now());
+        AccountEntity account = accountService.openAccount(owner.getId(), "EUR", Instant.now());
+
+        TransferEntity transfer = transferService.transfer(treasury.getId(), account.getId(), 10_00, Instant.now());
+
+        assertThat(outboxEventRepository.findAll()).singleElement().satisfies(event -> {
+            assertThat(event.getEventType()).isEqualTo(OutboxEventType.TRANSFER_POSTED);
+            assertThat(event.getAggregateId()).isEqualTo(transfer.getId());
+            assertThat(event.getPayload()).contains("\"amount\":1000", "\"currency\":\"EUR\"");
+        });
+    }
+
+    @Test
+    void unavailableSink_pausesTheRelayWithoutCountingAttempts() {
+        Instant now = Instant.now().plusSeconds(1);
+        userService.createUser("alice", PASSWORD, Role.USER, Instant.now());
+        sink.rejects = message -> true;
+
+        assertThat(relay.drain(now)).isZero();
+        int calls = sink.calls;
+        assertThat(outboxEventRepository.findAll()).singleElement()
+                .satisfies(event -> assertThat(event.getAttempts()).isZero());
+
+        sink.rejects = message -> false;
+        assertThat(relay.drain(now)).isZero();
+        assertThat(sink.calls).isEqualTo(calls);
+        assertThat(relay.drain(now.plus(RETRY_BACKOFF))).isEqualTo(1);
+        assertThat(sink.published).singleElement()
+                .satisfies(message -> assertThat(message.attempt()).isZero());
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    @Test
+    void sinkOutageLongerThanMaxAttempts_deadLettersNothing() {
+        Instant now = Instant.now().plusSeconds(1);
+        for (int i = 0; i < 3; i++) {
+            userService.createUser("user" + i, PASSWORD, Role.USER, Instant.now());
+        }
+        sink.rejects = message -> true;
+
+        for (int round = 0; round <= MAX_ATTEMPTS * 2; round++) {
+            assertThat(relay.drain(now.plus(RETRY_BACKOFF.multipliedBy(round)))).isZero();
+        }
+
+        assertThat(deadLetterRepository.count()).isZero();
+        assertThat(outboxEventRepository.findAll()).hasSize(3)
+                .allSatisfy(event -> assertThat(event.getAttempts()).isZero());
+
+        sink.rejects = message -> false;
+        assertThat(relay.drain(now.plus(RETRY_BACKOFF.multipliedBy(MAX_ATTEMPTS * 2 + 1)))).isEqualTo(3);
+    }
+
+    @Test
+    void rejectedEvent_doesNotHoldBackTheRestOfItsBatch() {
+        Instant now = Instant.now().plusSeconds(1);
+        UUID poison = userService.createUser("poison", PASSWORD, Role.USER, Instant.now()).getId();
+        userService.createUser("healthy", PASSWORD, Role.USER, Instant.now());
+        userService.createUser("another", PASSWORD, Role.USER, Instant.now());
+        sink.rejects = message -> message.aggregateId().equals(poison);
+
+        assertThat(relay.drain(now)).isEqualTo(2);
+
+        assertThat(sink.published).extracting(OutboxMessage::aggregateId).doesNotContain(poison).hasSize(2);
+        assertThat(outboxEventRepository.findAll()).singleElement().satisfies(event -> {
+            assertThat(event.getAggregateId()).isEqualTo(poison);
+            assertThat(event.getAttempts()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void eventOverMaxAttempts_isDeadLettered() {
+        Instant now = Instant.now().plusSeconds(1);
+        UUID poison = userService.createUser("poison", PASSWORD, Role.USER, Instant.now()).getId();
+        sink.rejects = message -> message.aggregateId().equals(poison);
+
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            userService.createUser("healthy" + attempt, PASSWORD, Role.USER, Instant.now());
+            assertThat(relay.drain(now.plus(RETRY_BACKOFF.multipliedBy(attempt)))).isEqualTo(1);
+        }
+
+        assertThat(outboxEventRepository.count()).isZero();
+        assertThat(deadLetterRepository.findAll()).singleElement().satisfies(deadLetter -> {
+            assertThat(deadLetter.getEventType()).isEqualTo(OutboxEventType.USER_CREATED);
+            assertThat(deadLetter.getAggregateId()).isEqualTo(poison);
+            assertThat(deadLetter.getAttempts()).isEqualTo(MAX_ATTEMPTS);
+            assertThat(deadLetter.getLastError()).contains("Sink rejected");
+        });
+    }
+
+    private static final class RecordingSink implements OutboxSink {
+
+        private final List<OutboxMessage> published = new ArrayList<>();
+        private final List<Integer> batches = new ArrayList<>();
+        private volatile Predicate<OutboxMessage> rejects = message -> false;
+        private int calls;
+
+        @Override
+        public void publish(List<OutboxMessage> messages) {
+            calls++;
+            if (messages.stream().anyMatch(rejects)) {
+                throw new IllegalStateException("Sink rejected the batch");
+            }
+            batches.add(messages.size());
+            published.addAll(messages);
+        }
+    }
+}
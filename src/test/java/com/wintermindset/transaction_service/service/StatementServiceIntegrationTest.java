@@ -0,0 +1,212 @@
+package com.wintermindset.transaction_service.service;
+
+import com.wintermindset.transaction_service.dto.account.AccountStatement;
+import com.wintermindset.transaction_service.dto.account.StatementLine;
+import com.wintermindset.transaction_service.entity.AccountBucketEntity;
+import com.wintermindset.transaction_service.entity.AccountEntity;
+import com.wintermindset.transaction_service.entity.BalanceSnapshotEntity;
+import com.wintermindset.transaction_service.entity.LedgerEntryEntity;
+import com.wintermindset.transaction_service.entity.UserEntityTestFactory;
+import com.wintermindset.transaction_service.repository.AccountBucketRepository;
+import com.wintermindset.transaction_service.repository.AccountRepository;
+import com.wintermindset.transaction_service.repository.BalanceSnapshotRepository;
+import com.wintermindset.transaction_service.repository.LedgerEntryRepository;
+import com.wintermindset.transaction_service.repository.TransferRepository;
+import com.wintermindset.transaction_service.repository.UserRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "app.ledger.snapshots.min-entries=10")
+@ActiveProfiles("test")
+class StatementServiceIntegrationTest {
+
+    @Autowired
+    private StatementService statementService;
+
+    @Autowired
+    private BalanceSnapshotCompactor compactor;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransferService transferService;
+
+    @Autowired
+    private BalanceSnapshotRepository snapshotRepository;
+
+    @Autowired
+    private LedgerEntryRepository ledgerEntryRepository;
+
+    @Autowired
+    private TransferRepository transferRepository;
+
+    @Autowired
+    private AccountBucketRepository bucketRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private UUID ownerId;
+    private AccountEntity treasury;
+
+    @BeforeEach
+    void setUp() {
+        snapshotRepository.deleteAll();
+        ledgerEntryRepository.deleteAll();
+        transferRepository.deleteAll();
+        bucketRepository.deleteAll();
+        accountRepository.deleteAll();
+        userRepository.deleteAll();
+        ownerId = userRepository.save(UserEntityTestFactory.createActiveUser("owner")).getId();
+        treasury = accountService.openSystemAccount(ownerId, "EUR", Instant.now());
+    }
+
+    @Test
+    void compact_snapshotsIncrementallyAndBalancesReplayOnlyTheTail() {
+        AccountEntity account = accountService.openAccount(ownerId, "EUR", Instant.now());
+        for (int i = 1; i <= 25; i++) {
+            transferService.transfer(treasury.getId(), account.getId(), i, Instant.now());
+        }
+
+        assertThat(compactor.compact(Instant.now())).isEqualTo(2);
+        assertThat(compactor.compact(Instant.now())).isZero();
+        for (int i = 26; i <= 35; i++) {
+            transferService.transfer(treasury.getId(), account.getId(), i, Instant.now());
+        }
+        assertThat(compactor.compact(Instant.now())).isEqualTo(2);
+
+        assertThat(snapshotRepository.findFirstByAccountIdOrderBySequenceDesc(account.getId()))
+                .get()
+                .extracting(BalanceSnapshotEntity::getSequence, BalanceSnapshotEntity::getBalance)
+                .containsExactly(35L, 630L);
+        assertThat(statementService.balanceAt(account.getId(), 25)).isEqualTo(325);
+        assertThat(statementService.balanceAt(account.getId(), 30)).isEqualTo(465);
+        assertThat(statementService.balanceAt(account.getId(), 35)).isEqualTo(accountService.getBalance(account.getId()));
+    }
+
+    @Test
+    void statement_pagesWithRunningBalances() {
+        AccountEntity account = accountService.openAccount(ownerId, "EUR", Instant.now());
+        AccountEntity other = accountService.openAccount(ownerId, "EUR", Instant.now());
+        for (int i = 0; i < 12; i++) {
+            transferService.transfer(treasury.getId(), account.getId(), 10, Instant.now());
+        }
+        transferService.transfer(account.getId(), other.getId(), 35, Instant.now());
+        compactor.compact(Instant.now());
+
+        AccountStatement first = statementService.statement(account.getId(), 0, 10);
+        AccountStatement second = statementService.statement(account.getId(), first.nextSequence(), 10);
+
+        assertThat(first.openingBalance()).isZero();
+        assertThat(first.closingBalance()).isEqualTo(100);
+        assertThat(first.nextSequence()).isEqualTo(10L);
+        assertThat(second.openingBalance()).isEqualTo(100);
+        assertThat(second.lines()).extracting(StatementLine::amount).containsExactly(10L, 10L, -35L);
+        assertThat(second.closingBalance()).isEqualTo(85);
+        assertThat(second.nextSequence()).isNull();
+        List<LedgerEntryEntity> entries = ledgerEntryRepository.findByAccountIdOrderBySequence(account.getId());
+        assertThat(second.lines()).extracting(StatementLine::balance)
+                .containsExactlyElementsOf(entries.subList(10, 13).stream().map(LedgerEntryEntity::getBalanceAfter).toList());
+    }
+
+    @Test
+    void compact_settlesEveryCommittedEntryOfBucketedAccounts() {
+        AccountEntity merchant = accountService.openBucketedAccount(ownerId, "EUR", 4, Instant.now());
+        for (int i = 0; i < 60; i++) {
+            transferService.transfer(treasury.getId(), merchant.getId(), 1_00, Instant.now());
+        }
+
+        compactor.compact(Instant.now());
+
+        BalanceSnapshotEntity snapshot = snapshotRepository.findFirstByAccountIdOrderBySequenceDesc(merchant.getId())
+                .orElseThrow();
+        long lastSequence = ledgerEntryRepository.findByAccountIdOrderBySequence(merchant.getId()).getLast().getSequence();
+        assertThat(snapshot.getSequence()).isEqualTo(lastSequence);
+        assertThat(snapshot.getBalance()).isEqualTo(60 * 1_00);
+        assertThat(statementService.settledSequence(merchant.getId())).isEqualTo(lastSequence);
+        assertThat(statementService.balanceAt(merchant.getId(), lastSequence)).isEqualTo(snapshot.getBalance());
+    }
+
+    @Test
+    void compact_advancesBucketsWithoutTraffic() {
+        AccountEntity merchant = accountService.openBucketedAccount(ownerId, "EUR", 3, Instant.now());
+        creditBucket(merchant.getId(), 2, 500);
+
+        assertThat(statementService.statement(merchant.getId(), 0, 10).lines()).isEmpty();
+
+        compactor.compact(Instant.now());
+
+        AccountStatement statement = statementService.statement(merchant.getId(), 0, 10);
+        assertThat(statement.lines()).extracting(StatementLine::amount).containsExactly(500L);
+        assertThat(statement.closingBalance()).isEqualTo(500);
+        assertThat(statementService.balanceAt(merchant.getId(), 3)).isEqualTo(500);
+
+        creditBucket(merchant.getId(), 0, 50);
+        creditBucket(merchant.getId(), 2, 5);
+        compactor.compact(Instant.now());
+
+        assertThat(statementService.statement(merchant.getId(), statement.lines().getLast().sequence(), 10).lines())
+                .extracting(StatementLine::amount)
+                .containsExactly(50L, 5L);
+        assertThat(statementService.balanceAt(merchant.getId(), Long.MAX_VALUE)).isEqualTo(555);
+    }
+
+    @Test
+    void statement_neverSkipsAnEntryThatCommitsAfterAHigherSequence() {
+        AccountEntity merchant = accountService.openBucketedAccount(ownerId, "EUR", 2, Instant.now());
+        creditBucket(merchant.getId(), 0, 100);
+        creditBucket(merchant.getId(), 1, 200);
+        creditBucket(merchant.getId(), 1, 400);
+
+        AccountStatement first = statementService.statement(merchant.getId(), 0, 10);
+
+        assertThat(first.lines()).extracting(StatementLine::sequence).containsExactly(1L, 2L);
+        assertThat(first.closingBalance()).isEqualTo(300);
+        assertThat(statementService.balanceAt(merchant.getId(), 4)).isEqualTo(300);
+
+        creditBucket(merchant.getId(), 0, 800);
+        AccountStatement second = statementService.statement(merchant.getId(), first.lines().getLast().sequence(), 10);
+
+        assertThat(second.openingBalance()).isEqualTo(300);
+        assertThat(second.lines()).extracting(StatementLine::sequence).containsExactly(3L, 4L);
+        assertThat(second.lines()).extracting(StatementLine::amount).containsExactly(800L, 400L);
+        assertThat(second.closingBalance()).isEqualTo(accountService.getBalance(merchant.getId()));
+    }
+
+    /**
+     * Posts straight to one bucket, committing on return, so the test
+     * decides which bucket's sequence commits first.
+     */
+    private void creditBucket(UUID accountId, int bucketIndex, long amount) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            AccountEntity account = accountRepository.findById(accountId).orElseThrow();
+            AccountBucketEntity bucket = bucketRepository.findForUpdate(accountId, bucketIndex).orElseThrow();
+            long entryNumber = bucket.post(amount);
+            long sequence = AccountBucketEntity.entrySequence(
+                    account.getEntrySequence(), account.getBucketCount(), bucketIndex, entryNumber
+            );
+            ledgerEntryRepository.save(new LedgerEntryEntity(
+                    UUID.randomUUID(), accountId, sequence, amount, bucket.getBalance(), Instant.now()
+            ));
+        });
+    }
+}
@@ -0,0 +1,140 @@
+package com.wintermindset.transaction_service.service;
+
+import com.wintermindset.transaction_service.config.TransferProperties;
+import com.wintermindset.transaction_service.entity.AccountEntity;
+import com.wintermindset.transaction_service.entity.TransferEntity;
+import com.wintermindset.transaction_service.entity.UserEntityTestFactory;
+import com.wintermindset.transaction_service.exception.account.InsufficientFundsException;
+import com.wintermindset.transaction_service.exception.transfer.TransferCapacityExceededException;
+import com.wintermindset.transaction_service.repository.AccountRepository;
+import com.wintermindset.transaction_service.repository.LedgerEntryRepository;
+import com.wintermindset.transaction_service.repository.TransferRepository;
+import com.wintermindset.transaction_service.repository.UserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "app.transfers.batch-linger=20ms")
+@ActiveProfiles("test")
+class TransferPipelineIntegrationTest {
+
+    @Autowired
+    private TransferPipeline transferPipeline;
+
+    @Autowired
+    private TransferService transferService;
+
+    @Autowired
+    private LedgerPoster ledgerPoster;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private LedgerEntryRepository ledgerEntryRepository;
+
+    @Autowired
+    private TransferRepository transferRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private UUID ownerId;
+    private AccountEntity treasury;
+
+    @BeforeEach
+    void setUp() {
+        ledgerEntryRepository.deleteAll();
+        transferRepository.deleteAll();
+        accountRepository.deleteAll();
+        userRepository.deleteAll();
+        ownerId = userRepository.save(UserEntityTestFactory.createActiveUser("owner")).getId();
+        treasury = accountService.openSystemAccount(ownerId, "EUR", Instant.now());
+    }
+
+    @Test
+    void submit_commitsConcurrentTransfersInBatches() {
+        List<UUID> accounts = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            accounts.add(accountService.openAccount(ownerId, "EUR", Instant.now()).getId());
+        }
+        List<CompletableFuture<TransferEntity>> futures = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            futures.add(transferPipeline.submit(treasury.getId(), accounts.get(i % 5), 1_00, Instant.now()));
+        }
+
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        assertThat(transferRepository.count()).isEqualTo(200);
+        for (UUID id : accounts) {
+            AccountEntity account = accountService.getAccount(id);
+            assertThat(account.getBalance()).isEqualTo(40_00);
+            assertThat(account.getBalance()).isEqualTo(ledgerEntryRepository.sumAmountsByAccountId(id));
+            assertThat(ledgerEntryRepository.findByAccountIdOrderBySequence(id)).hasSize(40);
+        }
+        assertThat(accountService.getAccount(treasury.getId()).getBalance()).isEqualTo(-200_00);
+    }
+
+    @Test
+    void submit_failsOnlyTheTransferThatCannotBePosted() {
+        AccountEntity poor = accountService.openAccount(ownerId, "EUR", Instant.now());
+        AccountEntity other = accountService.openAccount(ownerId, "EUR", Instant.now());
+
+        CompletableFuture<TransferEntity> funding = transferPipeline.submit(
+                treasury.getId(), poor.getId(), 3_00, Instant.now());
+        CompletableFuture<TransferEntity> overdraft = transferPipeline.submit(
+                poor.getId(), other.getId(), 5_00, Instant.now());
+        CompletableFuture<TransferEntity> spend = transferPipeline.submit(
+                poor.getId(), other.getId(), 2_00, Instant.now());
+
+        assertThat(funding.join().getAmount()).isEqualTo(3_00);
+        assertThatThrownBy(overdraft::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(InsufficientFundsException.class);
+        assertThat(spend.join().getAmount()).isEqualTo(2_00);
+        assertThat(accountService.getAccount(poor.getId()).getBalance()).isEqualTo(1_00);
+        assertThat(accountService.getAccount(other.getId()).getBalance()).isEqualTo(2_00);
+        assertThat(ledgerEntryRepository.findByAccountIdOrderBySequence(poor.getId()))
+                .extracting(entry -> entry.getSequence())
+                .containsExactly(1L, 2L);
+    }
+
+    @Test
+    void submit_rejectsAfterShutdown() throws Exception {
+        AccountEntity account = accountService.openAccount(ownerId, "EUR", Instant.now());
+        TransferPipeline idle = new TransferPipeline(
+                ledgerPoster,
+                transferService,
+                transactionManager,
+                new TransferProperties(16, 16, Duration.ZERO, 1),
+                new SimpleMeterRegistry()
+        );
+        idle.start();
+        idle.shutdown();
+
+        assertThatThrownBy(() -> idle.submit(treasury.getId(), account.getId(), 1, Instant.now()))
+                .isInstanceOf(TransferCapacityExceededException.class);
+    }
+}
@@ -0,0 +1,162 @@
+package com.wintermindset.transaction_service.service;
+
+import com.wintermindset.transaction_service.entity.AccountEntity;
+import com.wintermindset.transaction_service.entity.LedgerEntryEntity;
+import com.wintermindset.transaction_service.entity.TransferEntity;
+import com.wintermindset.transaction_service.entity.UserEntityTestFactory;
+import com.wintermindset.transaction_service.exception.account.InsufficientFundsException;
+import com.wintermindset.transaction_service.exception.transfer.InvalidTransferException;
+import com.wintermindset.transaction_service.repository.AccountRepository;
+import com.wintermindset.transaction_service.repository.LedgerEntryRepository;
+import com.wintermindset.transaction_service.repository.TransferRepository;
+import com.wintermindset.transaction_service.repository.UserRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class TransferServiceIntegrationTest {
+
+    @Autowired
+    private TransferService transferService;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private LedgerEntryRepository ledgerEntryRepository;
+
+    @Autowired
+    private TransferRepository transferRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private UUID ownerId;
+    private AccountEntity treasury;
+
+    @BeforeEach
+    void setUp() {
+        ledgerEntryRepository.deleteAll();
+        transferRepository.deleteAll();
+        accountRepository.deleteAll();
+        userRepository.deleteAll();
+        ownerId = userRepository.save(UserEntityTestFactory.createActiveUser("owner")).getId();
+        treasury = accountService.openSystemAccount(ownerId, "EUR", Instant.now());
+    }
+
+    @Test
+    void transfer_postsBalancedEntries() {
+        AccountEntity account = accountService.openAccount(ownerId, "EUR", Instant.now());
+
+        TransferEntity transfer = transferService.transfer(treasury.getId(), account.getId(), 10_00, Instant.now());
+
+        assertThat(accountService.getAccount(account.getId()).getBalance()).isEqualTo(10_00);
+        assertThat(accountService.getAccount(treasury.getId()).getBalance()).isEqualTo(-10_00);
+        assertThat(ledgerEntryRepository.findByTransferId(transfer.getId()))
+                .extracting(LedgerEntryEntity::getAmount)
+                .containsExactlyInAnyOrder(-10_00L, 10_00L);
+    }
+
+    @Test
+    void transfer_rejectsInsufficientFundsWithoutSideEffects() {
+        AccountEntity poor = accountService.openAccount(ownerId, "EUR", Instant.now());
+        AccountEntity other = accountService.openAccount(ownerId, "EUR", Instant.now());
+        transferService.transfer(treasury.getId(), poor.getId(), 5_00, Instant.now());
+
+        assertThatThrownBy(() -> transferService.transfer(poor.getId(), other.getId(), 5_01, Instant.now()))
+                .isInstanceOf(InsufficientFundsException.class);
+
+        assertThat(accountService.getAccount(poor.getId()).getBalance()).isEqualTo(5_00);
+        assertThat(accountService.getAccount(other.getId()).getBalance()).isZero();
+        assertThat(ledgerEntryRepository.findByAccountIdOrderBySequence(other.getId())).isEmpty();
+        assertThat(transferRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void transfer_rejectsInvalidRequests() {
+        AccountEntity euros = accountService.openAccount(ownerId, "EUR", Instant.now());
+        AccountEntity dollars = accountService.openAccount(ownerId, "USD", Instant.now());
+
+        assertThatThrownBy(() -> transferService.transfer(euros.getId(), euros.getId(), 1, Instant.now()))
+                .isInstanceOf(InvalidTransferException.class);
+        assertThatThrownBy(() -> transferService.transfer(treasury.getId(), euros.getId(), 0, Instant.now()))
+                .isInstanceOf(InvalidTransferException.class);
+        assertThatThrownBy(() -> transferService.transfer(treasury.getId(), dollars.getId(), 1, Instant.now()))
+                .isInstanceOf(InvalidTransferException.class);
+    }
+
+    @Test
+    void transfer_keepsLedgerConsistentUnderConcurrency() throws Exception {
+        List<UUID> accounts = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            UUID id = accountService.openAccount(ownerId, "EUR", Instant.now()).getId();
+            transferService.transfer(treasury.getId(), id, 1_000, Instant.now());
+            accounts.add(id);
+        }
+
+        List<Future<?>> workers = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int w = 0; w < 8; w++) {
+                workers.add(executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < 50; i++) {
+                        UUID from = accounts.get(random.nextInt(accounts.size()));
+                        UUID to = accounts.get(random.nextInt(accounts.size()));
+                        if (from.equals(to)) {
+                            continue;
+                        }
+                        try {
+                            transferService.transfer(from, to, random.nextLong(1, 400), Instant.now());
+                        } catch (InsufficientFundsException e) {
+                            // expected once an account runs dry
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        }
+
+        long total = 0;
+        for (UUID id : accounts) {
+            AccountEntity account = accountService.getAccount(id);
+            List<LedgerEntryEntity> entries = ledgerEntryRepository.findByAccountIdOrderBySequence(id);
+            assertThat(account.getBalance()).isNotNegative();
+            assertThat(account.getBalance()).isEqualTo(ledgerEntryRepository.sumAmountsByAccountId(id));
+            assertThat(entries).extracting(LedgerEntryEntity::getSequence)
+                    .containsExactlyElementsOf(sequence(entries.size()));
+            total += account.getBalance();
+        }
+        assertThat(total).isEqualTo(6_000);
+    }
+
+    private static List<Long> sequence(int size) {
+        List<Long> sequence = new ArrayList<>(size);
+        for (long i = 1; i <= size; i++) {
+            sequence.add(i);
+        }
+        return sequence;
+    }
+}
@@ -0,0 +1,110 @@
+package com.wintermindset.transaction_service.service;
+
+import com.wintermindset.transaction_service.dto.user.UserImportFailure;
+import com.wintermindset.transaction_service.dto.user.UserImportReport;
+import com.wintermindset.transaction_service.dto.user.UserImportRow;
+import com.wintermindset.transaction_service.entity.UserEntityTestFactory;
+import com.wintermindset.transaction_service.enums.user.Role;
+import com.wintermindset.transaction_service.repository.UserRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+
+@SpringBootTest(properties = "app.users.import.chunk-size=3")
+@ActiveProfiles("test")
+class UserImportServiceIntegrationTest {
+
+    private static final String PASSWORD = "Str0ng!Passw0rd";
+
+    @Autowired
+    private UserImportService userImportService;
+
+    @MockitoSpyBean
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void cleanDatabase() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void importUsers_insertsValidRowsAcrossChunks() {
+        UserImportReport report = userImportService.importUsers(
+                IntStream.range(0, 10).mapToObj(i -> new UserImportRow("member" + i, PASSWORD, Role.USER)),
+                Instant.now()
+        );
+
+        assertThat(report.imported()).isEqualTo(10);
+        assertThat(report.failures()).isEmpty();
+        assertThat(userRepository.findByUsername("member7"))
+                .get()
+                .satisfies(u -> assertThat(u.getPasswordHash()).startsWith("{bcrypt}"));
+    }
+
+    @Test
+    void importUsers_rejectsRowsTheDatabaseMatchesCaseInsensitively() {
+        doReturn(List.of("TAKEN")).when(userRepository).findExistingUsernames(any());
+
+        UserImportReport report = userImportService.importUsers(
+                Stream.of(
+                        new UserImportRow("taken", PASSWORD, Role.USER),
+                        new UserImportRow("alice", PASSWORD, Role.USER)
+                ),
+                Instant.now()
+        );
+
+        assertThat(report.imported()).isEqualTo(1);
+        assertThat(report.failures()).singleElement().satisfies(failure -> {
+            assertThat(failure.rowIndex()).isZero();
+            assertThat(failure.reason()).isEqualTo("Username already exists");
+        });
+    }
+
+    @Test
+    void importUsers_reportsBadRowsWithoutAbortingTheChunk() {
+        userRepository.save(UserEntityTestFactory.createActiveUser("taken"));
+
+        UserImportReport report = userImportService.importUsers(
+                Stream.of(
+                        new UserImportRow("alice", PASSWORD, Role.USER),
+                        new UserImportRow("_bad", PASSWORD, Role.USER),
+                        new UserImportRow("taken", PASSWORD, Role.USER),
+                        new UserImportRow("bob", "weak", Role.USER),
+                        new UserImportRow("alice", PASSWORD, Role.ADMIN),
+                        new UserImportRow("carol", PASSWORD, null),
+                        new UserImportRow("dave", PASSWORD, Role.ADMIN),
+                        new UserImportRow(null, PASSWORD, Role.USER),
+                        new UserImportRow("erin", null, Role.USER)
+                ),
+                Instant.now()
+        );
+
+        assertThat(report.imported()).isEqualTo(2);
+        assertThat(report.failures())
+                .extracting(UserImportFailure::rowIndex)
+                .containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L, 7L, 8L);
+        assertThat(report.failures())
+                .filteredOn(failure -> failure.rowIndex() >= 5)
+                .extracting(UserImportFailure::reason)
+                .containsExactlyInAnyOrder(
+                        "Role must not be null", "Username must not be null", "Password must not be null"
+                );
+        assertThat(userRepository.findByUsername("alice")).get()
+                .satisfies(u -> assertThat(u.getRole()).isEqualTo(Role.USER));
+        assertThat(userRepository.findByUsername("dave")).isPresent();
+        assertThat(userRepository.count()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,116 @@
+package com.wintermindset.transaction_service.service;
+
+import com.wintermindset.transaction_service.dto.user.UserListFilter;
+import com.wintermindset.transaction_service.dto.user.UserListPage;
+import com.wintermindset.transaction_service.entity.UserEntity;
+import com.wintermindset.transaction_service.entity.UserEntityTestFactory;
+import com.wintermindset.transaction_service.enums.user.DeactivationReason;
+import com.wintermindset.transaction_service.enums.user.Role;
+import com.wintermindset.transaction_service.enums.user.UserExportFormat;
+import com.wintermindset.transaction_service.projection.user.UserAdminView;
+import com.wintermindset.transaction_service.repository.UserRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class UserListingServiceIntegrationTest {
+
+    private static final Instant BASE_TIME = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Autowired
+    private UserListingService userListingService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        for (int i = 0; i < 7; i++) {
+            userRepository.save(UserEntityTestFactory.createActiveUser(
+                    "member" + i, i % 3 == 0 ? Role.ADMIN : Role.USER, "hashed-password", BASE_TIME.plusSeconds(i / 2)
+            ));
+        }
+        UserEntity deactivated = UserEntityTestFactory.createActiveUser(
+                "gone", Role.USER, "hashed-password", BASE_TIME.plusSeconds(10)
+        );
+        deactivated.deactivate(BASE_TIME.plusSeconds(20), DeactivationReason.FRAUD_DETECTION, Role.ADMIN);
+        userRepository.save(deactivated);
+    }
+
+    @Test
+    void listUsers_walksEveryUserOnceInCreationOrder() {
+        List<UserAdminView> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            UserListPage page = userListingService.listUsers(UserListFilter.none(), cursor, 3);
+            assertThat(page.users()).hasSizeLessThanOrEqualTo(3);
+            seen.addAll(page.users());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertThat(seen).hasSize(8);
+        assertThat(seen).extracting(UserAdminView::username).doesNotHaveDuplicates();
+        assertThat(seen).extracting(UserAdminView::createdAt).isSorted();
+    }
+
+    @Test
+    void listUsers_appliesFilters() {
+        UserListPage admins = userListingService.listUsers(new UserListFilter(Role.ADMIN, null, null), null, 50);
+        UserListPage fraud = userListingService.listUsers(
+                new UserListFilter(null, false, DeactivationReason.FRAUD_DETECTION), null, 50
+        );
+
+        assertThat(admins.users()).extracting(UserAdminView::username)
+                .containsExactly("member0", "member3", "member6");
+        assertThat(admins.nextCursor()).isNull();
+        assertThat(fraud.users()).extracting(UserAdminView::username).containsExactly("gone");
+    }
+
+    @Test
+    void listUsers_rejectsBadInput() {
+        assertThatThrownBy(() -> userListingService.listUsers(UserListFilter.none(), "not a cursor", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> userListingService.listUsers(UserListFilter.none(), null, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void export_writesCsvRowPerUser() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long written = userListingService.export(UserListFilter.none(), UserExportFormat.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(written).isEqualTo(8);
+        assertThat(lines).hasSize(9);
+        assertThat(lines[0]).startsWith("id,username,role,active");
+        assertThat(lines[8]).contains(",gone,USER,false,").endsWith(",FRAUD_DETECTION,ADMIN");
+        assertThat(out.toString(StandardCharsets.UTF_8)).doesNotContain("hashed-password");
+    }
+
+    @Test
+    void export_writesOneJsonObjectPerLine() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        userListingService.export(new UserListFilter(Role.ADMIN, true, null), UserExportFormat.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).startsWith("{").contains("\"username\":\"member0\"").doesNotContain("passwordHash");
+    }
+}
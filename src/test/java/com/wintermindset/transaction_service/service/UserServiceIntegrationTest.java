@@ -0,0 +1,254 @@
+package com.wintermindset.transaction_service.service;
+
+import com.wintermindset.transaction_service.cache.UsernameFilter;
+import com.wintermindset.transaction_service.entity.UserEntity;
+import com.wintermindset.transaction_service.entity.UserEntityTestFactory;
+import com.wintermindset.transaction_service.enums.user.DeactivationReason;
+import com.wintermindset.transaction_service.enums.user.Role;
+import com.wintermindset.transaction_service.exception.user.BadPasswordException;
+import com.wintermindset.transaction_service.exception.user.UserAlreadyExistsException;
+import com.wintermindset.transaction_service.exception.user.UserDeactivatedException;
+import com.wintermindset.transaction_service.repository.UserRepository;
+import com.wintermindset.transaction_service.security.PasswordHashingService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class UserServiceIntegrationTest {
+
+    private static final String PASSWORD = "Str0ng!Passw0rd";
+    private static final String LEGACY_HASH = new BCryptPasswordEncoder(4).encode(PASSWORD);
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UsernameFilter usernameFilter;
+
+    @MockitoSpyBean
+    private PasswordHashingService passwordHashingService;
+
+    @BeforeEach
+    void cleanDatabase() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void createUser_persistsUserWithHashedPassword() {
+        UserEntity created = userService.createUser("  alice  ", PASSWORD, Role.USER, Instant.now());
+
+        assertThat(userRepository.findById(created.getId()))
+                .get()
+                .satisfies(u -> {
+                    assertThat(u.getUsername()).isEqualTo("alice");
+                    assertThat(u.getPasswordHash()).startsWith("{bcrypt}");
+                });
+    }
+
+    @Test
+    void createUser_translatesDuplicateUsername() {
+        userService.createUser("alice", PASSWORD, Role.USER, Instant.now());
+
+        assertThatThrownBy(() -> userService.createUser("alice", PASSWORD, Role.ADMIN, Instant.now()))
+                .isInstanceOf(UserAlreadyExistsException.class)
+                .hasMessage("alice");
+        assertThat(userRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void isUsernameAvailable_reflectsCommittedUsers() {
+        userService.createUser("alice", PASSWORD, Role.USER, Instant.now());
+
+        assertThat(userService.isUsernameAvailable(" alice ")).isFalse();
+        assertThat(userService.isUsernameAvailable("nobody")).isTrue();
+    }
+
+    @Test
+    void isUsernameAvailable_seesUsersTheFilterMissed() throws InterruptedException {
+        awaitWarmFilter();
+        jdbcTemplate.update(
+                "insert into users (id, username, password_hash, role, created_at, active) values (?, ?, ?, ?, ?, true)",
+                UUID.randomUUID(), "elsewhere", LEGACY_HASH, Role.USER.name(), Timestamp.from(Instant.now())
+        );
+
+        assertThat(usernameFilter.mightExist("elsewhere")).isFalse();
+        assertThat(userService.isUsernameAvailable("elsewhere")).isFalse();
+    }
+
+    private void awaitWarmFilter() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!usernameFilter.isWarm() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(usernameFilter.isWarm()).isTrue();
+    }
+
+    @Test
+    void createUser_concurrentDuplicatesYieldExactlyOneUser() throws Exception {
+        int attempts = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(attempts)) {
+            for (int i = 0; i < attempts; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return userService.createUser("racer", PASSWORD, Role.USER, Instant.now());
+                }));
+            }
+            start.countDown();
+            int created = 0;
+            for (Future<?> result : results) {
+                try {
+                    result.get();
+                    created++;
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause()).isInstanceOf(UserAlreadyExistsException.class);
+                }
+            }
+            assertThat(created).isEqualTo(1);
+        }
+        assertThat(userRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void findById_isInvalidatedWhenUserIsDeactivated() {
+        UserEntity created = userService.createUser("cached", PASSWORD, Role.USER, Instant.now());
+        assertThat(userService.findById(created.getId())).get().extracting(UserEntity::isActive).isEqualTo(true);
+        assertThat(userService.findByUsername("cached")).get().isSameAs(userService.findById(created.getId()).get());
+
+        UserEntity loaded = userRepository.findById(created.getId()).orElseThrow();
+        loaded.deactivate(Instant.now(), DeactivationReason.SECURITY_BREACH, Role.ADMIN);
+        userRepository.save(loaded);
+
+        assertThat(userService.findById(created.getId())).get().extracting(UserEntity::isActive).isEqualTo(false);
+        assertThat(userService.findByUsername("cached")).get().extracting(UserEntity::isActive).isEqualTo(false);
+    }
+
+    @Test
+    void findById_isInvalidatedWhenPasswordChanges() {
+        UserEntity created = userService.createUser("cached", PASSWORD, Role.USER, Instant.now());
+        String originalHash = userService.findById(created.getId()).orElseThrow().getPasswordHash();
+
+        userService.updatePassword(created.getId(), PASSWORD, "N3w!Password");
+
+        assertThat(userService.findById(created.getId()))
+                .get()
+                .extracting(UserEntity::getPasswordHash)
+                .isNotEqualTo(originalHash);
+    }
+
+    @Test
+    void updatePassword_keepsDeactivationThatLandsWhileHashing() {
+        UserEntity created = userService.createUser("racing", PASSWORD, Role.USER, Instant.now());
+        doAnswer(invocation -> {
+            userRepository.deactivateIfActive(
+                    created.getId(), Instant.now(), DeactivationReason.INACTIVITY, Role.ADMIN
+            );
+            return invocation.callRealMethod();
+        }).when(passwordHashingService).encode(any());
+
+        userService.updatePassword(created.getId(), PASSWORD, "N3w!Password");
+
+        assertThat(userRepository.findById(created.getId())).get().satisfies(u -> {
+            assertThat(u.isActive()).isFalse();
+            assertThat(u.getDeactivationReason()).isEqualTo(DeactivationReason.INACTIVITY);
+            assertThat(u.getPasswordHash()).isNotEqualTo(created.getPasswordHash());
+        });
+    }
+
+    @Test
+    void authenticate_upgradesLegacyHash() {
+        UserEntity saved = userRepository.save(
+                UserEntityTestFactory.createActiveUser("legacy", Role.USER, LEGACY_HASH)
+        );
+
+        UserEntity authenticated = userService.authenticate("legacy", PASSWORD);
+
+        assertThat(authenticated.getPasswordHash()).startsWith("{bcrypt}");
+        assertThat(userRepository.findById(saved.getId()))
+                .get()
+                .extracting(UserEntity::getPasswordHash)
+                .isEqualTo(authenticated.getPasswordHash());
+        assertThat(userService.authenticate("legacy", PASSWORD).getPasswordHash())
+                .isEqualTo(authenticated.getPasswordHash());
+    }
+
+    @Test
+    void authenticate_rejectsWrongPasswordWithoutUpgrade() {
+        UserEntity saved = userRepository.save(
+                UserEntityTestFactory.createActiveUser("legacy", Role.USER, LEGACY_HASH)
+        );
+
+        assertThatThrownBy(() -> userService.authenticate("legacy", "Wr0ng!Password"))
+                .isInstanceOf(BadPasswordException.class);
+        assertThat(userRepository.findById(saved.getId()))
+                .get()
+                .extracting(UserEntity::getPasswordHash)
+                .isEqualTo(LEGACY_HASH);
+    }
+
+    @Test
+    void authenticate_rejectsDeactivatedUser() {
+        UserEntity user = UserEntityTestFactory.createActiveUser("inactive", Role.USER, LEGACY_HASH);
+        user.deactivate(Instant.now(), DeactivationReason.USER_REQUEST, Role.USER);
+        userRepository.save(user);
+
+        assertThatThrownBy(() -> userService.authenticate("inactive", PASSWORD))
+                .isInstanceOf(UserDeactivatedException.class);
+    }
+
+    @Test
+    void authenticate_hashesForUnknownUsersLikeForWrongPasswords() {
+        userService.createUser("known", PASSWORD, Role.USER, Instant.now());
+
+        long before = passwordChecks();
+        assertThatThrownBy(() -> userService.authenticate("known", "Wr0ng!Password"))
+                .isInstanceOf(BadPasswordException.class);
+        assertThat(passwordChecks()).isEqualTo(before + 1);
+
+        assertThatThrownBy(() -> userService.authenticate("unknown", "Wr0ng!Password"))
+                .isInstanceOf(BadPasswordException.class)
+                .hasMessage("Password is incorrect");
+        assertThat(passwordChecks()).isEqualTo(before + 2);
+    }
+
+    private long passwordChecks() {
+        return meterRegistry.get("password.hashing.duration").tag("operation", "matches").timer().count();
+    }
+}
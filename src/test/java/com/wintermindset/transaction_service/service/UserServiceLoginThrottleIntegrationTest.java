@@ -0,0 +1,69 @@
+package com.wintermindset.transaction_service.service;
+
+import com.wintermindset.transaction_service.entity.UserEntity;
+import com.wintermindset.transaction_service.enums.user.DeactivationReason;
+import com.wintermindset.transaction_service.enums.user.Role;
+import com.wintermindset.transaction_service.exception.security.LoginThrottledException;
+import com.wintermindset.transaction_service.exception.user.BadPasswordException;
+import com.wintermindset.transaction_service.repository.UserRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "app.security.login-throttle.max-attempts-per-username=3",
+        "app.security.login-throttle.max-attempts-per-address=100",
+        "app.security.login-throttle.escalation-threshold=2"
+})
+@ActiveProfiles("test")
+class UserServiceLoginThrottleIntegrationTest {
+
+    private static final String PASSWORD = "Str0ng!Passw0rd";
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void cleanDatabase() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void authenticate_rejectsAttemptsOverTheLimitEvenWithTheRightPassword() {
+        userService.createUser("throttled", PASSWORD, Role.USER, Instant.now());
+        for (int i = 0; i < 3; i++) {
+            userService.authenticate("throttled", PASSWORD, "10.0.0.1");
+        }
+
+        assertThatThrownBy(() -> userService.authenticate("throttled", PASSWORD, "10.0.0.1"))
+                .isInstanceOf(LoginThrottledException.class);
+    }
+
+    @Test
+    void authenticate_deactivatesUserAfterRepeatedFailures() {
+        UserEntity user = userService.createUser("targeted", PASSWORD, Role.USER, Instant.now());
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> userService.authenticate("targeted", "Wr0ng!Passw0rd", "10.0.0.2"))
+                    .isInstanceOf(BadPasswordException.class);
+        }
+
+        assertThat(userRepository.findById(user.getId()))
+                .get()
+                .satisfies(u -> {
+                    assertThat(u.isActive()).isFalse();
+                    assertThat(u.getDeactivationReason()).isEqualTo(DeactivationReason.SECURITY_BREACH);
+                });
+    }
+}
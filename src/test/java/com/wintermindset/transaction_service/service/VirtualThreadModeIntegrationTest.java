@@ -0,0 +1,80 @@
+package com.wintermindset.transaction_service.service;
+
+import com.wintermindset.transaction_service.concurrency.AdmissionControlledDataSource;
+import com.wintermindset.transaction_service.concurrency.PinningMonitor;
+import com.wintermindset.transaction_service.enums.user.Role;
+import com.wintermindset.transaction_service.repository.UserRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.threads.virtual.enabled=true",
+        "app.virtual-threads.connection-permits=2"
+})
+@ActiveProfiles("test")
+class VirtualThreadModeIntegrationTest {
+
+    private static final String PASSWORD = "Str0ng!Passw0rd";
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void cleanDatabase() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void virtualMode_gatesDataSourceAndWatchesPinning() {
+        assertThat(dataSource).isInstanceOf(AdmissionControlledDataSource.class);
+        assertThat(context.getBeansOfType(PinningMonitor.class)).hasSize(1);
+    }
+
+    @Test
+    void manyVirtualThreads_shareTheGatedPool() throws Exception {
+        int users = 50;
+        List<Future<?>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < users; i++) {
+                String username = "user" + i;
+                results.add(executor.submit(() -> userService.createUser(username, PASSWORD, Role.USER, Instant.now())));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        }
+
+        assertThat(userRepository.count()).isEqualTo(users);
+        assertThat(meterRegistry.get("db.admission.permits.available").gauge().value()).isEqualTo(2);
+    }
+}
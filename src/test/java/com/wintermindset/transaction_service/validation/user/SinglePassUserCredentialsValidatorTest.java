@@ -0,0 +1,144 @@
+package com.wintermindset.transaction_service.validation.user;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import com.wintermindset.transaction_service.exception.user.BadPasswordException;
+import com.wintermindset.transaction_service.exception.user.BadUsernameException;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SinglePassUserCredentialsValidatorTest {
+
+    private final SinglePassUserCredentialsValidator validator = new SinglePassUserCredentialsValidator();
+
+    /* ---------- username ---------- */
+
+    @Test
+    void shouldAcceptValidUsername() {
+        assertThatCode(() -> validator.validateUsername("john_doe42"))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void shouldListEveryViolatedUsernameRule() {
+        assertThatThrownBy(() -> validator.validateUsername("_"))
+                .isInstanceOf(BadUsernameException.class)
+                .hasMessage("""
+                        Bad username.
+                        - Username must be 3-20 characters long.
+                        - Username must start with letter.
+                        - Username must end with letter or digit.""");
+    }
+
+    @Test
+    void shouldRejectEmptyUsernameWithAllRules() {
+        assertThatThrownBy(() -> validator.validateUsername(""))
+                .isInstanceOf(BadUsernameException.class)
+                .hasMessageContaining("3-20 characters")
+                .hasMessageContaining("only letters, digits and underscores");
+    }
+
+    @Test
+    void shouldRejectNullUsername() {
+        assertThatThrownBy(() -> validator.validateUsername(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    /* ---------- password ---------- */
+
+    @Test
+    void shouldAcceptValidPassword() {
+        assertThatCode(() -> validator.validatePassword("Str0ng!Passw0rd"))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void shouldListEveryViolatedPasswordRule() {
+        assertThatThrownBy(() -> validator.validatePassword("short"))
+                .isInstanceOf(BadPasswordException.class)
+                .hasMessage("""
+                        Bad password.
+                        - Password must be 8-32 characters long.
+                        - Password must contain at least one uppercase letter.
+                        - Password must contain at least one digit.
+                        - Password must contain at least one special character (!@#$%^&*()_+[]{}|;:'",.<>?/).""");
+    }
+
+    /* ---------- parity with the former regular expressions ---------- */
+
+    private static final Pattern USERNAME_FIRST_CHAR_IS_LETTER = Pattern.compile("^[a-zA-Z].*");
+    private static final Pattern USERNAME_LAST_CHAR_IS_LETTER_OR_DIGIT = Pattern.compile(".*[a-zA-Z0-9]$");
+    private static final Pattern USERNAME_ALLOWED_CHARS = Pattern.compile("^[a-zA-Z0-9_]+$");
+    private static final Pattern PASSWORD_HAS_CHAR_IN_LOWERCASE = Pattern.compile(".*[a-z].*");
+    private static final Pattern PASSWORD_HAS_CHAR_IN_UPPERCASE = Pattern.compile(".*[A-Z].*");
+    private static final Pattern PASSWORD_HAS_DIGIT = Pattern.compile(".*\\d.*");
+    private static final Pattern PASSWORD_HAS_SPECIAL = Pattern.compile(".*[!@#$%^&*()_+\\[\\]{}|;:'\",.<>?/].*");
+
+    private static final List<String> SAMPLES = List.of(
+            "", "a", "ab", "abc", "a_1", "1abc", "abc_", "Ab-c", "alice", "ALICE_99",
+            "verylongusername_exceeding", "ab\ncd", "abc d", "é_ab", "Abcdefg1!",
+            "Abcdefg1", "abcdefg1!", "ABCDEFG1!", "Abcdefgh!", "Ab1!", "Ab1!\nxyzw",
+            "Pass word1=", "Pass-word1~", "P4sséword!", "Abcdefghijklmnopqrstuvwxyz12345!@"
+    );
+
+    @Test
+    void usernameRulesShouldMatchFormerRegularExpressions() {
+        for (String sample : SAMPLES) {
+            StringBuilder expected = new StringBuilder();
+            if (sample.length() < 3 || sample.length() > 20) {
+                expected.append("\n- Username must be 3-20 characters long.");
+            }
+            if (!USERNAME_FIRST_CHAR_IS_LETTER.matcher(sample).matches()) {
+                expected.append("\n- Username must start with letter.");
+            }
+            if (!USERNAME_LAST_CHAR_IS_LETTER_OR_DIGIT.matcher(sample).matches()) {
+                expected.append("\n- Username must end with letter or digit.");
+            }
+            if (!USERNAME_ALLOWED_CHARS.matcher(sample).matches()) {
+                expected.append("\n- Username must contain only letters, digits and underscores.");
+            }
+            assertThat(messageOf(() -> validator.validateUsername(sample)))
+                    .as("username %s", sample)
+                    .isEqualTo(expected.isEmpty() ? null : "Bad username." + expected);
+        }
+    }
+
+    @Test
+    void passwordRulesShouldMatchFormerRegularExpressions() {
+        for (String sample : SAMPLES) {
+            StringBuilder expected = new StringBuilder();
+            if (sample.length() < 8 || sample.length() > 32) {
+                expected.append("\n- Password must be 8-32 characters long.");
+            }
+            if (!PASSWORD_HAS_CHAR_IN_LOWERCASE.matcher(sample).matches()) {
+                expected.append("\n- Password must contain at least one lowercase letter.");
+            }
+            if (!PASSWORD_HAS_CHAR_IN_UPPERCASE.matcher(sample).matches()) {
+                expected.append("\n- Password must contain at least one uppercase letter.");
+            }
+            if (!PASSWORD_HAS_DIGIT.matcher(sample).matches()) {
+                expected.append("\n- Password must contain at least one digit.");
+            }
+            if (!PASSWORD_HAS_SPECIAL.matcher(sample).matches()) {
+                expected.append(
+                        "\n- Password must contain at least one special character (!@#$%^&*()_+[]{}|;:'\",.<>?/)."
+                );
+            }
+            assertThat(messageOf(() -> validator.validatePassword(sample)))
+                    .as("password %s", sample)
+                    .isEqualTo(expected.isEmpty() ? null : "Bad password." + expected);
+        }
+    }
+
+    private static String messageOf(Runnable validation) {
+        try {
+            validation.run();
+            return null;
+        } catch (BadUsernameException | BadPasswordException e) {
+            return e.getMessage();
+        }
+    }
+}